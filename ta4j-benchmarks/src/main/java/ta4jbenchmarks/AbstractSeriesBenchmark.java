@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks;
+
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of the benchmarks working on a {@link SyntheticSeries synthetic series}.
+ * <p>
+ * Indicators are cached: each benchmark method has to build its own indicators and walk them over the whole series.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractSeriesBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int seriesLength;
+
+    protected TimeSeries series;
+
+    @Setup
+    public void setUpSeries() {
+        series = SyntheticSeries.build(seriesLength);
+        setUp();
+    }
+
+    /**
+     * Prepares the benchmark once the series is built (does nothing by default).
+     */
+    protected void setUp() {
+    }
+
+    /**
+     * Walks an indicator over the whole series.
+     * @param indicator the indicator
+     * @return the sum of the values (to be returned by the benchmark method)
+     */
+    protected double walk(Indicator<? extends Number> indicator) {
+        DoubleIndicator doubleIndicator = DoubleIndicatorAdapter.of(indicator);
+        double sum = 0;
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            sum += doubleIndicator.getDouble(i);
+        }
+        return sum;
+    }
+
+    /**
+     * Evaluates an indicator over the whole series at once (see {@link DoubleIndicator#evaluate(int, int, double[])}).
+     * @param indicator the indicator
+     * @return the sum of the values (to be returned by the benchmark method)
+     */
+    protected double evaluate(Indicator<? extends Number> indicator) {
+        double[] values = new double[series.getEnd() - series.getBegin() + 1];
+        DoubleIndicatorAdapter.of(indicator).evaluate(series.getBegin(), series.getEnd(), values);
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Walks a boolean indicator over the whole series.
+     * @param indicator the indicator
+     * @return the number of true values (to be returned by the benchmark method)
+     */
+    protected int walkBooleans(Indicator<Boolean> indicator) {
+        int nbTrueValues = 0;
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            if (indicator.getValue(i)) {
+                nbTrueValues++;
+            }
+        }
+        return nbTrueValues;
+    }
+}
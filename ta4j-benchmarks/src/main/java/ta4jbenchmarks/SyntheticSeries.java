@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks;
+
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.joda.time.DateTime;
+
+/**
+ * Deterministic synthetic time series for benchmarks.
+ * <p>
+ * One-minute ticks following a seeded random walk, so that every run works on the same data without any file.
+ */
+public final class SyntheticSeries {
+
+    private static final long SEED = 42L;
+
+    private static final DateTime START_TIME = new DateTime(2014, 1, 1, 0, 0);
+
+    private SyntheticSeries() {
+    }
+
+    /**
+     * @param nbTicks the number of ticks
+     * @return a time series of nbTicks one-minute ticks
+     */
+    public static TimeSeries build(int nbTicks) {
+        Random random = new Random(SEED);
+        List<Tick> ticks = new ArrayList<Tick>(nbTicks);
+        double closePrice = 100;
+        for (int i = 0; i < nbTicks; i++) {
+            double openPrice = closePrice;
+            closePrice = Math.max(1, openPrice + random.nextGaussian());
+            double maxPrice = Math.max(openPrice, closePrice) + random.nextDouble();
+            double minPrice = Math.min(openPrice, closePrice) - random.nextDouble();
+            double volume = 1 + random.nextInt(1000);
+            ticks.add(new Tick(START_TIME.plusMinutes(i), openPrice, maxPrice, minPrice, closePrice, volume));
+        }
+        return new TimeSeries("synthetic", ticks);
+    }
+}
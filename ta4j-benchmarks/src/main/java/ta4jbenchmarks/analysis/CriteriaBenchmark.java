@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.analysis;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.analysis.criteria.AverageProfitCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.AverageProfitableTradesCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.BuyAndHoldCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.LinearTransactionCostCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.MaximumDrawdownCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.NumberOfTicksCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.NumberOfTradesCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.RewardRiskRatioCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.analysis.criteria.VersusBuyAndHoldCriterion;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+import ta4jbenchmarks.strategies.StrategiesBenchmark;
+
+/**
+ * Benchmarks of the {@link AnalysisCriterion analysis criteria}.
+ * <p>
+ * The criteria are calculated over the trades of a SMA crossover strategy, run once per trial.
+ */
+public class CriteriaBenchmark extends AbstractSeriesBenchmark {
+
+    private List<Trade> trades;
+
+    @Override
+    protected void setUp() {
+        trades = series.run(StrategiesBenchmark.buildSmaCrossoverStrategy(series, 5, 30));
+    }
+
+    @Benchmark
+    public double averageProfit() {
+        return new AverageProfitCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double averageProfitableTrades() {
+        return new AverageProfitableTradesCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double buyAndHold() {
+        return new BuyAndHoldCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double linearTransactionCost() {
+        return new LinearTransactionCostCriterion(1000, 0.005).calculate(series, trades);
+    }
+
+    @Benchmark
+    public double maximumDrawdown() {
+        return new MaximumDrawdownCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double numberOfTicks() {
+        return new NumberOfTicksCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double numberOfTrades() {
+        return new NumberOfTradesCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double rewardRiskRatio() {
+        return new RewardRiskRatioCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double totalProfit() {
+        return new TotalProfitCriterion().calculate(series, trades);
+    }
+
+    @Benchmark
+    public double versusBuyAndHold() {
+        return new VersusBuyAndHoldCriterion(new TotalProfitCriterion()).calculate(series, trades);
+    }
+
+    @Benchmark
+    public Strategy chooseBest() {
+        List<Strategy> strategies = new ArrayList<Strategy>();
+        for (int shortTimeFrame = 5; shortTimeFrame <= 20; shortTimeFrame += 5) {
+            strategies.add(StrategiesBenchmark.buildSmaCrossoverStrategy(series, shortTimeFrame, shortTimeFrame * 4));
+        }
+        return new TotalProfitCriterion().chooseBest(series, strategies).getStrategy();
+    }
+}
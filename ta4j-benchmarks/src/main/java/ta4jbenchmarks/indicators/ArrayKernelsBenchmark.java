@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.indicators;
+
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.indicators.helpers.TrueRangeIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MedianPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.PriceVariationIndicator;
+import eu.verdelhan.ta4j.indicators.simple.TypicalPriceIndicator;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+
+/**
+ * Benchmarks of the bulk evaluation of the element-wise indicators: index by index vs with the array kernels.
+ * <p>
+ * On a columnar series, the kernels read the prices straight from the columns (other series are evaluated index by index).
+ * With the ta4j-vector module on the class path (and <code>--add-modules jdk.incubator.vector</code>), the SIMD kernels are used.
+ */
+public class ArrayKernelsBenchmark extends AbstractSeriesBenchmark {
+
+    /** Storage of the series: "ticks" (list of ticks) or "columns" (columnar series) */
+    @Param({ "ticks", "columns" })
+    public String storage;
+
+    /** Values of the evaluations (allocated once, like the per-index walk which allocates nothing) */
+    private double[] values;
+
+    @Override
+    protected void setUp() {
+        if ("columns".equals(storage)) {
+            List<Tick> ticks = new ArrayList<Tick>(series.getSize());
+            for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+                ticks.add(series.getTick(i));
+            }
+            series = new ColumnarTimeSeries(ticks);
+        }
+        values = new double[series.getSize()];
+    }
+
+    @Benchmark
+    public double[] medianPrice() {
+        return walkInto(new MedianPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double[] medianPriceEvaluated() {
+        return evaluateInto(new MedianPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double[] priceVariation() {
+        return walkInto(new PriceVariationIndicator(series));
+    }
+
+    @Benchmark
+    public double[] priceVariationEvaluated() {
+        return evaluateInto(new PriceVariationIndicator(series));
+    }
+
+    @Benchmark
+    public double[] trueRange() {
+        return walkInto(new TrueRangeIndicator(series));
+    }
+
+    @Benchmark
+    public double[] trueRangeEvaluated() {
+        return evaluateInto(new TrueRangeIndicator(series));
+    }
+
+    @Benchmark
+    public double[] typicalPrice() {
+        return walkInto(new TypicalPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double[] typicalPriceEvaluated() {
+        return evaluateInto(new TypicalPriceIndicator(series));
+    }
+
+    /**
+     * Walks an indicator over the whole series, index by index (like the default bulk evaluation).
+     * @param indicator the indicator
+     * @return the values (to be returned by the benchmark method)
+     */
+    private double[] walkInto(DoubleIndicator indicator) {
+        int begin = series.getBegin();
+        for (int i = begin; i <= series.getEnd(); i++) {
+            values[i - begin] = indicator.getDouble(i);
+        }
+        return values;
+    }
+
+    /**
+     * Evaluates an indicator over the whole series at once, with the array kernels.
+     * @param indicator the indicator
+     * @return the values (to be returned by the benchmark method)
+     */
+    private double[] evaluateInto(DoubleIndicator indicator) {
+        indicator.evaluate(series.getBegin(), series.getEnd(), values);
+        return values;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.indicators;
+
+import eu.verdelhan.ta4j.indicators.helpers.AverageDirectionalMovementDownIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageDirectionalMovementUpIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageGainIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageTrueRangeIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.CrossIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DirectionalDownIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DirectionalMovementDownIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DirectionalMovementUpIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.DirectionalUpIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MeanDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.TrueRangeIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+
+/**
+ * Benchmarks of the helper indicators (eu.verdelhan.ta4j.indicators.helpers).
+ */
+public class HelperIndicatorsBenchmark extends AbstractSeriesBenchmark {
+
+    @Param({ "14", "200" })
+    public int timeFrame;
+
+    @Benchmark
+    public double averageDirectionalMovementDown() {
+        return walk(new AverageDirectionalMovementDownIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double averageDirectionalMovementUp() {
+        return walk(new AverageDirectionalMovementUpIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double averageGain() {
+        return walk(new AverageGainIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double averageLoss() {
+        return walk(new AverageLossIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double averageTrueRange() {
+        return walk(new AverageTrueRangeIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public int cross() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        return walkBooleans(new CrossIndicator(closePrice, new SMAIndicator(closePrice, timeFrame)));
+    }
+
+    @Benchmark
+    public double directionalDown() {
+        return walk(new DirectionalDownIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double directionalMovementDown() {
+        return walk(new DirectionalMovementDownIndicator(series));
+    }
+
+    @Benchmark
+    public double directionalMovementUp() {
+        return walk(new DirectionalMovementUpIndicator(series));
+    }
+
+    @Benchmark
+    public double directionalUp() {
+        return walk(new DirectionalUpIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double highestValue() {
+        return walk(new HighestValueIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double lowestValue() {
+        return walk(new LowestValueIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double meanDeviation() {
+        return walk(new MeanDeviationIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double standardDeviation() {
+        return walk(new StandardDeviationIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double trueRange() {
+        return walk(new TrueRangeIndicator(series));
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.indicators;
+
+import eu.verdelhan.ta4j.indicators.oscillators.AroonDownIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.AroonUpIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.AwesomeOscillatorIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.CCIIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.PPOIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorDIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MedianPriceIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+
+/**
+ * Benchmarks of the oscillator indicators (eu.verdelhan.ta4j.indicators.oscillators).
+ */
+public class OscillatorIndicatorsBenchmark extends AbstractSeriesBenchmark {
+
+    @Param({ "14", "200" })
+    public int timeFrame;
+
+    @Benchmark
+    public double aroonDown() {
+        return walk(new AroonDownIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double aroonUp() {
+        return walk(new AroonUpIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double awesomeOscillator() {
+        return walk(new AwesomeOscillatorIndicator(new MedianPriceIndicator(series)));
+    }
+
+    @Benchmark
+    public double cci() {
+        return walk(new CCIIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double ppo() {
+        return walk(new PPOIndicator(new ClosePriceIndicator(series), timeFrame / 2, timeFrame));
+    }
+
+    @Benchmark
+    public double stochasticOscillatorD() {
+        return walk(new StochasticOscillatorDIndicator(new StochasticOscillatorKIndicator(series, timeFrame)));
+    }
+
+    @Benchmark
+    public double stochasticOscillatorK() {
+        return walk(new StochasticOscillatorKIndicator(series, timeFrame));
+    }
+}
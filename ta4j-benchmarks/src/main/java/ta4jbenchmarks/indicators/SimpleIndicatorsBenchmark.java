@@ -0,0 +1,104 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.indicators;
+
+import eu.verdelhan.ta4j.indicators.simple.AmountIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MedianPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MinPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.OpenPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.PreviousPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.PriceVariationIndicator;
+import eu.verdelhan.ta4j.indicators.simple.SimpleMultiplierIndicator;
+import eu.verdelhan.ta4j.indicators.simple.TradeCountIndicator;
+import eu.verdelhan.ta4j.indicators.simple.TypicalPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.VolumeIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+
+/**
+ * Benchmarks of the simple indicators (eu.verdelhan.ta4j.indicators.simple).
+ */
+public class SimpleIndicatorsBenchmark extends AbstractSeriesBenchmark {
+
+    @Benchmark
+    public double amount() {
+        return walk(new AmountIndicator(series));
+    }
+
+    @Benchmark
+    public double closePrice() {
+        return walk(new ClosePriceIndicator(series));
+    }
+
+    @Benchmark
+    public double maxPrice() {
+        return walk(new MaxPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double medianPrice() {
+        return walk(new MedianPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double minPrice() {
+        return walk(new MinPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double openPrice() {
+        return walk(new OpenPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double previousPrice() {
+        return walk(new PreviousPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double priceVariation() {
+        return walk(new PriceVariationIndicator(series));
+    }
+
+    @Benchmark
+    public double simpleMultiplier() {
+        return walk(new SimpleMultiplierIndicator(new ClosePriceIndicator(series), 2));
+    }
+
+    @Benchmark
+    public double tradeCount() {
+        return walk(new TradeCountIndicator(series));
+    }
+
+    @Benchmark
+    public double typicalPrice() {
+        return walk(new TypicalPriceIndicator(series));
+    }
+
+    @Benchmark
+    public double volume() {
+        return walk(new VolumeIndicator(series));
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.indicators;
+
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.AccelerationDecelerationIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.AverageDirectionalMovementIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.DirectionalMovementIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.DoubleEMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.ParabolicSarIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.ROCIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.TripleEMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.WMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.WilliamsRIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+
+/**
+ * Benchmarks of the tracker indicators (eu.verdelhan.ta4j.indicators.trackers).
+ */
+public class TrackerIndicatorsBenchmark extends AbstractSeriesBenchmark {
+
+    @Param({ "14", "200" })
+    public int timeFrame;
+
+    @Benchmark
+    public double accelerationDeceleration() {
+        return walk(new AccelerationDecelerationIndicator(series));
+    }
+
+    @Benchmark
+    public double averageDirectionalMovement() {
+        return walk(new AverageDirectionalMovementIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double directionalMovement() {
+        return walk(new DirectionalMovementIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double doubleEMA() {
+        return walk(new DoubleEMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double ema() {
+        return walk(new EMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double emaEvaluated() {
+        return evaluate(new EMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double macd() {
+        return walk(new MACDIndicator(new ClosePriceIndicator(series), timeFrame / 2, timeFrame));
+    }
+
+    @Benchmark
+    public double parabolicSar() {
+        return walk(new ParabolicSarIndicator(series, timeFrame));
+    }
+
+    @Benchmark
+    public double roc() {
+        return walk(new ROCIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double rsi() {
+        return walk(new RSIIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double sma() {
+        return walk(new SMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double smaEvaluated() {
+        return evaluate(new SMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double tripleEMA() {
+        return walk(new TripleEMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double wma() {
+        return walk(new WMAIndicator(new ClosePriceIndicator(series), timeFrame));
+    }
+
+    @Benchmark
+    public double williamsR() {
+        return walk(new WilliamsRIndicator(series, timeFrame));
+    }
+}
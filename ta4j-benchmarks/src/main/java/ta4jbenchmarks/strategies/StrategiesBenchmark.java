@@ -0,0 +1,176 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jbenchmarks.strategies;
+
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.CCIIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MinPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.SimpleMultiplierIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.strategies.AlwaysOperateStrategy;
+import eu.verdelhan.ta4j.strategies.CombinedBuyAndSellStrategy;
+import eu.verdelhan.ta4j.strategies.IndicatorCrossedIndicatorStrategy;
+import eu.verdelhan.ta4j.strategies.IndicatorOverIndicatorStrategy;
+import eu.verdelhan.ta4j.strategies.ResistanceStrategy;
+import eu.verdelhan.ta4j.strategies.StopGainStrategy;
+import eu.verdelhan.ta4j.strategies.StopLossStrategy;
+import eu.verdelhan.ta4j.strategies.SupportStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import ta4jbenchmarks.AbstractSeriesBenchmark;
+
+/**
+ * Benchmarks of {@link TimeSeries#run(Strategy)} with strategies built like the ones of the examples.
+ * <p>
+ * Strategies (and their indicators) are built in each benchmark method, since indicators are cached.
+ */
+public class StrategiesBenchmark extends AbstractSeriesBenchmark {
+
+    @Benchmark
+    public int smaCrossover() {
+        return series.run(buildSmaCrossoverStrategy(series, 5, 30)).size();
+    }
+
+    @Benchmark
+    public int smaCrossoverWithStops() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        Strategy crossover = buildSmaCrossoverStrategy(series, 5, 30);
+        Strategy strategy = new StopGainStrategy(closePrice, new StopLossStrategy(closePrice, crossover, 3), 5);
+        return series.run(strategy).size();
+    }
+
+    @Benchmark
+    public int cciCorrection() {
+        CCIIndicator longCci = new CCIIndicator(series, 200);
+        CCIIndicator shortCci = new CCIIndicator(series, 5);
+        ConstantIndicator<Double> plus100 = new ConstantIndicator<Double>(100d);
+        ConstantIndicator<Double> minus100 = new ConstantIndicator<Double>(-100d);
+        Strategy trend = new CombinedBuyAndSellStrategy(new IndicatorOverIndicatorStrategy(longCci, plus100),
+                new IndicatorOverIndicatorStrategy(longCci, minus100));
+        Strategy signals = new CombinedBuyAndSellStrategy(new IndicatorOverIndicatorStrategy(minus100, shortCci),
+                new IndicatorOverIndicatorStrategy(plus100, shortCci));
+        return series.run(trend.and(signals)).size();
+    }
+
+    @Benchmark
+    public int globalExtrema() {
+        // One week of 5-minute ticks
+        int timeFrame = 12 * 24 * 7;
+        ClosePriceIndicator closePrices = new ClosePriceIndicator(series);
+        HighestValueIndicator weekMaxPrice = new HighestValueIndicator(new MaxPriceIndicator(series), timeFrame);
+        LowestValueIndicator weekMinPrice = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
+        IndicatorOverIndicatorStrategy buySignal = new IndicatorOverIndicatorStrategy(new SimpleMultiplierIndicator(weekMinPrice, 1.004), closePrices);
+        IndicatorOverIndicatorStrategy sellSignal = new IndicatorOverIndicatorStrategy(closePrices, new SimpleMultiplierIndicator(weekMaxPrice, 0.996));
+        return series.run(new CombinedBuyAndSellStrategy(buySignal, sellSignal)).size();
+    }
+
+    @Benchmark
+    public int movingMomentum() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        IndicatorOverIndicatorStrategy shortEmaAboveLongEma = new IndicatorOverIndicatorStrategy(
+                new EMAIndicator(closePrice, 9), new EMAIndicator(closePrice, 26));
+        StochasticOscillatorKIndicator stochasticOscillK = new StochasticOscillatorKIndicator(series, 14);
+        SupportStrategy support20 = new SupportStrategy(stochasticOscillK, new AlwaysOperateStrategy().opposite(), 20);
+        ResistanceStrategy resist80 = new ResistanceStrategy(stochasticOscillK, new AlwaysOperateStrategy().opposite(), 80);
+        MACDIndicator macd = new MACDIndicator(closePrice, 9, 26);
+        IndicatorOverIndicatorStrategy macdAboveSignalLine = new IndicatorOverIndicatorStrategy(macd, new EMAIndicator(macd, 18));
+        Strategy strategy = shortEmaAboveLongEma
+                .and(new CombinedBuyAndSellStrategy(support20, resist80))
+                .and(macdAboveSignalLine);
+        return series.run(strategy).size();
+    }
+
+    @Benchmark
+    public int rsi2() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 5);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 200);
+        IndicatorOverIndicatorStrategy priceBelowSma = new IndicatorOverIndicatorStrategy(shortSma, closePrice);
+        IndicatorOverIndicatorStrategy shortSmaAboveLongSma = new IndicatorOverIndicatorStrategy(shortSma, longSma);
+        RSIIndicator rsi = new RSIIndicator(closePrice, 2);
+        Strategy signals = new CombinedBuyAndSellStrategy(new SupportStrategy(rsi, priceBelowSma, 5),
+                new ResistanceStrategy(rsi, priceBelowSma, 95));
+        return series.run(shortSmaAboveLongSma.and(signals)).size();
+    }
+
+    @Benchmark
+    public int smaCrossoversSeparately() {
+        int tradeCount = 0;
+        for (Strategy strategy : buildSmaCrossoverStrategies(series)) {
+            tradeCount += series.run(strategy).size();
+        }
+        return tradeCount;
+    }
+
+    @Benchmark
+    public int smaCrossoversInOneLoop() {
+        int tradeCount = 0;
+        for (List<Trade> trades : series.run(buildSmaCrossoverStrategies(series))) {
+            tradeCount += trades.size();
+        }
+        return tradeCount;
+    }
+
+    /**
+     * @param series the time series
+     * @return SMA crossover strategies sharing the same close price and SMA indicators
+     */
+    private static List<Strategy> buildSmaCrossoverStrategies(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<SMAIndicator> smas = new ArrayList<SMAIndicator>();
+        for (int timeFrame = 5; timeFrame <= 50; timeFrame += 5) {
+            smas.add(new SMAIndicator(closePrice, timeFrame));
+        }
+        List<Strategy> strategies = new ArrayList<Strategy>();
+        for (int i = 0; i < smas.size(); i++) {
+            for (int j = i + 1; j < smas.size(); j++) {
+                strategies.add(new IndicatorCrossedIndicatorStrategy(smas.get(i), smas.get(j)));
+            }
+        }
+        return strategies;
+    }
+
+    /**
+     * @param series the time series
+     * @param shortTimeFrame the time frame of the short SMA
+     * @param longTimeFrame the time frame of the long SMA
+     * @return a strategy entering when the short SMA crosses over the long SMA, and exiting when it crosses under
+     */
+    public static Strategy buildSmaCrossoverStrategy(TimeSeries series, int shortTimeFrame, int longTimeFrame) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        return new IndicatorCrossedIndicatorStrategy(new SMAIndicator(closePrice, shortTimeFrame),
+                new SMAIndicator(closePrice, longTimeFrame));
+    }
+}
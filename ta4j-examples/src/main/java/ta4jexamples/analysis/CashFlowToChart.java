@@ -28,6 +28,7 @@ import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.CashFlow;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -61,9 +62,11 @@ public class CashFlowToChart {
      */
     private static org.jfree.data.time.TimeSeries buildChartTimeSeries(TimeSeries tickSeries, Indicator<Double> indicator, String name) {
         org.jfree.data.time.TimeSeries chartTimeSeries = new org.jfree.data.time.TimeSeries(name);
-        for (int i = 0; i < tickSeries.getSize(); i++) {
+        double[] values = new double[tickSeries.getSize()];
+        DoubleIndicatorAdapter.of(indicator).evaluate(0, values.length - 1, values);
+        for (int i = 0; i < values.length; i++) {
             Tick tick = tickSeries.getTick(i);
-            chartTimeSeries.add(new Minute(tick.getEndTime().toDate()), indicator.getValue(i));
+            chartTimeSeries.add(new Minute(tick.getEndTime().toDate()), values[i]);
         }
         return chartTimeSeries;
     }
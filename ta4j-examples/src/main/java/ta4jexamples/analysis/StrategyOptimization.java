@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.analysis;
+
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.analysis.optimization.IndicatorCache;
+import eu.verdelhan.ta4j.analysis.optimization.OptimizationResult;
+import eu.verdelhan.ta4j.analysis.optimization.StrategyFactory;
+import eu.verdelhan.ta4j.analysis.optimization.StrategyOptimizer;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.strategies.IndicatorCrossedIndicatorStrategy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import ta4jexamples.loaders.CsvTradesLoader;
+
+/**
+ * This class optimizes the time frames of an EMA crossover strategy, using all the cores of the machine.
+ */
+public class StrategyOptimization {
+
+    /**
+     * Factory of EMA crossover strategies (parameters: short time frame, long time frame).
+     */
+    private static final StrategyFactory EMA_CROSSOVER = new StrategyFactory() {
+        @Override
+        public Strategy buildStrategy(TimeSeries series, int[] parameters, IndicatorCache cache) {
+            ClosePriceIndicator closePrice = cache.get("closePrice");
+            if (closePrice == null) {
+                closePrice = cache.put(new ClosePriceIndicator(series), "closePrice");
+            }
+            return new IndicatorCrossedIndicatorStrategy(ema(cache, closePrice, parameters[0]),
+                    ema(cache, closePrice, parameters[1]));
+        }
+
+        private EMAIndicator ema(IndicatorCache cache, ClosePriceIndicator closePrice, int timeFrame) {
+            EMAIndicator ema = cache.get("ema", timeFrame);
+            if (ema == null) {
+                ema = cache.put(new EMAIndicator(closePrice, timeFrame), "ema", timeFrame);
+            }
+            return ema;
+        }
+    };
+
+    public static void main(String[] args) {
+
+        // Getting the time series
+        TimeSeries series = CsvTradesLoader.loadBitstampSeries();
+
+        // Evaluating the short time frames from 2 to 30, and the long ones from 20 to 200
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, EMA_CROSSOVER,
+                StrategyOptimizer.range(2, 30, 1), StrategyOptimizer.range(20, 200, 10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<OptimizationResult> results;
+        try {
+            results = optimizer.optimize(new TotalProfitCriterion(), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Best time frames
+        for (OptimizationResult result : results.subList(0, Math.min(10, results.size()))) {
+            System.out.println(result);
+        }
+    }
+}
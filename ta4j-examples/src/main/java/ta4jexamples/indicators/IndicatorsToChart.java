@@ -25,6 +25,7 @@ package ta4jexamples.indicators;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.bollingerbands.BollingerBandsLowerIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.bollingerbands.BollingerBandsMiddleIndicator;
@@ -55,9 +56,11 @@ public class IndicatorsToChart {
      */
     private static org.jfree.data.time.TimeSeries buildChartTimeSeries(TimeSeries tickSeries, Indicator<Double> indicator, String name) {
         org.jfree.data.time.TimeSeries chartTimeSeries = new org.jfree.data.time.TimeSeries(name);
-        for (int i = 0; i < tickSeries.getSize(); i++) {
+        double[] values = new double[tickSeries.getSize()];
+        DoubleIndicatorAdapter.of(indicator).evaluate(0, values.length - 1, values);
+        for (int i = 0; i < values.length; i++) {
             Tick tick = tickSeries.getTick(i);
-            chartTimeSeries.add(new Day(tick.getEndTime().toDate()), indicator.getValue(i));
+            chartTimeSeries.add(new Day(tick.getEndTime().toDate()), values[i]);
         }
         return chartTimeSeries;
     }
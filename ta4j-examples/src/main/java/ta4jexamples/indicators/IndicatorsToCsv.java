@@ -22,6 +22,7 @@
  */
 package ta4jexamples.indicators;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.helpers.AverageTrueRangeIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
@@ -90,21 +91,19 @@ public class IndicatorsToCsv {
          * Adding indicators values
          */
         final int nbTicks = series.getSize();
+        DoubleIndicator[] indicators = { closePrice, typicalPrice, priceVariation, shortSma, longSma, shortEma, longEma,
+            ppo, roc, rsi, williamsR, atr, sd };
+        // Evaluating each indicator over the whole series at once
+        double[][] values = new double[indicators.length][nbTicks];
+        for (int j = 0; j < indicators.length; j++) {
+            indicators[j].evaluate(0, nbTicks - 1, values[j]);
+        }
         for (int i = 0; i < nbTicks; i++) {
-            sb.append(series.getTick(i).getEndTime().getMillis() / 1000d).append(',')
-            .append(closePrice.getValue(i)).append(',')
-            .append(typicalPrice.getValue(i)).append(',')
-            .append(priceVariation.getValue(i)).append(',')
-            .append(shortSma.getValue(i)).append(',')
-            .append(longSma.getValue(i)).append(',')
-            .append(shortEma.getValue(i)).append(',')
-            .append(longEma.getValue(i)).append(',')
-            .append(ppo.getValue(i)).append(',')
-            .append(roc.getValue(i)).append(',')
-            .append(rsi.getValue(i)).append(',')
-            .append(williamsR.getValue(i)).append(',')
-            .append(atr.getValue(i)).append(',')
-            .append(sd.getValue(i)).append('\n');
+            sb.append(series.getTick(i).getEndTime().getMillis() / 1000d);
+            for (int j = 0; j < indicators.length; j++) {
+                sb.append(',').append(values[j][i]);
+            }
+            sb.append('\n');
         }
 
         /**
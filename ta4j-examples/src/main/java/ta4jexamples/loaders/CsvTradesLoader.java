@@ -23,19 +23,15 @@
 package ta4jexamples.loaders;
 
 import au.com.bytecode.opencsv.CSVReader;
-import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import org.joda.time.DateTime;
-import org.joda.time.Instant;
 
 /**
  * This class build a Ta4j time series from a CSV file containing trades.
@@ -47,14 +43,14 @@ public class CsvTradesLoader {
      */
     public static TimeSeries loadBitstampSeries() {
 
-        // Reading all lines of the CSV file
         InputStream stream = CsvTradesLoader.class.getClassLoader().getResourceAsStream("bitstamp_trades_from_20131125_usd.csv");
         CSVReader csvReader = null;
-        List<String[]> lines = null;
+        List<Tick> ticks = null;
         try {
-            csvReader = new CSVReader(new InputStreamReader(stream, Charset.forName("UTF-8")), ',');
-            lines = csvReader.readAll();
-            lines.remove(0); // Removing header line
+            // Skipping the header line
+            csvReader = new CSVReader(new InputStreamReader(stream, Charset.forName("UTF-8")), ',', '"', 1);
+            // Aggregating the trades in ticks (every 300 seconds, yeah welcome in Bitcoin world)
+            ticks = aggregateTrades(csvReader, 300);
         } catch (IOException ioe) {
             Logger.getLogger(CsvTradesLoader.class.getName()).log(Level.SEVERE, "Unable to load trades from CSV", ioe);
         } finally {
@@ -66,70 +62,26 @@ public class CsvTradesLoader {
             }
         }
 
-        List<Tick> ticks = null;
-        if ((lines != null) && !lines.isEmpty()) {
-
-            // Getting the first and last trades timestamps
-            DateTime beginTime = new DateTime(Long.parseLong(lines.get(0)[0]) * 1000);
-            DateTime endTime = new DateTime(Long.parseLong(lines.get(lines.size() - 1)[0]) * 1000);
-            if (beginTime.isAfter(endTime)) {
-                Instant beginInstant = beginTime.toInstant();
-                Instant endInstant = endTime.toInstant();
-                beginTime = new DateTime(endInstant);
-                endTime = new DateTime(beginInstant);
-            }
-            // Building the empty ticks (every 300 seconds, yeah welcome in Bitcoin world)
-            ticks = buildEmptyTicks(beginTime, endTime, 300);
-            // Filling the ticks with trades
-            for (String[] tradeLine : lines) {
-                DateTime tradeTimestamp = new DateTime(Long.parseLong(tradeLine[0]) * 1000);
-                for (Tick tick : ticks) {
-                    if (tick.inPeriod(tradeTimestamp)) {
-                        double tradePrice = Double.parseDouble(tradeLine[1]);
-                        double tradeAmount = Double.parseDouble(tradeLine[2]);
-                        tick.addTrade(tradeAmount, tradePrice);
-                    }
-                }
-            }
-            // Removing still empty ticks
-            removeEmptyTicks(ticks);
-        }
-
         return new TimeSeries("bitstamp_trades", ticks);
     }
 
     /**
-     * Builds a list of empty ticks.
-     * @param beginTime the begin time of the whole period
-     * @param endTime the end time of the whole period
+     * Aggregates trades into ticks.
+     * @param csvReader a reader of trade lines (timestamp in seconds, price, amount)
      * @param duration the tick duration (in seconds)
-     * @return the list of empty ticks
+     * @return the list of ticks, sorted by time
+     * @throws IOException if the trades cannot be read
      */
-    private static List<Tick> buildEmptyTicks(DateTime beginTime, DateTime endTime, int duration) {
-
-        List<Tick> emptyTicks = new ArrayList<Tick>();
-
-        DateTime tickBeginTime = beginTime;
-        DateTime tickEndTime;
-        do {
-            tickEndTime = tickBeginTime.plusSeconds(duration);
-            emptyTicks.add(new Tick(tickBeginTime, tickEndTime));
-            tickBeginTime = tickEndTime;
-        } while (tickEndTime.isBefore(endTime));
-
-        return emptyTicks;
-    }
-
-    /**
-     * Removes all empty (i.e. with no trade) ticks of the list.
-     * @param ticks a list of ticks
-     */
-    private static void removeEmptyTicks(List<Tick> ticks) {
-        for (int i = ticks.size() - 1; i >= 0; i--) {
-            if (ticks.get(i).getTrades() == 0) {
-                ticks.remove(i);
-            }
+    private static List<Tick> aggregateTrades(CSVReader csvReader, int duration) throws IOException {
+        TradesAggregator aggregator = new TradesAggregator(duration);
+        String[] tradeLine;
+        while ((tradeLine = csvReader.readNext()) != null) {
+            long timestamp = Long.parseLong(tradeLine[0]);
+            double tradePrice = Double.parseDouble(tradeLine[1]);
+            double tradeAmount = Double.parseDouble(tradeLine[2]);
+            aggregator.addTrade(timestamp, tradePrice, tradeAmount);
         }
+        return aggregator.getTicks();
     }
 
     public static void main(String args[]) {
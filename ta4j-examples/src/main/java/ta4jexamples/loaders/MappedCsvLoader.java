@@ -0,0 +1,569 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.loaders;
+
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.joda.time.Chronology;
+import org.joda.time.chrono.ISOChronology;
+
+/**
+ * This class build Ta4j time series from big CSV files, without any object per line.
+ * <p>
+ * The files are memory-mapped by chunks of lines, and the numbers and dates are parsed directly from the bytes.
+ * The tick files may be parsed in parallel (one task per chunk).
+ * <p>
+ * Files must be in ASCII, comma-separated, without quotes, and start with a header line.
+ */
+public class MappedCsvLoader {
+
+    /** Approximate size of the chunks parsed independently (in bytes) */
+    private static final int CHUNK_SIZE = 32 * 1024 * 1024;
+
+    /** Size of the buffer used to find the line boundaries */
+    private static final int BOUNDARY_BUFFER_SIZE = 8 * 1024;
+
+    /** Powers of ten which are exactly represented as doubles */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** Maximum number of digits of a number parsed without Double.parseDouble (mantissa lower than 2^53) */
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /** Chronology of the dates (default time zone) */
+    private static final Chronology CHRONOLOGY = ISOChronology.getInstance();
+
+    /**
+     * Loads a series from a tick file, in the calling thread.
+     * @param name the name of the series
+     * @param file a CSV file of ticks (date as yyyy-MM-dd, open, high, low, close, volume)
+     * @return the time series
+     * @throws IOException if the file cannot be read
+     */
+    public static ColumnarTimeSeries loadTicks(String name, File file) throws IOException {
+        return loadTicks(name, file, null);
+    }
+
+    /**
+     * Loads a series from a tick file.
+     * @param name the name of the series
+     * @param file a CSV file of ticks (date as yyyy-MM-dd, open, high, low, close, volume)
+     * @param executor the executor the chunks of the file are parsed with (null to parse them in the calling thread)
+     * @return the time series
+     * @throws IOException if the file cannot be read
+     */
+    public static ColumnarTimeSeries loadTicks(String name, File file, ExecutorService executor) throws IOException {
+        return loadTicks(name, file, executor, CHUNK_SIZE);
+    }
+
+    /**
+     * Loads a series from a tick file.
+     * @param name the name of the series
+     * @param file a CSV file of ticks (date as yyyy-MM-dd, open, high, low, close, volume)
+     * @param executor the executor the chunks of the file are parsed with (null to parse them in the calling thread)
+     * @param chunkSize the approximate size of the chunks parsed independently (in bytes)
+     * @return the time series
+     * @throws IOException if the file cannot be read
+     */
+    static ColumnarTimeSeries loadTicks(String name, File file, ExecutorService executor, int chunkSize) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            final FileChannel channel = randomAccessFile.getChannel();
+            List<long[]> chunks = splitOnLines(channel, chunkSize);
+
+            List<TickColumns> columns = new ArrayList<TickColumns>(chunks.size());
+            if (executor == null) {
+                for (long[] chunk : chunks) {
+                    columns.add(parseTicks(channel, chunk[0], chunk[1]));
+                }
+            } else {
+                List<Future<TickColumns>> futures = new ArrayList<Future<TickColumns>>(chunks.size());
+                for (final long[] chunk : chunks) {
+                    futures.add(executor.submit(new Callable<TickColumns>() {
+                        @Override
+                        public TickColumns call() throws IOException {
+                            return parseTicks(channel, chunk[0], chunk[1]);
+                        }
+                    }));
+                }
+                for (Future<TickColumns> future : futures) {
+                    columns.add(getResult(future));
+                }
+            }
+            return merge(name, columns);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Loads a series from a trade file.
+     * <p>
+     * The trades are aggregated in the order of the file, so the chunks are parsed in the calling thread.
+     * @param name the name of the series
+     * @param file a CSV file of trades (timestamp in seconds, price, amount)
+     * @param duration the tick duration (in seconds)
+     * @return the time series
+     * @throws IOException if the file cannot be read
+     */
+    public static TimeSeries loadTrades(String name, File file, int duration) throws IOException {
+        return loadTrades(name, file, duration, CHUNK_SIZE);
+    }
+
+    /**
+     * Loads a series from a trade file.
+     * @param name the name of the series
+     * @param file a CSV file of trades (timestamp in seconds, price, amount)
+     * @param duration the tick duration (in seconds)
+     * @param chunkSize the approximate size of the chunks mapped one after the other (in bytes)
+     * @return the time series
+     * @throws IOException if the file cannot be read
+     */
+    static TimeSeries loadTrades(String name, File file, int duration, int chunkSize) throws IOException {
+        TradesAggregator aggregator = new TradesAggregator(duration);
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            for (long[] chunk : splitOnLines(channel, chunkSize)) {
+                LineParser parser = new LineParser(channel, chunk[0], chunk[1]);
+                while (parser.nextLine()) {
+                    long timestamp = parser.parseLong();
+                    double tradePrice = parser.parseDouble();
+                    double tradeAmount = parser.parseDouble();
+                    aggregator.addTrade(timestamp, tradePrice, tradeAmount);
+                }
+            }
+        } finally {
+            randomAccessFile.close();
+        }
+        return new TimeSeries(name, aggregator.getTicks());
+    }
+
+    /**
+     * Splits a file into chunks of whole lines.
+     * @param channel the channel of the file
+     * @param chunkSize the approximate size of the chunks (in bytes)
+     * @return the list of chunks, as {begin position (inclusive), end position (exclusive)}
+     * @throws IOException if the file cannot be read
+     */
+    private static List<long[]> splitOnLines(FileChannel channel, int chunkSize) throws IOException {
+        List<long[]> chunks = new ArrayList<long[]>();
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        long size = channel.size();
+        long begin = 0;
+        while (begin < size) {
+            long end = Math.min(begin + chunkSize, size);
+            // Moving the end after the next line feed
+            boolean lineFeedFound = false;
+            while (!lineFeedFound && end < size) {
+                buffer.clear();
+                int read = channel.read(buffer, end);
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        end += i + 1;
+                        lineFeedFound = true;
+                        break;
+                    }
+                }
+                if (!lineFeedFound) {
+                    end += read;
+                }
+            }
+            chunks.add(new long[] { begin, end });
+            begin = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Parses a chunk of a tick file.
+     * @param channel the channel of the file
+     * @param begin the begin position (inclusive) of the chunk
+     * @param end the end position (exclusive) of the chunk
+     * @return the columns of the ticks of the chunk
+     * @throws IOException if the file cannot be read
+     */
+    private static TickColumns parseTicks(FileChannel channel, long begin, long end) throws IOException {
+        LineParser parser = new LineParser(channel, begin, end);
+        TickColumns columns = new TickColumns((int) ((end - begin) / 32) + 1);
+        while (parser.nextLine()) {
+            columns.add(parser.parseDate(), parser.parseDouble(), parser.parseDouble(), parser.parseDouble(),
+                    parser.parseDouble(), parser.parseDouble());
+        }
+        return columns;
+    }
+
+    /**
+     * Merges the columns of the chunks into a series.
+     * @param name the name of the series
+     * @param chunks the columns of the chunks, in the order of the file
+     * @return the time series
+     */
+    private static ColumnarTimeSeries merge(String name, List<TickColumns> chunks) {
+        int size = 0;
+        for (TickColumns chunk : chunks) {
+            size += chunk.size;
+        }
+        long[] endTimes = new long[size];
+        double[] openPrices = new double[size];
+        double[] maxPrices = new double[size];
+        double[] minPrices = new double[size];
+        double[] closePrices = new double[size];
+        double[] volumes = new double[size];
+        int offset = 0;
+        for (TickColumns chunk : chunks) {
+            System.arraycopy(chunk.endTimes, 0, endTimes, offset, chunk.size);
+            System.arraycopy(chunk.openPrices, 0, openPrices, offset, chunk.size);
+            System.arraycopy(chunk.maxPrices, 0, maxPrices, offset, chunk.size);
+            System.arraycopy(chunk.minPrices, 0, minPrices, offset, chunk.size);
+            System.arraycopy(chunk.closePrices, 0, closePrices, offset, chunk.size);
+            System.arraycopy(chunk.volumes, 0, volumes, offset, chunk.size);
+            offset += chunk.size;
+        }
+        return new ColumnarTimeSeries(name, endTimes, openPrices, maxPrices, minPrices, closePrices, volumes,
+                new double[size], new int[size]);
+    }
+
+    /**
+     * @param future the future of a chunk parsing
+     * @return the result of the parsing
+     * @throws IOException if the chunk cannot be read
+     */
+    private static TickColumns getResult(Future<TickColumns> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing the file");
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Columns of the ticks of a chunk.
+     */
+    private static class TickColumns {
+
+        private int size;
+
+        private long[] endTimes;
+
+        private double[] openPrices;
+
+        private double[] maxPrices;
+
+        private double[] minPrices;
+
+        private double[] closePrices;
+
+        private double[] volumes;
+
+        /**
+         * Constructor.
+         * @param capacity the initial capacity of the columns
+         */
+        TickColumns(int capacity) {
+            endTimes = new long[capacity];
+            openPrices = new double[capacity];
+            maxPrices = new double[capacity];
+            minPrices = new double[capacity];
+            closePrices = new double[capacity];
+            volumes = new double[capacity];
+        }
+
+        void add(long endTime, double openPrice, double maxPrice, double minPrice, double closePrice, double volume) {
+            if (size == endTimes.length) {
+                int capacity = size + (size >> 1) + 1;
+                endTimes = Arrays.copyOf(endTimes, capacity);
+                openPrices = Arrays.copyOf(openPrices, capacity);
+                maxPrices = Arrays.copyOf(maxPrices, capacity);
+                minPrices = Arrays.copyOf(minPrices, capacity);
+                closePrices = Arrays.copyOf(closePrices, capacity);
+                volumes = Arrays.copyOf(volumes, capacity);
+            }
+            endTimes[size] = endTime;
+            openPrices[size] = openPrice;
+            maxPrices[size] = maxPrice;
+            minPrices[size] = minPrice;
+            closePrices[size] = closePrice;
+            volumes[size] = volume;
+            size++;
+        }
+    }
+
+    /**
+     * Parser of the lines of a memory-mapped chunk.
+     * <p>
+     * The fields of a line are parsed in order, each parse method consuming its field and the following separator.
+     */
+    private static class LineParser {
+
+        private final MappedByteBuffer buffer;
+
+        private final int limit;
+
+        private int position;
+
+        /** True if the next line is the header of the file */
+        private boolean header;
+
+        /**
+         * Constructor.
+         * @param channel the channel of the file
+         * @param begin the begin position (inclusive) of the chunk
+         * @param end the end position (exclusive) of the chunk
+         * @throws IOException if the chunk cannot be mapped
+         */
+        LineParser(FileChannel channel, long begin, long end) throws IOException {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, begin, end - begin);
+            limit = (int) (end - begin);
+            header = (begin == 0);
+        }
+
+        /**
+         * Moves to the beginning of the next non-empty line (skipping the header).
+         * @return true if there is a line to parse, false at the end of the chunk
+         */
+        boolean nextLine() {
+            if (header) {
+                skipLine();
+                header = false;
+            }
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == '\n' || b == '\r') {
+                    position++;
+                } else if (position > 0 && buffer.get(position - 1) != '\n') {
+                    // Rest of the previous line
+                    skipLine();
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the long value of the current field
+         */
+        long parseLong() {
+            int start = position;
+            boolean negative = (position < limit) && (buffer.get(position) == '-');
+            if (negative) {
+                position++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                value = value * 10 + (b - '0');
+                digits++;
+                position++;
+            }
+            if (digits == 0 || digits > 18 || !endOfField()) {
+                return Long.parseLong(fallback(start));
+            }
+            skipSeparator();
+            return negative ? -value : value;
+        }
+
+        /**
+         * @return the double value of the current field
+         */
+        double parseDouble() {
+            int start = position;
+            boolean negative = false;
+            if (position < limit) {
+                byte b = buffer.get(position);
+                if (b == '-' || b == '+') {
+                    negative = (b == '-');
+                    position++;
+                }
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = 0;
+            boolean fraction = false;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b >= '0' && b <= '9') {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (fraction) {
+                        fractionDigits++;
+                    }
+                } else if (b == '.' && !fraction) {
+                    fraction = true;
+                } else {
+                    break;
+                }
+                position++;
+            }
+            if (digits == 0 || digits > MAX_FAST_DIGITS || !endOfField()) {
+                // Exponent, too many digits or malformed number
+                return Double.parseDouble(fallback(start));
+            }
+            skipSeparator();
+            // Both operands are exact, so the division is correctly rounded
+            double value = mantissa / POWERS_OF_TEN[fractionDigits];
+            return negative ? -value : value;
+        }
+
+        /**
+         * @return the milliseconds of the date (yyyy-MM-dd, midnight in the default time zone) of the current field
+         */
+        long parseDate() {
+            int start = position;
+            int year = parseDatePart('-');
+            int month = parseDatePart('-');
+            int day = parseDatePart(',');
+            if (year < 0 || month < 0 || day < 0) {
+                throw new IllegalArgumentException("Invalid date: " + fallback(start));
+            }
+            return CHRONOLOGY.getDateTimeMillis(year, month, day, 0);
+        }
+
+        /**
+         * @param separator the separator after the date part
+         * @return the value of the date part, or -1 if malformed
+         */
+        private int parseDatePart(char separator) {
+            int value = 0;
+            int digits = 0;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                value = value * 10 + (b - '0');
+                digits++;
+                position++;
+            }
+            if (digits == 0) {
+                return -1;
+            }
+            if (position < limit && buffer.get(position) == separator) {
+                position++;
+            } else if (!endOfField()) {
+                return -1;
+            }
+            return value;
+        }
+
+        /**
+         * @return true if the position is at the end of a field
+         */
+        private boolean endOfField() {
+            if (position >= limit) {
+                return true;
+            }
+            byte b = buffer.get(position);
+            return b == ',' || b == '\n' || b == '\r';
+        }
+
+        /**
+         * Skips the separator after a field (but not the end of line).
+         */
+        private void skipSeparator() {
+            if (position < limit && buffer.get(position) == ',') {
+                position++;
+            }
+        }
+
+        /**
+         * Skips the rest of the line (line feed included).
+         */
+        private void skipLine() {
+            while (position < limit && buffer.get(position) != '\n') {
+                position++;
+            }
+            if (position < limit) {
+                position++;
+            }
+        }
+
+        /**
+         * Consumes the current field as a string (for the numbers which are not handled by the fast path).
+         * @param start the start position of the field
+         * @return the content of the field
+         */
+        private String fallback(int start) {
+            position = start;
+            StringBuilder field = new StringBuilder();
+            while (!endOfField()) {
+                field.append((char) buffer.get(position));
+                position++;
+            }
+            skipSeparator();
+            return field.toString();
+        }
+    }
+
+    public static void main(String args[]) throws IOException, URISyntaxException {
+        File file = new File(MappedCsvLoader.class.getClassLoader().getResource("appleinc_ticks_from_20130101_usd.csv").toURI());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        TimeSeries series;
+        try {
+            series = MappedCsvLoader.loadTicks("apple_ticks", file, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        System.out.println("Series: " + series.getName() + " (" + series.getPeriodName() + ")");
+        System.out.println("Number of ticks: " + series.getSize());
+        System.out.println("First tick: \n"
+                + "\tVolume: " + series.getVolume(0) + "\n"
+                + "\tOpen price: " + series.getOpenPrice(0) + "\n"
+                + "\tClose price: " + series.getClosePrice(0));
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.loaders;
+
+import eu.verdelhan.ta4j.Tick;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import org.joda.time.DateTime;
+
+/**
+ * Aggregator of trades into ticks.
+ * <p>
+ * The trades are added one by one, so only the ticks are kept in memory.
+ * The index of the tick of a trade is computed from its timestamp: the first tick begins at the first trade
+ * and each tick lasts the provided duration. Ticks with no trade are not built.
+ */
+class TradesAggregator {
+
+    /** Ticks by tick index */
+    private final TreeMap<Long, Tick> ticks = new TreeMap<Long, Tick>();
+
+    /** Tick duration (in seconds) */
+    private final int duration;
+
+    /** Timestamp of the first trade (in seconds) */
+    private long firstTimestamp;
+
+    /** Index of the current tick */
+    private long currentTickIndex;
+
+    /** Tick of the last trade */
+    private Tick currentTick;
+
+    /**
+     * Constructor.
+     * @param duration the tick duration (in seconds)
+     */
+    TradesAggregator(int duration) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be strictly positive");
+        }
+        this.duration = duration;
+    }
+
+    /**
+     * Adds a trade to its tick.
+     * @param timestamp the timestamp of the trade (in seconds)
+     * @param tradePrice the price
+     * @param tradeAmount the tradable amount
+     */
+    void addTrade(long timestamp, double tradePrice, double tradeAmount) {
+        if (currentTick == null) {
+            firstTimestamp = timestamp;
+        }
+        long tickIndex = floorDiv(timestamp - firstTimestamp, duration);
+        if ((currentTick == null) || (tickIndex != currentTickIndex)) {
+            // Moving to another tick (i.e. once per tick when the trades are sorted)
+            currentTick = ticks.get(tickIndex);
+            if (currentTick == null) {
+                DateTime tickBeginTime = new DateTime((firstTimestamp + tickIndex * duration) * 1000);
+                currentTick = new Tick(tickBeginTime, tickBeginTime.plusSeconds(duration));
+                ticks.put(tickIndex, currentTick);
+            }
+            currentTickIndex = tickIndex;
+        }
+        currentTick.addTrade(tradeAmount, tradePrice);
+    }
+
+    /**
+     * @return the list of ticks, sorted by time
+     */
+    List<Tick> getTicks() {
+        return new ArrayList<Tick>(ticks.values());
+    }
+
+    /**
+     * @param dividend the dividend
+     * @param divisor the divisor (strictly positive)
+     * @return the largest integer which is lower than or equal to dividend / divisor
+     */
+    private static long floorDiv(long dividend, long divisor) {
+        return dividend >= 0 ? dividend / divisor : -((divisor - 1 - dividend) / divisor);
+    }
+}
@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import eu.verdelhan.ta4j.indicators.oscillators.CCIIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
 import eu.verdelhan.ta4j.strategies.CombinedBuyAndSellStrategy;
@@ -45,12 +46,21 @@ public class CCICorrectionStrategy {
      * @return a CCI correction strategy
      */
     public static Strategy buildStrategy(TimeSeries series) {
+        return buildStrategy(series, new IndicatorRegistry());
+    }
+
+    /**
+     * @param series a time series
+     * @param indicators the registry of the indicators shared with other strategies
+     * @return a CCI correction strategy
+     */
+    public static Strategy buildStrategy(TimeSeries series, IndicatorRegistry indicators) {
         if (series == null) {
             throw new IllegalArgumentException("Series cannot be null");
         }
 
-        CCIIndicator longCci = new CCIIndicator(series, 200);
-        CCIIndicator shortCci = new CCIIndicator(series, 5);
+        CCIIndicator longCci = indicators.cci(series, 200);
+        CCIIndicator shortCci = indicators.cci(series, 5);
         ConstantIndicator<Double> plus100 = new ConstantIndicator<Double>(100d);
         ConstantIndicator<Double> minus100 = new ConstantIndicator<Double>(-100d);
 
@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
@@ -50,18 +51,27 @@ public class GlobalExtremaStrategy {
      * @return a global extrema strategy
      */
     public static Strategy buildStrategy(TimeSeries series) {
+        return buildStrategy(series, new IndicatorRegistry());
+    }
+
+    /**
+     * @param series a time series
+     * @param indicators the registry of the indicators shared with other strategies
+     * @return a global extrema strategy
+     */
+    public static Strategy buildStrategy(TimeSeries series, IndicatorRegistry indicators) {
         if (series == null) {
             throw new IllegalArgumentException("Series cannot be null");
         }
 
-        ClosePriceIndicator closePrices = new ClosePriceIndicator(series);
+        ClosePriceIndicator closePrices = indicators.closePrice(series);
 
         // Getting the max price over the past week
-        MaxPriceIndicator maxPrices = new MaxPriceIndicator(series);
-        HighestValueIndicator weekMaxPrice = new HighestValueIndicator(maxPrices, NB_TICKS_PER_WEEK);
+        MaxPriceIndicator maxPrices = indicators.maxPrice(series);
+        HighestValueIndicator weekMaxPrice = indicators.highestValue(maxPrices, NB_TICKS_PER_WEEK);
         // Getting the min price over the past week
-        MinPriceIndicator minPrices = new MinPriceIndicator(series);
-        LowestValueIndicator weekMinPrice = new LowestValueIndicator(minPrices, NB_TICKS_PER_WEEK);
+        MinPriceIndicator minPrices = indicators.minPrice(series);
+        LowestValueIndicator weekMinPrice = indicators.lowestValue(minPrices, NB_TICKS_PER_WEEK);
 
         // Going long if the close price goes below the min price
         IndicatorOverIndicatorStrategy buySignal = new IndicatorOverIndicatorStrategy(new SimpleMultiplierIndicator(weekMinPrice, 1.004), closePrices);
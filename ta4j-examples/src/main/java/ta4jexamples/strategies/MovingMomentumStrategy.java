@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorDIndicator;
 import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorKIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
@@ -51,26 +52,35 @@ public class MovingMomentumStrategy {
      * @return a moving momentum strategy
      */
     public static Strategy buildStrategy(TimeSeries series) {
+        return buildStrategy(series, new IndicatorRegistry());
+    }
+
+    /**
+     * @param series a time series
+     * @param indicators the registry of the indicators shared with other strategies
+     * @return a moving momentum strategy
+     */
+    public static Strategy buildStrategy(TimeSeries series, IndicatorRegistry indicators) {
         if (series == null) {
             throw new IllegalArgumentException("Series cannot be null");
         }
 
-        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
-        EMAIndicator shortEma = new EMAIndicator(closePrice, 9);
-        EMAIndicator longEma = new EMAIndicator(closePrice, 26);
+        ClosePriceIndicator closePrice = indicators.closePrice(series);
+        EMAIndicator shortEma = indicators.ema(closePrice, 9);
+        EMAIndicator longEma = indicators.ema(closePrice, 26);
 
         // The bias is bullish when the shorter-moving average moves above the longer moving average.
         // The bias is bearish when the shorter-moving average moves below the longer moving average.
         IndicatorOverIndicatorStrategy shortEmaAboveLongEma = new IndicatorOverIndicatorStrategy(shortEma, longEma);
 
-        StochasticOscillatorKIndicator stochasticOscillK = new StochasticOscillatorKIndicator(series, 14);
-        StochasticOscillatorDIndicator stochasticOscillD = new StochasticOscillatorDIndicator(stochasticOscillK);
+        StochasticOscillatorKIndicator stochasticOscillK = indicators.stochasticOscillatorK(series, 14);
+        StochasticOscillatorDIndicator stochasticOscillD = indicators.stochasticOscillatorD(stochasticOscillK);
 
         SupportStrategy support20 = new SupportStrategy(stochasticOscillK, new AlwaysOperateStrategy().opposite(), 20);
         ResistanceStrategy resist80 = new ResistanceStrategy(stochasticOscillK, new AlwaysOperateStrategy().opposite(), 80);
 
-        MACDIndicator macd = new MACDIndicator(closePrice, 9, 26);
-        EMAIndicator emaMacd = new EMAIndicator(macd, 18);
+        MACDIndicator macd = indicators.macd(closePrice, 9, 26);
+        EMAIndicator emaMacd = indicators.ema(macd, 18);
 
         IndicatorOverIndicatorStrategy macdAboveSignalLine = new IndicatorOverIndicatorStrategy(macd, emaMacd);
 
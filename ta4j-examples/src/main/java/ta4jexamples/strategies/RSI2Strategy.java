@@ -26,6 +26,7 @@ import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
@@ -48,13 +49,22 @@ public class RSI2Strategy {
      * @return a 2-period RSI strategy
      */
     public static Strategy buildStrategy(TimeSeries series) {
+        return buildStrategy(series, new IndicatorRegistry());
+    }
+
+    /**
+     * @param series a time series
+     * @param indicators the registry of the indicators shared with other strategies
+     * @return a 2-period RSI strategy
+     */
+    public static Strategy buildStrategy(TimeSeries series, IndicatorRegistry indicators) {
         if (series == null) {
             throw new IllegalArgumentException("Series cannot be null");
         }
 
-        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
-        SMAIndicator shortSma = new SMAIndicator(closePrice, 5);
-        SMAIndicator longSma = new SMAIndicator(closePrice, 200);
+        ClosePriceIndicator closePrice = indicators.closePrice(series);
+        SMAIndicator shortSma = indicators.sma(closePrice, 5);
+        SMAIndicator longSma = indicators.sma(closePrice, 200);
 
         // Exit point.
         // Exiting long positions on a move above the 5-period SMA and short positions on a move below the 5-day SMA.
@@ -66,7 +76,7 @@ public class RSI2Strategy {
 
         // Identifying buying or selling opportunities within the bigger trend.
         // We use a 2-period RSI indicator.
-        RSIIndicator rsi = new RSIIndicator(closePrice, 2);
+        RSIIndicator rsi = indicators.rsi(closePrice, 2);
         SupportStrategy support5 = new SupportStrategy(rsi, priceBelowSma, 5);
         ResistanceStrategy resist95 = new ResistanceStrategy(rsi, priceBelowSma, 95);
         Strategy buyAndSellSignalsStrategy = new CombinedBuyAndSellStrategy(support5, resist95);
@@ -25,12 +25,16 @@ package ta4jexamples.walkforward;
 import eu.verdelhan.ta4j.AnalysisCriterion;
 import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.analysis.Decision;
 import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.analysis.optimization.StrategyListFactory;
+import eu.verdelhan.ta4j.analysis.optimization.WalkForwardOptimizer;
+import eu.verdelhan.ta4j.analysis.optimization.WalkForwardStep;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.joda.time.Period;
 import ta4jexamples.loaders.CsvTradesLoader;
 import ta4jexamples.strategies.CCICorrectionStrategy;
@@ -46,43 +50,64 @@ import ta4jexamples.strategies.RSI2Strategy;
  */
 public class WalkForward {
 
+    /** Names of the trading strategies (in the order of {@link #buildStrategies(TimeSeries)}) */
+    private static final String[] STRATEGY_NAMES = { "CCI Correction", "Global Extrema", "Moving Momentum", "RSI-2" };
+
     /**
      * @param series the time series
-     * @return a map (key: strategy, value: name) of trading strategies
+     * @return a list of trading strategies, sharing their common indicators
      */
-    public static Map<Strategy, String> buildStrategiesMap(TimeSeries series) {
-        HashMap<Strategy, String> strategies = new HashMap<Strategy, String>();
-        strategies.put(CCICorrectionStrategy.buildStrategy(series), "CCI Correction");
-        strategies.put(GlobalExtremaStrategy.buildStrategy(series), "Global Extrema");
-        strategies.put(MovingMomentumStrategy.buildStrategy(series), "Moving Momentum");
-        strategies.put(RSI2Strategy.buildStrategy(series), "RSI-2");
+    public static List<Strategy> buildStrategies(TimeSeries series) {
+        IndicatorRegistry indicators = new IndicatorRegistry();
+        List<Strategy> strategies = new ArrayList<Strategy>();
+        strategies.add(CCICorrectionStrategy.buildStrategy(series, indicators));
+        strategies.add(GlobalExtremaStrategy.buildStrategy(series, indicators));
+        strategies.add(MovingMomentumStrategy.buildStrategy(series, indicators));
+        strategies.add(RSI2Strategy.buildStrategy(series, indicators));
         return strategies;
     }
 
     public static void main(String[] args) {
-        // Splitting the series into slices
+        // Getting the time series
         TimeSeries series = CsvTradesLoader.loadBitstampSeries();
-        List<TimeSeries> subseries = series.split(Period.hours(6), Period.weeks(1));
 
-        // Building the map of strategies
-        Map<Strategy, String> strategies = buildStrategiesMap(series);
+        // The strategies are built with their own shared indicators for each task of the optimizer
+        StrategyListFactory strategies = new StrategyListFactory() {
+            @Override
+            public List<Strategy> buildStrategies(TimeSeries series) {
+                return WalkForward.buildStrategies(series);
+            }
+        };
 
         // The analysis criterion
         AnalysisCriterion profitCriterion = new TotalProfitCriterion();
 
-        for (TimeSeries slice : subseries) {
-            // For each sub-series...
-            System.out.println("Sub-series: " + slice.getPeriodName());
-            for (Map.Entry<Strategy, String> entry : strategies.entrySet()) {
-                Strategy strategy = entry.getKey();
-                String name = entry.getValue();
+        // Choosing the best strategy over each 1-week slice (every 6 hours), then evaluating it over the next 6 hours
+        // The slices are evaluated in parallel, by chunks
+        WalkForwardOptimizer optimizer = new WalkForwardOptimizer(series, strategies, profitCriterion);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        List<WalkForwardStep> steps;
+        try {
+            steps = optimizer.run(Period.hours(6), Period.weeks(1), Period.hours(6), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Decision> outOfSampleDecisions = new ArrayList<Decision>();
+        for (WalkForwardStep step : steps) {
+            // For each slice...
+            System.out.println("Sub-series: " + step.getInSampleSeries().getPeriodName());
+            for (int i = 0; i < STRATEGY_NAMES.length; i++) {
                 // For each strategy...
-                List<Trade> trades = slice.run(strategy);
-                double profit = profitCriterion.calculate(slice, trades);
-                System.out.println("\tProfit for " + name + ": " + profit);
+                System.out.println("\tProfit for " + STRATEGY_NAMES[i] + ": " + step.getInSampleValue(i));
+            }
+            System.out.println("\t\t--> Best strategy: " + STRATEGY_NAMES[step.getBestStrategyIndex()]);
+            if (step.getOutOfSampleDecision() != null) {
+                outOfSampleDecisions.add(step.getOutOfSampleDecision());
+                System.out.println("\t\t--> Out-of-sample profit: " + step.getOutOfSampleDecision().evaluateCriterion());
             }
-            Strategy bestStrategy = profitCriterion.chooseBest(slice, new ArrayList<Strategy>(strategies.keySet())).getStrategy();
-            System.out.println("\t\t--> Best strategy: " + strategies.get(bestStrategy) + "\n");
+            System.out.println();
         }
+        System.out.println("Out-of-sample profit: " + profitCriterion.summarize(series, outOfSampleDecisions));
     }
 }
@@ -0,0 +1,258 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.loaders;
+
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedCsvLoaderTest {
+
+    private static final String TICKS_HEADER = "date,open,high,low,close,volume";
+
+    private static final String TRADES_HEADER = "unixtime,price,amount";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void parsedNumbersShouldMatchDoubleParseDouble() throws IOException {
+        List<String> numbers = new ArrayList<String>();
+        String[] fixed = {
+            "0", "1", "-1", "+1", "0.0", "-0.5", "+0.25", "12.", ".5", "549.03", "20018500",
+            // 15 digits (fast path)
+            "123456789012345", "1.23456789012345", "0.00000000000001", "-99999.9999999999",
+            // 16 digits and more (fallback)
+            "1234567890123456", "0.1234567890123456", "9007199254740993", "-3.141592653589793238",
+            // Exponents (fallback)
+            "1e3", "1.5E-7", "-2.5e+10", "4.9E-324", "1.7976931348623157E308"
+        };
+        for (String number : fixed) {
+            numbers.add(number);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            // Random decimals from 1 to 18 digits, with a random sign
+            StringBuilder number = new StringBuilder();
+            int length = 1 + random.nextInt(18);
+            for (int j = 0; j < length; j++) {
+                number.append((char) ('0' + random.nextInt(10)));
+            }
+            int point = random.nextInt(length + 2);
+            if (point <= length) {
+                number.insert(point, '.');
+            }
+            numbers.add((random.nextBoolean() ? "-" : random.nextBoolean() ? "+" : "") + number);
+            // Shortest representations of random doubles (up to 17 digits, with or without exponent)
+            numbers.add(Double.toString((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20)));
+        }
+        while (numbers.size() % 5 != 0) {
+            numbers.add("1");
+        }
+
+        StringBuilder content = new StringBuilder(TICKS_HEADER).append('\n');
+        DateTime date = new DateTime(2013, 1, 2, 0, 0);
+        for (int i = 0; i < numbers.size(); i += 5) {
+            content.append(date.plusDays(i).toString("yyyy-MM-dd"));
+            for (int j = i; j < i + 5; j++) {
+                content.append(',').append(numbers.get(j));
+            }
+            content.append('\n');
+        }
+        TimeSeries series = MappedCsvLoader.loadTicks("numbers", write(content.toString()));
+
+        assertThat(series.getSize()).isEqualTo(numbers.size() / 5);
+        for (int i = 0; i < numbers.size(); i += 5) {
+            int index = i / 5;
+            assertThat(series.getEndTime(index)).isEqualTo(date.plusDays(i));
+            assertSameDouble(series.getOpenPrice(index), numbers.get(i));
+            assertSameDouble(series.getMaxPrice(index), numbers.get(i + 1));
+            assertSameDouble(series.getMinPrice(index), numbers.get(i + 2));
+            assertSameDouble(series.getClosePrice(index), numbers.get(i + 3));
+            assertSameDouble(series.getVolume(index), numbers.get(i + 4));
+        }
+    }
+
+    @Test
+    public void crlfAndMissingFinalLineFeedShouldBeParsed() throws IOException {
+        String lines = TICKS_HEADER + "\n2013-01-02,553.82,555.00,541.63,549.03,20018500\n"
+                + "2013-01-03,547.88,549.67,541.00,542.10,12605900\n";
+        TimeSeries expected = MappedCsvLoader.loadTicks("lf", write(lines));
+        TimeSeries crlf = MappedCsvLoader.loadTicks("crlf", write(lines.replace("\n", "\r\n")));
+        TimeSeries noFinalLineFeed = MappedCsvLoader.loadTicks("no_final_lf", write(lines.substring(0, lines.length() - 1)));
+        TimeSeries noFinalCrlf = MappedCsvLoader.loadTicks("no_final_crlf",
+                write(lines.substring(0, lines.length() - 1).replace("\n", "\r\n")));
+
+        assertThat(expected.getSize()).isEqualTo(2);
+        assertThat(expected.getClosePrice(1)).isEqualTo(542.10);
+        assertThat(expected.getVolume(1)).isEqualTo(12605900d);
+        assertSameTicks(crlf, expected);
+        assertSameTicks(noFinalLineFeed, expected);
+        assertSameTicks(noFinalCrlf, expected);
+    }
+
+    @Test
+    public void headerOnlyFileShouldGiveAnEmptySeries() throws IOException {
+        assertThat(MappedCsvLoader.loadTicks("empty", write(TICKS_HEADER + "\n")).getSize()).isEqualTo(0);
+        assertThat(MappedCsvLoader.loadTicks("empty", write(TICKS_HEADER)).getSize()).isEqualTo(0);
+        assertThat(MappedCsvLoader.loadTrades("empty", write(TRADES_HEADER + "\r\n"), 300).getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void parallelChunksShouldGiveTheSameSeriesAsOneChunk() throws IOException {
+        Random random = new Random(42);
+        StringBuilder content = new StringBuilder(TICKS_HEADER).append("\r\n");
+        DateTime date = new DateTime(2000, 1, 1, 0, 0);
+        double price = 100;
+        for (int i = 0; i < 3000; i++) {
+            price += random.nextDouble() - 0.5;
+            String p = String.format("%.2f", price).replace(',', '.');
+            content.append(date.plusDays(i).toString("yyyy-MM-dd")).append(',').append(p).append(',').append(p)
+                    .append(',').append(p).append(',').append(p).append(',').append(random.nextInt(1000000))
+                    .append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        File file = write(content.toString());
+        TimeSeries sequential = MappedCsvLoader.loadTicks("sequential", file);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Chunks smaller than a line, then a few lines per chunk
+            for (int chunkSize : new int[] { 1, 7, 100, 4096 }) {
+                assertSameTicks(MappedCsvLoader.loadTicks("parallel", file, executor, chunkSize), sequential);
+                assertSameTicks(MappedCsvLoader.loadTicks("chunked", file, null, chunkSize), sequential);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(sequential.getSize()).isEqualTo(3000);
+        assertThat(sequential.getEndTime(2999)).isEqualTo(date.plusDays(2999));
+    }
+
+    @Test
+    public void appleTicksShouldMatchCsvTicksLoader() throws Exception {
+        File file = new File(getClass().getClassLoader().getResource("appleinc_ticks_from_20130101_usd.csv").toURI());
+        TimeSeries expected = CsvTicksLoader.loadAppleIncSeries();
+        assertThat(expected.getSize()).isGreaterThan(0);
+        assertSameTicks(MappedCsvLoader.loadTicks("apple_ticks", file), expected);
+        assertSameTicks(MappedCsvLoader.loadTicks("apple_ticks", file, null, 1000), expected);
+    }
+
+    @Test
+    public void tradesShouldMatchTheFormerLoader() throws IOException {
+        Random random = new Random(42);
+        long[] timestamps = new long[3000];
+        double[] prices = new double[timestamps.length];
+        double[] amounts = new double[timestamps.length];
+        StringBuilder content = new StringBuilder(TRADES_HEADER).append('\n');
+        // 2013-11-25 00:00:00 UTC
+        long timestamp = 1385337600L;
+        double price = 800;
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamp += random.nextInt(10) == 0 ? random.nextInt(2000) : random.nextInt(20);
+            if ((i == timestamps.length - 1) && ((timestamp - timestamps[0]) % 300 == 0)) {
+                // The former loader ignored a last trade at the end of the last tick
+                timestamp++;
+            }
+            price += random.nextDouble() - 0.5;
+            String priceField = Double.toString(price);
+            String amountField = Double.toString(random.nextDouble() * 3);
+            timestamps[i] = timestamp;
+            prices[i] = Double.parseDouble(priceField);
+            amounts[i] = Double.parseDouble(amountField);
+            content.append(timestamp).append(',').append(priceField).append(',').append(amountField).append('\n');
+        }
+        File file = write(content.toString());
+        List<Tick> expected = TradesAggregatorTest.aggregateLikeFormerLoader(timestamps, prices, amounts, 300);
+
+        TradesAggregatorTest.assertSameTicks(ticksOf(MappedCsvLoader.loadTrades("trades", file, 300)), expected);
+        TradesAggregatorTest.assertSameTicks(ticksOf(MappedCsvLoader.loadTrades("trades", file, 300, 50)), expected);
+    }
+
+    /**
+     * @param content the content of the file
+     * @return a temporary file with the content (in ASCII)
+     * @throws IOException if the file cannot be written
+     */
+    private File write(String content) throws IOException {
+        File file = folder.newFile();
+        OutputStream stream = new FileOutputStream(file);
+        try {
+            stream.write(content.getBytes(Charset.forName("US-ASCII")));
+        } finally {
+            stream.close();
+        }
+        return file;
+    }
+
+    /**
+     * @param actual a parsed double
+     * @param field the field it has been parsed from
+     */
+    private static void assertSameDouble(double actual, String field) {
+        double expected = Double.parseDouble(field);
+        assertThat(Double.doubleToLongBits(actual)).as(field).isEqualTo(Double.doubleToLongBits(expected));
+    }
+
+    /**
+     * @param series a time series
+     * @return the ticks of the series
+     */
+    private static List<Tick> ticksOf(TimeSeries series) {
+        List<Tick> ticks = new ArrayList<Tick>();
+        for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+            ticks.add(series.getTick(i));
+        }
+        return ticks;
+    }
+
+    /**
+     * Asserts that two series have the same ticks (end time, prices and volume).
+     * @param actual the actual series
+     * @param expected the expected series
+     */
+    private static void assertSameTicks(TimeSeries actual, TimeSeries expected) {
+        assertThat(actual.getSize()).isEqualTo(expected.getSize());
+        for (int i = 0; i < expected.getSize(); i++) {
+            assertThat(actual.getEndTime(i)).isEqualTo(expected.getEndTime(i));
+            assertThat(actual.getOpenPrice(i)).isEqualTo(expected.getOpenPrice(i));
+            assertThat(actual.getMaxPrice(i)).isEqualTo(expected.getMaxPrice(i));
+            assertThat(actual.getMinPrice(i)).isEqualTo(expected.getMinPrice(i));
+            assertThat(actual.getClosePrice(i)).isEqualTo(expected.getClosePrice(i));
+            assertThat(actual.getVolume(i)).isEqualTo(expected.getVolume(i));
+        }
+    }
+}
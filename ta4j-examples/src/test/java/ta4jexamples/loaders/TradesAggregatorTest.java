@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package ta4jexamples.loaders;
+
+import eu.verdelhan.ta4j.Tick;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class TradesAggregatorTest {
+
+    /** 2013-11-25 00:00:00 UTC */
+    private static final long FIRST_TIMESTAMP = 1385337600L;
+
+    @Test
+    public void tradesShouldBeAggregatedByTick() {
+        TradesAggregator aggregator = new TradesAggregator(300);
+        aggregator.addTrade(FIRST_TIMESTAMP + 10, 800d, 1d);
+        aggregator.addTrade(FIRST_TIMESTAMP + 100, 810d, 2d);
+        aggregator.addTrade(FIRST_TIMESTAMP + 299, 790d, 1d);
+        // No trade in the second tick
+        aggregator.addTrade(FIRST_TIMESTAMP + 700, 805d, 0.5d);
+        List<Tick> ticks = aggregator.getTicks();
+
+        assertThat(ticks).hasSize(2);
+        Tick first = ticks.get(0);
+        assertThat(first.getBeginTime()).isEqualTo(new DateTime((FIRST_TIMESTAMP + 10) * 1000));
+        assertThat(first.getEndTime()).isEqualTo(new DateTime((FIRST_TIMESTAMP + 310) * 1000));
+        assertThat(first.getOpenPrice()).isEqualTo(800d);
+        assertThat(first.getMaxPrice()).isEqualTo(810d);
+        assertThat(first.getMinPrice()).isEqualTo(790d);
+        assertThat(first.getClosePrice()).isEqualTo(790d);
+        assertThat(first.getAmount()).isEqualTo(4d);
+        assertThat(first.getTrades()).isEqualTo(3);
+        Tick second = ticks.get(1);
+        assertThat(second.getBeginTime()).isEqualTo(new DateTime((FIRST_TIMESTAMP + 610) * 1000));
+        assertThat(second.getClosePrice()).isEqualTo(805d);
+        assertThat(second.getTrades()).isEqualTo(1);
+    }
+
+    @Test
+    public void earlierTradesShouldBeAddedToEarlierTicks() {
+        TradesAggregator aggregator = new TradesAggregator(60);
+        aggregator.addTrade(FIRST_TIMESTAMP, 10d, 1d);
+        aggregator.addTrade(FIRST_TIMESTAMP - 1, 9d, 1d);
+        aggregator.addTrade(FIRST_TIMESTAMP + 30, 11d, 1d);
+        List<Tick> ticks = aggregator.getTicks();
+
+        assertThat(ticks).hasSize(2);
+        assertThat(ticks.get(0).getBeginTime()).isEqualTo(new DateTime((FIRST_TIMESTAMP - 60) * 1000));
+        assertThat(ticks.get(0).getClosePrice()).isEqualTo(9d);
+        assertThat(ticks.get(1).getClosePrice()).isEqualTo(11d);
+        assertThat(ticks.get(1).getTrades()).isEqualTo(2);
+    }
+
+    @Test
+    public void sortedTradesShouldGiveTheTicksOfTheFormerLoader() {
+        Random random = new Random(42);
+        long[] timestamps = new long[5000];
+        double[] prices = new double[timestamps.length];
+        double[] amounts = new double[timestamps.length];
+        long timestamp = FIRST_TIMESTAMP;
+        double price = 800;
+        for (int i = 0; i < timestamps.length; i++) {
+            // Bursts of trades and gaps of several ticks
+            timestamp += random.nextInt(10) == 0 ? random.nextInt(2000) : random.nextInt(20);
+            price += random.nextDouble() - 0.5;
+            timestamps[i] = timestamp;
+            prices[i] = price;
+            amounts[i] = random.nextDouble() * 3;
+        }
+        if ((timestamps[timestamps.length - 1] - timestamps[0]) % 300 == 0) {
+            // The former loader ignored a last trade at the end of the last tick
+            timestamps[timestamps.length - 1]++;
+        }
+
+        TradesAggregator aggregator = new TradesAggregator(300);
+        for (int i = 0; i < timestamps.length; i++) {
+            aggregator.addTrade(timestamps[i], prices[i], amounts[i]);
+        }
+        assertSameTicks(aggregator.getTicks(), aggregateLikeFormerLoader(timestamps, prices, amounts, 300));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveDurationShouldThrowException() {
+        new TradesAggregator(0);
+    }
+
+    /**
+     * Asserts that two lists of ticks have the same content.
+     * @param actual the actual ticks
+     * @param expected the expected ticks
+     */
+    static void assertSameTicks(List<Tick> actual, List<Tick> expected) {
+        assertThat(actual).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Tick actualTick = actual.get(i);
+            Tick expectedTick = expected.get(i);
+            assertThat(actualTick.getBeginTime()).isEqualTo(expectedTick.getBeginTime());
+            assertThat(actualTick.getEndTime()).isEqualTo(expectedTick.getEndTime());
+            assertThat(actualTick.getOpenPrice()).isEqualTo(expectedTick.getOpenPrice());
+            assertThat(actualTick.getMaxPrice()).isEqualTo(expectedTick.getMaxPrice());
+            assertThat(actualTick.getMinPrice()).isEqualTo(expectedTick.getMinPrice());
+            assertThat(actualTick.getClosePrice()).isEqualTo(expectedTick.getClosePrice());
+            assertThat(actualTick.getAmount()).isEqualTo(expectedTick.getAmount());
+            assertThat(actualTick.getVolume()).isEqualTo(expectedTick.getVolume());
+            assertThat(actualTick.getTrades()).isEqualTo(expectedTick.getTrades());
+        }
+    }
+
+    /**
+     * Aggregates trades the way CsvTradesLoader did before TradesAggregator: building all the ticks between
+     * the first and the last trades, adding each trade to the ticks of its period, then removing the empty ticks.
+     * @param timestamps the timestamps of the trades (in seconds), sorted
+     * @param prices the prices of the trades
+     * @param amounts the amounts of the trades
+     * @param duration the tick duration (in seconds)
+     * @return the list of ticks
+     */
+    static List<Tick> aggregateLikeFormerLoader(long[] timestamps, double[] prices, double[] amounts, int duration) {
+        DateTime beginTime = new DateTime(timestamps[0] * 1000);
+        DateTime endTime = new DateTime(timestamps[timestamps.length - 1] * 1000);
+        List<Tick> ticks = new ArrayList<Tick>();
+        DateTime tickBeginTime = beginTime;
+        DateTime tickEndTime;
+        do {
+            tickEndTime = tickBeginTime.plusSeconds(duration);
+            ticks.add(new Tick(tickBeginTime, tickEndTime));
+            tickBeginTime = tickEndTime;
+        } while (tickEndTime.isBefore(endTime));
+
+        for (int i = 0; i < timestamps.length; i++) {
+            DateTime tradeTimestamp = new DateTime(timestamps[i] * 1000);
+            for (Tick tick : ticks) {
+                if (tick.inPeriod(tradeTimestamp)) {
+                    tick.addTrade(amounts[i], prices[i]);
+                }
+            }
+        }
+        for (int i = ticks.size() - 1; i >= 0; i--) {
+            if (ticks.get(i).getTrades() == 0) {
+                ticks.remove(i);
+            }
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.vector;
+
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
+
+/**
+ * SIMD {@link ArrayKernels array kernels}, based on the JDK Vector API.
+ * <p>
+ * Registered as a service: once this module is on the class path and the JVM runs with
+ * <code>--add-modules jdk.incubator.vector</code>, the bulk evaluation of the element-wise indicators uses these kernels.
+ * Otherwise (module not resolved, or no SIMD support) the scalar kernels are used.
+ */
+public class VectorArrayKernels extends ArrayKernels {
+
+    /** Name of the Vector API module */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    @Override
+    protected boolean isSupported() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return false;
+        }
+        // Only loaded once the module is known to be there
+        return VectorKernels.laneCount() > 1;
+    }
+
+    @Override
+    public void multiply(double[] values, double factor, double[] result, int length) {
+        VectorKernels.multiply(values, factor, result, length);
+    }
+
+    @Override
+    public void addMultiplied(double[] values, double[] others, double factor, double[] result, int length) {
+        VectorKernels.addMultiplied(values, others, factor, result, length);
+    }
+
+    @Override
+    public void medianPrice(double[] maxPrices, double[] minPrices, int offset, double[] result, int resultOffset, int length) {
+        VectorKernels.medianPrice(maxPrices, minPrices, offset, result, resultOffset, length);
+    }
+
+    @Override
+    public void typicalPrice(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length) {
+        VectorKernels.typicalPrice(maxPrices, minPrices, closePrices, offset, result, resultOffset, length);
+    }
+
+    @Override
+    public void priceVariation(double[] closePrices, int offset, double[] result, int resultOffset, int length) {
+        VectorKernels.priceVariation(closePrices, offset, result, resultOffset, length);
+    }
+
+    @Override
+    public void trueRange(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length) {
+        VectorKernels.trueRange(maxPrices, minPrices, closePrices, offset, result, resultOffset, length);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of the array kernels.
+ * <p>
+ * Each kernel processes the arrays by vectors of the preferred species, then finishes the tail with scalar code.
+ * The lane-wise operations are the ones (and in the same order) of the scalar kernels, without fused multiply-add,
+ * so the results are exactly the same.
+ */
+final class VectorKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+    }
+
+    /**
+     * @return the number of doubles per vector
+     */
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    static void multiply(double[] values, double factor, double[] result, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i).mul(factor).intoArray(result, i);
+        }
+        for (; i < length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    static void addMultiplied(double[] values, double[] others, double factor, double[] result, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector product = DoubleVector.fromArray(SPECIES, others, i).mul(factor);
+            DoubleVector.fromArray(SPECIES, values, i).add(product).intoArray(result, i);
+        }
+        for (; i < length; i++) {
+            result[i] = values[i] + factor * others[i];
+        }
+    }
+
+    static void medianPrice(double[] maxPrices, double[] minPrices, int offset, double[] result, int resultOffset, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector max = DoubleVector.fromArray(SPECIES, maxPrices, offset + i);
+            DoubleVector min = DoubleVector.fromArray(SPECIES, minPrices, offset + i);
+            max.add(min).div(2d).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = (maxPrices[offset + i] + minPrices[offset + i]) / 2d;
+        }
+    }
+
+    static void typicalPrice(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector max = DoubleVector.fromArray(SPECIES, maxPrices, offset + i);
+            DoubleVector min = DoubleVector.fromArray(SPECIES, minPrices, offset + i);
+            DoubleVector close = DoubleVector.fromArray(SPECIES, closePrices, offset + i);
+            max.add(min).add(close).div(3d).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = (maxPrices[offset + i] + minPrices[offset + i] + closePrices[offset + i]) / 3d;
+        }
+    }
+
+    static void priceVariation(double[] closePrices, int offset, double[] result, int resultOffset, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector previous = DoubleVector.fromArray(SPECIES, closePrices, offset + i - 1);
+            DoubleVector.fromArray(SPECIES, closePrices, offset + i).div(previous).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            result[resultOffset + i] = closePrices[offset + i] / closePrices[offset + i - 1];
+        }
+    }
+
+    static void trueRange(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            DoubleVector max = DoubleVector.fromArray(SPECIES, maxPrices, offset + i);
+            DoubleVector min = DoubleVector.fromArray(SPECIES, minPrices, offset + i);
+            DoubleVector previousClose = DoubleVector.fromArray(SPECIES, closePrices, offset + i - 1);
+            DoubleVector ts = max.sub(min).lanewise(VectorOperators.ABS);
+            DoubleVector ys = max.sub(previousClose).lanewise(VectorOperators.ABS);
+            DoubleVector yst = previousClose.sub(min).lanewise(VectorOperators.ABS);
+            ts.max(ys).max(yst).intoArray(result, resultOffset + i);
+        }
+        for (; i < length; i++) {
+            int j = offset + i;
+            double ts = maxPrices[j] - minPrices[j];
+            double ys = maxPrices[j] - closePrices[j - 1];
+            double yst = closePrices[j - 1] - minPrices[j];
+            result[resultOffset + i] = Math.max(Math.max(Math.abs(ts), Math.abs(ys)), Math.abs(yst));
+        }
+    }
+}
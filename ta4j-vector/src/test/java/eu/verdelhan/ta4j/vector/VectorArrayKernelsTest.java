@@ -0,0 +1,140 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.vector;
+
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
+import eu.verdelhan.ta4j.indicators.ScalarArrayKernels;
+import java.util.Arrays;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VectorArrayKernelsTest {
+
+    private static final int MAX_LENGTH = 70;
+
+    private static final int MAX_OFFSET = 5;
+
+    private final ArrayKernels scalar = new ScalarArrayKernels();
+
+    private final ArrayKernels vector = new VectorArrayKernels();
+
+    private double[] a;
+
+    private double[] b;
+
+    private double[] c;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        a = randomValues(random);
+        b = randomValues(random);
+        c = randomValues(random);
+    }
+
+    @Test
+    public void vectorKernelsShouldBeLoaded() {
+        assertThat(ArrayKernels.getInstance()).isInstanceOf(VectorArrayKernels.class);
+    }
+
+    @Test
+    public void sameResultsAsScalarKernels() {
+        for (int length = 0; length < MAX_LENGTH; length++) {
+            double[] expected = new double[length];
+            double[] actual = new double[length];
+
+            scalar.multiply(a, 1.7, expected, length);
+            vector.multiply(a, 1.7, actual, length);
+            assertThat(actual).isEqualTo(expected);
+
+            scalar.addMultiplied(a, b, -2, expected, length);
+            vector.addMultiplied(a, b, -2, actual, length);
+            assertThat(actual).isEqualTo(expected);
+
+            assertPriceKernels(length, 1, 0);
+        }
+    }
+
+    @Test
+    public void sameResultsAsScalarKernelsWithOffsets() {
+        for (int length = 0; length < MAX_LENGTH; length++) {
+            for (int offset = 1; offset <= MAX_OFFSET; offset++) {
+                assertPriceKernels(length, offset, MAX_OFFSET - offset);
+            }
+        }
+    }
+
+    @Test
+    public void resultMayBeAnInputArray() {
+        double[] expected = new double[MAX_LENGTH];
+        scalar.typicalPrice(a, b, c, 0, expected, 0, MAX_LENGTH);
+        double[] values = Arrays.copyOf(a, MAX_LENGTH);
+        vector.typicalPrice(values, b, c, 0, values, 0, MAX_LENGTH);
+        assertThat(values).isEqualTo(expected);
+    }
+
+    /**
+     * @param length the number of values
+     * @param offset the index of the first prices
+     * @param resultOffset the index of the first result
+     */
+    private void assertPriceKernels(int length, int offset, int resultOffset) {
+        double[] expected = new double[resultOffset + length];
+        double[] actual = new double[resultOffset + length];
+
+        scalar.medianPrice(a, b, offset, expected, resultOffset, length);
+        vector.medianPrice(a, b, offset, actual, resultOffset, length);
+        assertThat(actual).isEqualTo(expected);
+
+        scalar.typicalPrice(a, b, c, offset, expected, resultOffset, length);
+        vector.typicalPrice(a, b, c, offset, actual, resultOffset, length);
+        assertThat(actual).isEqualTo(expected);
+
+        scalar.priceVariation(a, offset, expected, resultOffset, length);
+        vector.priceVariation(a, offset, actual, resultOffset, length);
+        assertThat(actual).isEqualTo(expected);
+
+        scalar.trueRange(a, b, c, offset, expected, resultOffset, length);
+        vector.trueRange(a, b, c, offset, actual, resultOffset, length);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * @param random the random generator
+     * @return prices, with a few special values (NaN, infinities, signed zeros)
+     */
+    private static double[] randomValues(Random random) {
+        double[] values = new double[MAX_LENGTH + MAX_OFFSET];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + random.nextGaussian() * 10;
+        }
+        values[3] = Double.NaN;
+        values[11] = Double.POSITIVE_INFINITY;
+        values[17] = 0d;
+        values[18] = -0d;
+        values[29] = Double.NEGATIVE_INFINITY;
+        return values;
+    }
+}
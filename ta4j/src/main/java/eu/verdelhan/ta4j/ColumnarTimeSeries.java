@@ -0,0 +1,284 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.util.Arrays;
+import java.util.List;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Time series storing its ticks in columns (one primitive array per tick field).
+ * <p>
+ * Prices, volumes, amounts and numbers of trades are read straight from the arrays
+ * (e.g. by {@link #getClosePrice(int)}), without any {@link Tick tick} object.
+ * {@link #getTick(int)} returns a lightweight, read-only view over the i-th values of the columns.
+ * The price columns can also be read directly (e.g. by {@link #getClosePrices()}) for the bulk evaluation of the indicators.
+ * <p>
+ * Times are stored as milliseconds and returned in the time zone of the series.
+ */
+public class ColumnarTimeSeries extends TimeSeries {
+
+    /** Marker of a missing time */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    /** Columns of the series (shared with the subseries) */
+    private final Columns columns;
+
+    /**
+     * Constructor.
+     * <p>
+     * The values of the ticks are copied in the columns.
+     * @param name the name of the series
+     * @param ticks the list of ticks of the series
+     */
+    public ColumnarTimeSeries(String name, List<? extends Tick> ticks) {
+        this(name, new Columns(ticks), 0, ticks.size() - 1);
+    }
+
+    /**
+     * Constructor of an unnamed series.
+     * <p>
+     * The values of the ticks are copied in the columns.
+     * @param ticks the list of ticks of the series
+     */
+    public ColumnarTimeSeries(List<? extends Tick> ticks) {
+        this("unnamed", ticks);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * The arrays are not copied: they must not be modified afterwards. They must all have the same length.
+     * @param name the name of the series
+     * @param endTimes the end times of the ticks (in milliseconds)
+     * @param openPrices the open prices of the ticks
+     * @param maxPrices the max prices of the ticks
+     * @param minPrices the min prices of the ticks
+     * @param closePrices the close prices of the ticks
+     * @param volumes the traded volumes of the ticks
+     * @param amounts the traded amounts of the ticks
+     * @param trades the numbers of trades of the ticks
+     */
+    public ColumnarTimeSeries(String name, long[] endTimes, double[] openPrices, double[] maxPrices, double[] minPrices,
+            double[] closePrices, double[] volumes, double[] amounts, int[] trades) {
+        this(name, new Columns(DateTimeZone.getDefault(), null, endTimes, openPrices, maxPrices, minPrices,
+                closePrices, volumes, amounts, trades), 0, endTimes.length - 1);
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param columns the columns of the series
+     * @param beginIndex the begin index (inclusive) of the time series
+     * @param endIndex the end index (inclusive) of the time series
+     */
+    private ColumnarTimeSeries(String name, Columns columns, int beginIndex, int endIndex) {
+        super(name, beginIndex, endIndex);
+        this.columns = columns;
+    }
+
+    @Override
+    public Tick getTick(int i) {
+        if (i < 0 || i >= columns.size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", size: " + columns.size);
+        }
+        return new TickView(this, i);
+    }
+
+    @Override
+    protected int getTickCount() {
+        return columns.size;
+    }
+
+    @Override
+    public DateTime getBeginTime(int i) {
+        return columns.beginTimes == null ? null : columns.toDateTime(columns.beginTimes[i]);
+    }
+
+    @Override
+    public DateTime getEndTime(int i) {
+        return columns.toDateTime(columns.endTimes[i]);
+    }
+
+    @Override
+    public double getOpenPrice(int i) {
+        return columns.openPrices[i];
+    }
+
+    @Override
+    public double getMaxPrice(int i) {
+        return columns.maxPrices[i];
+    }
+
+    @Override
+    public double getMinPrice(int i) {
+        return columns.minPrices[i];
+    }
+
+    @Override
+    public double getClosePrice(int i) {
+        return columns.closePrices[i];
+    }
+
+    @Override
+    public double getVolume(int i) {
+        return columns.volumes[i];
+    }
+
+    @Override
+    public double getAmount(int i) {
+        return columns.amounts[i];
+    }
+
+    @Override
+    public int getTrades(int i) {
+        return columns.trades[i];
+    }
+
+    /**
+     * @return the max prices of the ticks, indexed like the ticks (not copied: must not be modified)
+     */
+    public double[] getMaxPrices() {
+        return columns.maxPrices;
+    }
+
+    /**
+     * @return the min prices of the ticks, indexed like the ticks (not copied: must not be modified)
+     */
+    public double[] getMinPrices() {
+        return columns.minPrices;
+    }
+
+    /**
+     * @return the close prices of the ticks, indexed like the ticks (not copied: must not be modified)
+     */
+    public double[] getClosePrices() {
+        return columns.closePrices;
+    }
+
+    @Override
+    public TimeSeries subseries(int beginIndex, int endIndex) {
+        return new ColumnarTimeSeries(getName(), columns, beginIndex, endIndex);
+    }
+
+    /**
+     * Columns of a series.
+     */
+    private static class Columns {
+
+        private final DateTimeZone timeZone;
+
+        /** Begin times (null if no tick has a begin time) */
+        private final long[] beginTimes;
+
+        private final long[] endTimes;
+
+        private final double[] openPrices;
+
+        private final double[] maxPrices;
+
+        private final double[] minPrices;
+
+        private final double[] closePrices;
+
+        private final double[] volumes;
+
+        private final double[] amounts;
+
+        private final int[] trades;
+
+        private final int size;
+
+        Columns(DateTimeZone timeZone, long[] beginTimes, long[] endTimes, double[] openPrices, double[] maxPrices,
+                double[] minPrices, double[] closePrices, double[] volumes, double[] amounts, int[] trades) {
+            size = endTimes.length;
+            if (openPrices.length != size || maxPrices.length != size || minPrices.length != size
+                    || closePrices.length != size || volumes.length != size || amounts.length != size
+                    || trades.length != size || (beginTimes != null && beginTimes.length != size)) {
+                throw new IllegalArgumentException("All the columns must have the same length");
+            }
+            this.timeZone = timeZone;
+            this.beginTimes = beginTimes;
+            this.endTimes = endTimes;
+            this.openPrices = openPrices;
+            this.maxPrices = maxPrices;
+            this.minPrices = minPrices;
+            this.closePrices = closePrices;
+            this.volumes = volumes;
+            this.amounts = amounts;
+            this.trades = trades;
+        }
+
+        Columns(List<? extends Tick> ticks) {
+            size = ticks.size();
+            timeZone = (size > 0 && ticks.get(0).getEndTime() != null)
+                    ? ticks.get(0).getEndTime().getZone()
+                    : DateTimeZone.getDefault();
+            long[] begins = null;
+            endTimes = new long[size];
+            openPrices = new double[size];
+            maxPrices = new double[size];
+            minPrices = new double[size];
+            closePrices = new double[size];
+            volumes = new double[size];
+            amounts = new double[size];
+            trades = new int[size];
+            for (int i = 0; i < size; i++) {
+                Tick tick = ticks.get(i);
+                if (tick.getBeginTime() != null) {
+                    if (begins == null) {
+                        begins = new long[size];
+                        Arrays.fill(begins, NO_TIME);
+                    }
+                    begins[i] = tick.getBeginTime().getMillis();
+                }
+                endTimes[i] = toMillis(tick.getEndTime());
+                openPrices[i] = tick.getOpenPrice();
+                maxPrices[i] = tick.getMaxPrice();
+                minPrices[i] = tick.getMinPrice();
+                closePrices[i] = tick.getClosePrice();
+                volumes[i] = tick.getVolume();
+                amounts[i] = tick.getAmount();
+                trades[i] = tick.getTrades();
+            }
+            beginTimes = begins;
+        }
+
+        /**
+         * @param millis a time in milliseconds (or {@link #NO_TIME})
+         * @return the corresponding date time in the time zone of the columns (or null)
+         */
+        DateTime toDateTime(long millis) {
+            return millis == NO_TIME ? null : new DateTime(millis, timeZone);
+        }
+
+        /**
+         * @param time a date time (may be null)
+         * @return the time in milliseconds (or {@link #NO_TIME})
+         */
+        private static long toMillis(DateTime time) {
+            return time == null ? NO_TIME : time.getMillis();
+        }
+    }
+}
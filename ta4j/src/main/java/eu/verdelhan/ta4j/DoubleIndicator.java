@@ -0,0 +1,49 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+/**
+ * Indicator over a {@link TimeSeries time series} returning primitive doubles.
+ * <p>
+ * For each index of the time series, returns a value of type <b>double</b>.
+ * Reading the values through {@link #getDouble(int)} avoids the boxing involved by {@link #getValue(int)}.
+ */
+public interface DoubleIndicator extends Indicator<Double> {
+
+    /**
+     * @param index the index
+     * @return the value of the indicator
+     */
+    double getDouble(int index);
+
+    /**
+     * Evaluates the indicator over a range of indexes.
+     * <p>
+     * Equivalent to calling {@link #getDouble(int)} on each index of the range, with less overhead.
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @param values the array to be filled with the values (values[i - from] for index i)
+     * @throws IllegalArgumentException if the range is empty or does not fit in the array
+     */
+    void evaluate(int from, int to, double[] values);
+}
@@ -0,0 +1,187 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.util.AbstractList;
+
+/**
+ * Append-only time series for live feeds.
+ * <p>
+ * Ticks are added one by one with {@link #addTick(Tick)}. At most maximumTickCount ticks are retained:
+ * when the series is full, adding a tick evicts the oldest one.
+ * <p>
+ * Indexes are absolute and never shift: the i-th added tick keeps the i index for the whole life of the series.
+ * The begin index is the index of the oldest retained tick, the end index is the one of the last added tick.
+ * Reading an evicted tick (i.e. an index lower than the begin index) throws an {@link IndexOutOfBoundsException}.
+ * Indicators are computed from the begin index (see {@link #getRemovedTickCount()}).
+ * <p>
+ * The last tick may be amended while it is forming, with {@link #replaceLastTick(Tick)} or {@link #addTrade(double, double)}.
+ * Cached indicators then recalculate only their values from this tick.
+ */
+public class LiveTimeSeries extends TimeSeries {
+
+    /** Ring buffer of the retained ticks */
+    private final Tick[] ticks;
+
+    /** Number of ticks added since the creation of the series */
+    private int tickCount;
+
+    /** Number of amendments of the last tick since the creation of the series */
+    private int modificationCount;
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param maximumTickCount the maximum number of ticks retained by the series
+     */
+    public LiveTimeSeries(String name, int maximumTickCount) {
+        super(name, 0, -1);
+        if (maximumTickCount < 1) {
+            throw new IllegalArgumentException("Maximum tick count must be strictly positive");
+        }
+        this.ticks = new Tick[maximumTickCount];
+    }
+
+    /**
+     * Constructor of an unnamed series.
+     * @param maximumTickCount the maximum number of ticks retained by the series
+     */
+    public LiveTimeSeries(int maximumTickCount) {
+        this("unnamed", maximumTickCount);
+    }
+
+    /**
+     * Adds a tick at the end of the series.
+     * <p>
+     * If the series is full, the oldest tick is evicted.
+     * @param tick the tick to be added (its end time must be after the one of the last tick)
+     */
+    public void addTick(Tick tick) {
+        if (tick == null) {
+            throw new IllegalArgumentException("Tick cannot be null");
+        }
+        if (tickCount > 0 && !tick.getEndTime().isAfter(getEndTime(getEnd()))) {
+            throw new IllegalArgumentException("Tick end time must be after the end time of the last tick");
+        }
+        ticks[tickCount % ticks.length] = tick;
+        tickCount++;
+    }
+
+    /**
+     * Replaces the last tick of the series (e.g. by a more recent state of a forming tick).
+     * @param tick the new last tick (its end time must be after the one of the previous tick)
+     */
+    public void replaceLastTick(Tick tick) {
+        if (tickCount == 0) {
+            throw new IllegalStateException("Cannot replace the last tick of an empty series");
+        }
+        if (tick == null) {
+            throw new IllegalArgumentException("Tick cannot be null");
+        }
+        if (getBegin() < getEnd() && !tick.getEndTime().isAfter(getEndTime(getEnd() - 1))) {
+            throw new IllegalArgumentException("Tick end time must be after the end time of the previous tick");
+        }
+        ticks[(tickCount - 1) % ticks.length] = tick;
+        modificationCount++;
+    }
+
+    /**
+     * Adds a trade to the last tick of the series.
+     * @param tradeAmount the tradable amount
+     * @param tradePrice the price
+     */
+    public void addTrade(double tradeAmount, double tradePrice) {
+        if (tickCount == 0) {
+            throw new IllegalStateException("Cannot add a trade to an empty series");
+        }
+        getTick(getEnd()).addTrade(tradeAmount, tradePrice);
+        modificationCount++;
+    }
+
+    @Override
+    public Tick getTick(int i) {
+        if (i < getBegin() || i >= tickCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", begin: " + getBegin() + ", end: " + getEnd());
+        }
+        return ticks[i % ticks.length];
+    }
+
+    @Override
+    protected int getTickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public int getBegin() {
+        return Math.max(0, tickCount - ticks.length);
+    }
+
+    @Override
+    public int getEnd() {
+        return tickCount - 1;
+    }
+
+    @Override
+    public int getMaximumTickCount() {
+        return ticks.length;
+    }
+
+    @Override
+    public int getRemovedTickCount() {
+        return getBegin();
+    }
+
+    @Override
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns a new time series which is a view of a subset of the current series.
+     * <p>
+     * The ticks are read from the current series: the subseries must not be used after the eviction of its ticks.
+     * @param beginIndex the begin index (inclusive) of the time series
+     * @param endIndex the end index (inclusive) of the time series
+     * @return a constrained {@link TimeSeries time series} which is a sub-set of the current series
+     */
+    @Override
+    public TimeSeries subseries(int beginIndex, int endIndex) {
+        return new TimeSeries(getName(), new TickList(), beginIndex, endIndex);
+    }
+
+    /**
+     * Read-only list view of the ticks, with absolute indexes.
+     */
+    private class TickList extends AbstractList<Tick> {
+
+        @Override
+        public Tick get(int index) {
+            return getTick(index);
+        }
+
+        @Override
+        public int size() {
+            return tickCount;
+        }
+    }
+}
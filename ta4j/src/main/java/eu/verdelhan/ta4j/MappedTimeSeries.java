@@ -0,0 +1,343 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Time series memory-mapping a columnar tick file.
+ * <p>
+ * Opening a file only maps it: the values are read straight from the page cache, without any copy on the heap,
+ * whatever the length of the history. Subseries share the mapping.
+ * <p>
+ * Tick file format (little-endian):
+ * <ul>
+ * <li>a header of {@value #HEADER_SIZE} bytes: the magic number, the format version, the number of ticks n,
+ * and the time zone id of the series (length-prefixed ASCII)
+ * <li>the begin times (n longs, in milliseconds, {@link Long#MIN_VALUE} if none)
+ * <li>the end times (n longs, in milliseconds)
+ * <li>the open, max, min and close prices, the volumes and the amounts (n doubles each)
+ * <li>the numbers of trades (n ints)
+ * </ul>
+ * Each column is mapped separately, so a file may hold up to 2^28 ticks.
+ */
+public class MappedTimeSeries extends TimeSeries {
+
+    /** Size of the header (in bytes) */
+    static final int HEADER_SIZE = 64;
+
+    /** Magic number of the tick files ("TA4J") */
+    private static final int MAGIC_NUMBER = 0x5441344A;
+
+    private static final int FORMAT_VERSION = 1;
+
+    /** Marker of a missing time */
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final Charset ASCII = Charset.forName("US-ASCII");
+
+    /** Columns of the series (shared with the subseries) */
+    private final Columns columns;
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param file the tick file to be mapped
+     * @throws IOException if the file cannot be mapped or is not a tick file
+     */
+    public MappedTimeSeries(String name, File file) throws IOException {
+        this(name, new Columns(file));
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param columns the columns of the series
+     */
+    private MappedTimeSeries(String name, Columns columns) {
+        this(name, columns, 0, columns.size - 1);
+    }
+
+    /**
+     * Constructor.
+     * @param name the name of the series
+     * @param columns the columns of the series
+     * @param beginIndex the begin index (inclusive) of the time series
+     * @param endIndex the end index (inclusive) of the time series
+     */
+    private MappedTimeSeries(String name, Columns columns, int beginIndex, int endIndex) {
+        super(name, beginIndex, endIndex);
+        this.columns = columns;
+    }
+
+    /**
+     * Writes the ticks of a time series (from its begin index to its end index) to a tick file.
+     * <p>
+     * The mapped columns and header are forced to the storage device before the file is closed.
+     * @param series the time series
+     * @param file the tick file to be written (overwritten if it exists)
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(TimeSeries series, File file) throws IOException {
+        int size = series.getSize();
+        DateTime firstEndTime = size > 0 ? series.getEndTime(series.getBegin()) : null;
+        String zoneId = (firstEndTime != null ? firstEndTime.getZone() : DateTimeZone.getDefault()).getID();
+        byte[] zoneIdBytes = zoneId.getBytes(ASCII);
+        if (zoneIdBytes.length > HEADER_SIZE - 14) {
+            throw new IllegalArgumentException("Time zone id too long: " + zoneId);
+        }
+
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            FileChannel channel = raf.getChannel();
+            raf.setLength(0);
+            raf.setLength(fileLength(size));
+
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).putInt(size);
+            header.putShort((short) zoneIdBytes.length).put(zoneIdBytes);
+
+            MappedByteBuffer[] columns = new MappedByteBuffer[9];
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = mapColumn(channel, FileChannel.MapMode.READ_WRITE, size, c);
+            }
+            LongBuffer beginTimes = columns[0].asLongBuffer();
+            LongBuffer endTimes = columns[1].asLongBuffer();
+            DoubleBuffer[] doubleColumns = new DoubleBuffer[6];
+            for (int c = 0; c < doubleColumns.length; c++) {
+                doubleColumns[c] = columns[2 + c].asDoubleBuffer();
+            }
+            IntBuffer trades = columns[8].asIntBuffer();
+
+            for (int i = series.getBegin(); i <= series.getEnd(); i++) {
+                DateTime beginTime = series.getBeginTime(i);
+                DateTime endTime = series.getEndTime(i);
+                beginTimes.put(beginTime == null ? NO_TIME : beginTime.getMillis());
+                endTimes.put(endTime == null ? NO_TIME : endTime.getMillis());
+                doubleColumns[0].put(series.getOpenPrice(i));
+                doubleColumns[1].put(series.getMaxPrice(i));
+                doubleColumns[2].put(series.getMinPrice(i));
+                doubleColumns[3].put(series.getClosePrice(i));
+                doubleColumns[4].put(series.getVolume(i));
+                doubleColumns[5].put(series.getAmount(i));
+                trades.put(series.getTrades(i));
+            }
+
+            // Writing the mapped columns, then the header, to the storage device
+            for (MappedByteBuffer column : columns) {
+                column.force();
+            }
+            header.force();
+        } finally {
+            raf.close();
+        }
+    }
+
+    @Override
+    public Tick getTick(int i) {
+        if (i < 0 || i >= columns.size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", size: " + columns.size);
+        }
+        return new TickView(this, i);
+    }
+
+    @Override
+    protected int getTickCount() {
+        return columns.size;
+    }
+
+    @Override
+    public DateTime getBeginTime(int i) {
+        return columns.toDateTime(columns.beginTimes.get(i));
+    }
+
+    @Override
+    public DateTime getEndTime(int i) {
+        return columns.toDateTime(columns.endTimes.get(i));
+    }
+
+    @Override
+    public double getOpenPrice(int i) {
+        return columns.openPrices.get(i);
+    }
+
+    @Override
+    public double getMaxPrice(int i) {
+        return columns.maxPrices.get(i);
+    }
+
+    @Override
+    public double getMinPrice(int i) {
+        return columns.minPrices.get(i);
+    }
+
+    @Override
+    public double getClosePrice(int i) {
+        return columns.closePrices.get(i);
+    }
+
+    @Override
+    public double getVolume(int i) {
+        return columns.volumes.get(i);
+    }
+
+    @Override
+    public double getAmount(int i) {
+        return columns.amounts.get(i);
+    }
+
+    @Override
+    public int getTrades(int i) {
+        return columns.trades.get(i);
+    }
+
+    @Override
+    public TimeSeries subseries(int beginIndex, int endIndex) {
+        return new MappedTimeSeries(getName(), columns, beginIndex, endIndex);
+    }
+
+    /**
+     * @param size the number of ticks
+     * @return the length of a tick file (in bytes)
+     */
+    private static long fileLength(int size) {
+        return columnOffset(size, 9);
+    }
+
+    /**
+     * @param size the number of ticks
+     * @param column the index of the column (0: begin times, 1: end times, 2 to 7: double columns, 8: trades)
+     * @return the offset of the column in a tick file (in bytes)
+     */
+    private static long columnOffset(int size, int column) {
+        long offset = HEADER_SIZE;
+        for (int c = 0; c < column; c++) {
+            offset += (long) size * (c == 8 ? 4 : 8);
+        }
+        return offset;
+    }
+
+    /**
+     * @param channel the file channel
+     * @param mode the mapping mode
+     * @param size the number of ticks
+     * @param column the index of the column
+     * @return the little-endian mapping of the column
+     * @throws IOException if the column cannot be mapped
+     */
+    private static MappedByteBuffer mapColumn(FileChannel channel, FileChannel.MapMode mode, int size, int column) throws IOException {
+        long offset = columnOffset(size, column);
+        long length = columnOffset(size, column + 1) - offset;
+        MappedByteBuffer buffer = channel.map(mode, offset, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /**
+     * Mapped columns of a tick file.
+     */
+    private static class Columns {
+
+        private final DateTimeZone timeZone;
+
+        private final LongBuffer beginTimes;
+
+        private final LongBuffer endTimes;
+
+        private final DoubleBuffer openPrices;
+
+        private final DoubleBuffer maxPrices;
+
+        private final DoubleBuffer minPrices;
+
+        private final DoubleBuffer closePrices;
+
+        private final DoubleBuffer volumes;
+
+        private final DoubleBuffer amounts;
+
+        private final IntBuffer trades;
+
+        private final int size;
+
+        Columns(File file) throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                FileChannel channel = raf.getChannel();
+                if (channel.size() < HEADER_SIZE) {
+                    throw new IOException("Not a tick file: " + file);
+                }
+                ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                if (header.getInt() != MAGIC_NUMBER) {
+                    throw new IOException("Not a tick file: " + file);
+                }
+                int version = header.getInt();
+                if (version != FORMAT_VERSION) {
+                    throw new IOException("Unsupported tick file version: " + version);
+                }
+                size = header.getInt();
+                byte[] zoneIdBytes = new byte[header.getShort()];
+                header.get(zoneIdBytes);
+                timeZone = DateTimeZone.forID(new String(zoneIdBytes, ASCII));
+                if (size < 0 || channel.size() < fileLength(size)) {
+                    throw new IOException("Truncated tick file: " + file);
+                }
+
+                FileChannel.MapMode mode = FileChannel.MapMode.READ_ONLY;
+                beginTimes = mapColumn(channel, mode, size, 0).asLongBuffer();
+                endTimes = mapColumn(channel, mode, size, 1).asLongBuffer();
+                openPrices = mapColumn(channel, mode, size, 2).asDoubleBuffer();
+                maxPrices = mapColumn(channel, mode, size, 3).asDoubleBuffer();
+                minPrices = mapColumn(channel, mode, size, 4).asDoubleBuffer();
+                closePrices = mapColumn(channel, mode, size, 5).asDoubleBuffer();
+                volumes = mapColumn(channel, mode, size, 6).asDoubleBuffer();
+                amounts = mapColumn(channel, mode, size, 7).asDoubleBuffer();
+                trades = mapColumn(channel, mode, size, 8).asIntBuffer();
+            } finally {
+                // The mappings remain valid once the channel is closed
+                raf.close();
+            }
+        }
+
+        /**
+         * @param millis a time in milliseconds (or {@link MappedTimeSeries#NO_TIME})
+         * @return the corresponding date time in the time zone of the series (or null)
+         */
+        DateTime toDateTime(long millis) {
+            return millis == NO_TIME ? null : new DateTime(millis, timeZone);
+        }
+    }
+}
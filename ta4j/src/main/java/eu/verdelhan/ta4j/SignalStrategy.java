@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import java.util.BitSet;
+
+/**
+ * A trading {@link Strategy strategy} able to give its signals over a range of indexes, when it is stateless.
+ * <p>
+ * Bit <code>i</code> of a signal set is the recommendation at the index <code>from + i</code>.
+ * When the recommendation at an index does not depend on the previous calls, composite strategies
+ * can combine the signals of their sub-strategies with word-wide AND/OR/NOT operations.
+ */
+public interface SignalStrategy extends Strategy {
+
+    /**
+     * @return true if the recommendations do not depend on the previous calls, i.e. if the signals can be precomputed
+     *         (false e.g. for a composite strategy with a {@link eu.verdelhan.ta4j.strategies.StopLossStrategy stop loss} sub-strategy)
+     */
+    boolean isStateless();
+
+    /**
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @return the enter signals over the range (bit i for index from + i)
+     * @throws IllegalStateException if the strategy is not stateless
+     */
+    BitSet getEnterSignals(int from, int to);
+
+    /**
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @return the exit signals over the range (bit i for index from + i)
+     * @throws IllegalStateException if the strategy is not stateless
+     */
+    BitSet getExitSignals(int from, int to);
+}
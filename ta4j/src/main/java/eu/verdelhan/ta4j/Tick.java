@@ -166,8 +166,8 @@ public class Tick {
 
     @Override
     public String toString() {
-        return String.format("[time: %1$td/%1$tm/%1$tY %1$tH:%1$tM:%1$tS, close price: %2$f]", endTime
-                .toGregorianCalendar(), closePrice);
+        return String.format("[time: %1$td/%1$tm/%1$tY %1$tH:%1$tM:%1$tS, close price: %2$f]", getEndTime()
+                .toGregorianCalendar(), getClosePrice());
     }
 
     /**
@@ -175,20 +175,20 @@ public class Tick {
      * @return true if the provided timestamp is between the begin time and the end time of the current period, false otherwise
      */
     public boolean inPeriod(DateTime timestamp) {
-        return timestamp == null ? false : (!timestamp.isBefore(beginTime) && timestamp.isBefore(endTime));
+        return timestamp == null ? false : (!timestamp.isBefore(getBeginTime()) && timestamp.isBefore(getEndTime()));
     }
 
     /**
      * @return a human-friendly string of the end timestamp
      */
     public String getDateName() {
-        return endTime.toString("hh:mm dd/MM/yyyy");
+        return getEndTime().toString("hh:mm dd/MM/yyyy");
     }
 
     /**
      * @return a even more human-friendly string of the end timestamp
      */
     public String getSimpleDateName() {
-        return endTime.toString("dd/MM/yyyy");
+        return getEndTime().toString("dd/MM/yyyy");
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import org.joda.time.DateTime;
+
+/**
+ * Read-only {@link Tick tick} reading its values from the primitive accessors of a {@link TimeSeries time series}.
+ * <p>
+ * Used by the time series which do not store tick objects. Such series must override all the
+ * primitive accessors (e.g. {@link TimeSeries#getClosePrice(int)}).
+ */
+class TickView extends Tick {
+
+    private final TimeSeries series;
+
+    private final int index;
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param index the index of the tick in the series
+     */
+    TickView(TimeSeries series, int index) {
+        super(null, null);
+        this.series = series;
+        this.index = index;
+    }
+
+    @Override
+    public double getClosePrice() {
+        return series.getClosePrice(index);
+    }
+
+    @Override
+    public double getOpenPrice() {
+        return series.getOpenPrice(index);
+    }
+
+    @Override
+    public int getTrades() {
+        return series.getTrades(index);
+    }
+
+    @Override
+    public double getMaxPrice() {
+        return series.getMaxPrice(index);
+    }
+
+    @Override
+    public double getAmount() {
+        return series.getAmount(index);
+    }
+
+    @Override
+    public double getVolume() {
+        return series.getVolume(index);
+    }
+
+    @Override
+    public void addTrade(double tradeAmount, double tradePrice) {
+        throw new UnsupportedOperationException("Tick views are read-only");
+    }
+
+    @Override
+    public double getMinPrice() {
+        return series.getMinPrice(index);
+    }
+
+    @Override
+    public DateTime getBeginTime() {
+        return series.getBeginTime(index);
+    }
+
+    @Override
+    public DateTime getEndTime() {
+        return series.getEndTime(index);
+    }
+}
@@ -23,6 +23,8 @@
 package eu.verdelhan.ta4j;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import org.joda.time.DateTime;
 import org.joda.time.Interval;
@@ -60,6 +62,18 @@ public class TimeSeries {
         this.endIndex = endIndex;
     }
     
+    /**
+     * Constructor for subclasses which do not store their ticks in a list.
+     * <p>
+     * Such subclasses must override {@link #getTick(int)}, {@link #getTickCount()} and {@link #subseries(int, int)}.
+     * @param name the name of the series
+     * @param beginIndex the begin index (inclusive) of the time series
+     * @param endIndex the end index (inclusive) of the time series
+     */
+    protected TimeSeries(String name, int beginIndex, int endIndex) {
+        this(name, null, beginIndex, endIndex);
+    }
+
     /**
      * Constructor.
      * @param name the name of the series
@@ -92,11 +106,90 @@ public class TimeSeries {
         return ticks.get(i);
     }
 
+    /**
+     * @return the number of ticks backing the series (including the ones out of the begin/end indexes)
+     */
+    protected int getTickCount() {
+        return ticks.size();
+    }
+
+    /**
+     * @param i an index
+     * @return the begin time of the tick at the i position
+     */
+    public DateTime getBeginTime(int i) {
+        return getTick(i).getBeginTime();
+    }
+
+    /**
+     * @param i an index
+     * @return the end time of the tick at the i position
+     */
+    public DateTime getEndTime(int i) {
+        return getTick(i).getEndTime();
+    }
+
+    /**
+     * @param i an index
+     * @return the open price of the tick at the i position
+     */
+    public double getOpenPrice(int i) {
+        return getTick(i).getOpenPrice();
+    }
+
+    /**
+     * @param i an index
+     * @return the max price of the tick at the i position
+     */
+    public double getMaxPrice(int i) {
+        return getTick(i).getMaxPrice();
+    }
+
+    /**
+     * @param i an index
+     * @return the min price of the tick at the i position
+     */
+    public double getMinPrice(int i) {
+        return getTick(i).getMinPrice();
+    }
+
+    /**
+     * @param i an index
+     * @return the close price of the tick at the i position
+     */
+    public double getClosePrice(int i) {
+        return getTick(i).getClosePrice();
+    }
+
+    /**
+     * @param i an index
+     * @return the traded volume of the tick at the i position
+     */
+    public double getVolume(int i) {
+        return getTick(i).getVolume();
+    }
+
+    /**
+     * @param i an index
+     * @return the traded amount of the tick at the i position
+     */
+    public double getAmount(int i) {
+        return getTick(i).getAmount();
+    }
+
+    /**
+     * @param i an index
+     * @return the number of trades of the tick at the i position
+     */
+    public int getTrades(int i) {
+        return getTick(i).getTrades();
+    }
+
     /**
      * @return the number of ticks in the series
      */
     public int getSize() {
-        return (endIndex - beginIndex) + 1;
+        return (getEnd() - getBegin()) + 1;
     }
 
     /**
@@ -113,6 +206,34 @@ public class TimeSeries {
         return endIndex;
     }
 
+    /**
+     * @return the maximum number of ticks retained by the series (Integer.MAX_VALUE if unbounded)
+     */
+    public int getMaximumTickCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of ticks removed from the series (e.g. evicted from a bounded series).
+     * <p>
+     * It is also the index of the oldest tick which can still be read: indicators are computed from this index.
+     * @return the number of ticks removed since the creation of the series
+     */
+    public int getRemovedTickCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of amendments of the last tick of the series.
+     * <p>
+     * Only the last tick of a series can be amended (e.g. while it is still forming on a live feed).
+     * Cached indicators compare this count with the one they have seen to invalidate their last values.
+     * @return the number of amendments of the last tick since the creation of the series
+     */
+    public int getModificationCount() {
+        return 0;
+    }
+
     /**
      * Returns a new time series which is a view of a subset of the current series.
      * <p>
@@ -138,15 +259,15 @@ public class TimeSeries {
     public TimeSeries subseries(int beginIndex, Period duration) {
         
         // Calculating the sub-series interval
-        DateTime beginInterval = ticks.get(beginIndex).getEndTime();
+        DateTime beginInterval = getEndTime(beginIndex);
         DateTime endInterval = beginInterval.plus(duration);
         Interval subseriesInterval = new Interval(beginInterval, endInterval);
 
         // Checking ticks belonging to the sub-series (starting at the provided index)
         int subseriesNbTicks = 0;
-        for (int i = beginIndex; i <= endIndex; i++) {
+        for (int i = beginIndex; i <= getEnd(); i++) {
             // For each tick...
-            DateTime tickTime = ticks.get(i).getEndTime();
+            DateTime tickTime = getEndTime(i);
             if (!subseriesInterval.contains(tickTime)) {
                 // Tick out of the interval
                 break;
@@ -168,10 +289,10 @@ public class TimeSeries {
      */
     public List<TimeSeries> split(int nbTicks) {
         ArrayList<TimeSeries> subseries = new ArrayList<TimeSeries>();
-        for (int i = beginIndex; i <= endIndex; i += nbTicks) {
+        for (int i = getBegin(); i <= getEnd(); i += nbTicks) {
             // For each nbTicks ticks
             int subseriesBegin = i;
-            int subseriesEnd = Math.min(subseriesBegin + nbTicks - 1, endIndex);
+            int subseriesEnd = Math.min(subseriesBegin + nbTicks - 1, getEnd());
             subseries.add(subseries(subseriesBegin, subseriesEnd));
         }
         return subseries;
@@ -226,37 +347,130 @@ public class TimeSeries {
      * @return a list of trades
      */
     public List<Trade> run(Strategy strategy, OperationType operationType) {
+        return run(Collections.singletonList(strategy), operationType).get(0);
+    }
 
-        List<Trade> trades = new ArrayList<Trade>();
+    /**
+     * Runs several strategies over the series, in a single pass.
+     * Opens the trades with {@link OperationType.BUY} operations.
+     * @param strategies the trading strategies
+     * @return the lists of trades of the strategies (in the same order)
+     */
+    public List<List<Trade>> run(List<? extends Strategy> strategies) {
+        return run(strategies, OperationType.BUY);
+    }
+
+    /**
+     * Runs several strategies over the series, in a single pass.
+     * <p>
+     * All the strategies are advanced tick by tick in the same loop (each one with its own trade),
+     * so the indicators they share are computed once, while their values are still in the CPU caches.
+     * The trades are the same as the ones of separate {@link #run(Strategy, OperationType) runs}.
+     * @param strategies the trading strategies
+     * @param operationType the {@link OperationType} used to open the trades
+     * @return the lists of trades of the strategies (in the same order)
+     */
+    public List<List<Trade>> run(List<? extends Strategy> strategies, OperationType operationType) {
+
+        final int nbStrategies = strategies.size();
+        Strategy[] strategyArray = strategies.toArray(new Strategy[nbStrategies]);
+        List<List<Trade>> trades = new ArrayList<List<Trade>>(nbStrategies);
+        Trade[] lastTrades = new Trade[nbStrategies];
+        for (int s = 0; s < nbStrategies; s++) {
+            trades.add(new ArrayList<Trade>());
+            lastTrades[s] = new Trade(operationType);
+        }
 
-        Trade lastTrade = new Trade(operationType);
-        for (int i = beginIndex; i <= endIndex; i++) {
+        for (int i = getBegin(); i <= getEnd(); i++) {
             // For each tick in the sub-series...
-            if (strategy.shouldOperate(lastTrade, i)) {
-                lastTrade.operate(i);
-                if (lastTrade.isClosed()) {
-                    // Adding the trade when closed
-                    trades.add(lastTrade);
-                    lastTrade = new Trade(operationType);
+            for (int s = 0; s < nbStrategies; s++) {
+                // For each strategy...
+                Trade lastTrade = lastTrades[s];
+                if (strategyArray[s].shouldOperate(lastTrade, i)) {
+                    lastTrade.operate(i);
+                    if (lastTrade.isClosed()) {
+                        // Adding the trade when closed
+                        trades.get(s).add(lastTrade);
+                        lastTrades[s] = new Trade(operationType);
+                    }
                 }
             }
         }
 
-        if (lastTrade.isOpened()) {
-            // If the last trade is still opened, we search out of the end index.
-            // May works if the current series is a sub-series (but not the last sub-series).
-            for (int i = endIndex + 1; i < ticks.size(); i++) {
-                // For each tick out of sub-series bound...
-                // --> Trying to close the last trade
-                if (strategy.shouldOperate(lastTrade, i)) {
-                    lastTrade.operate(i);
-                    break;
+        for (int s = 0; s < nbStrategies; s++) {
+            Trade lastTrade = lastTrades[s];
+            if (lastTrade.isOpened()) {
+                // If the last trade is still opened, we search out of the end index.
+                // May works if the current series is a sub-series (but not the last sub-series).
+                for (int i = getEnd() + 1; i < getTickCount(); i++) {
+                    // For each tick out of sub-series bound...
+                    // --> Trying to close the last trade
+                    if (strategyArray[s].shouldOperate(lastTrade, i)) {
+                        lastTrade.operate(i);
+                        break;
+                    }
+                }
+                if (lastTrade.isClosed()) {
+                    // Last trade added only if it has been closed finally
+                    trades.get(s).add(lastTrade);
                 }
             }
-            if (lastTrade.isClosed()) {
-                // Last trade added only if it has been closed finally
-                trades.add(lastTrade);
+        }
+        return trades;
+    }
+
+    /**
+     * Runs a strategy over the series, from its precomputed signals if it is stateless.
+     * Opens the trades with {@link OperationType.BUY} operations.
+     * @param strategy the trading strategy
+     * @return a list of trades
+     */
+    public List<Trade> runSignals(SignalStrategy strategy) {
+        return runSignals(strategy, OperationType.BUY);
+    }
+
+    /**
+     * Runs a strategy over the series, from its precomputed signals if it is stateless.
+     * <p>
+     * The enter and exit signals are computed once over the whole series, then the trades are
+     * found by jumping from one set bit to the next one.
+     * The trades are the same as the ones of a {@link #run(Strategy, OperationType) run}, which is used
+     * when the strategy is not {@link SignalStrategy#isStateless() stateless}.
+     * @param strategy the trading strategy
+     * @param operationType the {@link OperationType} used to open the trades
+     * @return a list of trades
+     */
+    public List<Trade> runSignals(SignalStrategy strategy, OperationType operationType) {
+        if (!strategy.isStateless()) {
+            // e.g. a stop loss sub-strategy: the recommendations depend on the previous calls
+            return run(strategy, operationType);
+        }
+        List<Trade> trades = new ArrayList<Trade>();
+        if (getEnd() < getBegin()) {
+            return trades;
+        }
+        BitSet enterSignals = strategy.getEnterSignals(getBegin(), getEnd());
+        BitSet exitSignals = strategy.getExitSignals(getBegin(), getEnd());
+
+        int entry = enterSignals.nextSetBit(0);
+        while (entry >= 0) {
+            Trade trade = new Trade(operationType);
+            trade.operate(getBegin() + entry);
+            int exit = exitSignals.nextSetBit(entry + 1);
+            if (exit < 0) {
+                // No exit in the series, we search out of the end index (as in a tick by tick run)
+                for (int i = getEnd() + 1; i < getTickCount(); i++) {
+                    if (strategy.shouldExit(i)) {
+                        trade.operate(i);
+                        trades.add(trade);
+                        break;
+                    }
+                }
+                break;
             }
+            trade.operate(getBegin() + exit);
+            trades.add(trade);
+            entry = enterSignals.nextSetBit(exit + 1);
         }
         return trades;
     }
@@ -265,16 +479,16 @@ public class TimeSeries {
      * @return the period name of the series (e.g. "from 12:00 21/01/2014 to 12:15 21/01/2014")
      */
     public String getPeriodName() {
-        return ticks.get(beginIndex).getEndTime().toString("hh:mm dd/MM/yyyy - ")
-                + ticks.get(endIndex).getEndTime().toString("hh:mm dd/MM/yyyy");
+        return getEndTime(getBegin()).toString("hh:mm dd/MM/yyyy - ")
+                + getEndTime(getEnd()).toString("hh:mm dd/MM/yyyy");
     }
 
     /**
      * @return the period of the series
      */
     public Period getPeriod() {
-        final long firstTickPeriod = ticks.get(beginIndex + 1).getEndTime().getMillis() - ticks.get(beginIndex).getEndTime().getMillis();
-        final long secondTickPeriod = ticks.get(beginIndex + 2).getEndTime().getMillis() - ticks.get(beginIndex + 1).getEndTime().getMillis();
+        final long firstTickPeriod = getEndTime(getBegin() + 1).getMillis() - getEndTime(getBegin()).getMillis();
+        final long secondTickPeriod = getEndTime(getBegin() + 2).getMillis() - getEndTime(getBegin() + 1).getMillis();
         Period period = new Period(Math.min(firstTickPeriod, secondTickPeriod));
         assert !Period.ZERO.equals(period) : "Period should not be zero";
         return period;
@@ -289,16 +503,16 @@ public class TimeSeries {
         ArrayList<Integer> beginIndexes = new ArrayList<Integer>();
 
         // Adding the first begin index
-        beginIndexes.add(beginIndex);
+        beginIndexes.add(getBegin());
 
         // Building the first interval before next split
-        DateTime beginInterval = ticks.get(beginIndex).getEndTime();
+        DateTime beginInterval = getEndTime(getBegin());
         DateTime endInterval = beginInterval.plus(splitDuration);
         Interval splitInterval = new Interval(beginInterval, endInterval);
 
-        for (int i = beginIndex; i <= endIndex; i++) {
+        for (int i = getBegin(); i <= getEnd(); i++) {
             // For each tick...
-            DateTime tickTime = ticks.get(i).getEndTime();
+            DateTime tickTime = getEndTime(i);
             if (!splitInterval.contains(tickTime)) {
                 // Tick out of the interval
                 if (!endInterval.isAfter(tickTime)) {
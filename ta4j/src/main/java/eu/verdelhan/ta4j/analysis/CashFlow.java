@@ -22,7 +22,7 @@
  */
 package eu.verdelhan.ta4j.analysis;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.OperationType;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
@@ -35,7 +35,7 @@ import java.util.List;
  * <p>
  * This class allows to follow the money cash flow involved by a list of trades over a time series.
  */
-public class CashFlow implements Indicator<Double> {
+public class CashFlow implements DoubleIndicator {
 
     /** The time series */
     private final TimeSeries timeSeries;
@@ -67,6 +67,21 @@ public class CashFlow implements Indicator<Double> {
         return values.get(index);
     }
 
+    @Override
+    public double getDouble(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        if (from < 0 || to < from || values.length < to - from + 1) {
+            throw new IllegalArgumentException("Invalid range: " + from + " to " + to + " for " + values.length + " values");
+        }
+        for (int i = from; i <= to; i++) {
+            values[i - from] = this.values.get(i);
+        }
+    }
+
     /**
      * @return the size of the time series
      */
@@ -89,9 +104,9 @@ public class CashFlow implements Indicator<Double> {
             for (int i = Math.max(begin, 1); i <= end; i++) {
                 double ratio;
                 if (trade.getEntry().getType().equals(OperationType.BUY)) {
-                    ratio = timeSeries.getTick(i).getClosePrice() / timeSeries.getTick(trade.getEntry().getIndex()).getClosePrice();
+                    ratio = timeSeries.getClosePrice(i) / timeSeries.getClosePrice(trade.getEntry().getIndex());
                 } else {
-                    ratio = timeSeries.getTick(trade.getEntry().getIndex()).getClosePrice() / timeSeries.getTick(i).getClosePrice();
+                    ratio = timeSeries.getClosePrice(trade.getEntry().getIndex()) / timeSeries.getClosePrice(i);
                 }
                 values.add(values.get(trade.getEntry().getIndex()) * ratio);
             }
@@ -44,6 +44,12 @@ public class Decision {
 
     private TimeSeries series;
 
+    /** Value of the criterion for the trades (memoized) */
+    private double criterionValue;
+
+    /** True if the criterion value has been calculated */
+    private boolean criterionEvaluated;
+
     public Decision(Strategy bestStrategy, TimeSeries series, AnalysisCriterion criterion) {
         this(bestStrategy, series, criterion, series.run(bestStrategy));
     }
@@ -55,8 +61,29 @@ public class Decision {
         this.trades = trades;
     }
 
+    /**
+     * Constructor of a decision whose criterion value is already known.
+     * @param bestStrategy the best strategy
+     * @param series the time series
+     * @param criterion the analysis criterion
+     * @param trades the trades of the best strategy over the series
+     * @param criterionValue the value of the criterion for the trades
+     */
+    public Decision(Strategy bestStrategy, TimeSeries series, AnalysisCriterion criterion, List<Trade> trades, double criterionValue) {
+        this(bestStrategy, series, criterion, trades);
+        this.criterionValue = criterionValue;
+        this.criterionEvaluated = true;
+    }
+
+    /**
+     * @return the value of the criterion for the trades (calculated once)
+     */
     public double evaluateCriterion() {
-        return criterion.calculate(series, trades);
+        if (!criterionEvaluated) {
+            criterionValue = criterion.calculate(series, trades);
+            criterionEvaluated = true;
+        }
+        return criterionValue;
     }
 
     public double evaluateCriterion(AnalysisCriterion otherCriterion) {
@@ -26,9 +26,14 @@ import eu.verdelhan.ta4j.AnalysisCriterion;
 import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.analysis.ConcurrentAnalysis;
 import eu.verdelhan.ta4j.analysis.Decision;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 /**
  * An abstract analysis criterion.
@@ -47,18 +52,60 @@ public abstract class AbstractAnalysisCriterion implements AnalysisCriterion {
     @Override
     public Decision chooseBest(TimeSeries series, List<Strategy> strategies) {
         Strategy bestStrategy = strategies.get(0);
-        double bestCriterionValue = calculate(series, series.run(bestStrategy));
+        List<Trade> bestTrades = series.run(bestStrategy);
+        double bestCriterionValue = calculate(series, bestTrades);
 
         for (int i = 1; i < strategies.size(); i++) {
             Strategy currentStrategy = strategies.get(i);
-            double currentCriterionValue = calculate(series, series.run(currentStrategy));
+            List<Trade> currentTrades = series.run(currentStrategy);
+            double currentCriterionValue = calculate(series, currentTrades);
 
             if (betterThan(currentCriterionValue, bestCriterionValue)) {
                 bestStrategy = currentStrategy;
+                bestTrades = currentTrades;
                 bestCriterionValue = currentCriterionValue;
             }
         }
-        return new Decision(bestStrategy, series, this);
+        // The trades and the value of the best strategy are reused (no additional run)
+        return new Decision(bestStrategy, series, this, bestTrades, bestCriterionValue);
+    }
+
+    /**
+     * Evaluates the strategies concurrently, then chooses the best one as {@link #chooseBest(TimeSeries, List)} does
+     * (i.e. the first of the strategies with the best value).
+     * <p>
+     * The strategies must not share any indicator, since they are run concurrently: strategies built from a shared
+     * {@link eu.verdelhan.ta4j.indicators.IndicatorRegistry indicator registry} must not be passed with an executor
+     * (see {@link eu.verdelhan.ta4j.analysis.optimization.WalkForwardOptimizer} for a parallel evaluation of such strategies).
+     * @param series the time series
+     * @param strategies a list of strategies
+     * @param executor the executor the strategies are run by
+     * @return the best strategy (among the provided ones) according to the criterion
+     */
+    public Decision chooseBest(final TimeSeries series, List<Strategy> strategies, Executor executor) {
+        // Running and evaluating the strategies concurrently
+        List<FutureTask<Decision>> evaluations = new ArrayList<FutureTask<Decision>>(strategies.size());
+        for (final Strategy strategy : strategies) {
+            FutureTask<Decision> evaluation = new FutureTask<Decision>(new Callable<Decision>() {
+                @Override
+                public Decision call() {
+                    List<Trade> trades = series.run(strategy);
+                    return new Decision(strategy, series, AbstractAnalysisCriterion.this, trades, calculate(series, trades));
+                }
+            });
+            evaluations.add(evaluation);
+            executor.execute(evaluation);
+        }
+
+        // Choosing the best strategy in order (same tie-breaking as the serial version)
+        Decision bestDecision = ConcurrentAnalysis.getResult(evaluations.get(0));
+        for (int i = 1; i < evaluations.size(); i++) {
+            Decision currentDecision = ConcurrentAnalysis.getResult(evaluations.get(i));
+            if (betterThan(currentDecision.evaluateCriterion(), bestDecision.evaluateCriterion())) {
+                bestDecision = currentDecision;
+            }
+        }
+        return bestDecision;
     }
 
     @Override
@@ -42,10 +42,10 @@ public class AverageProfitableTradesCriterion extends AbstractAnalysisCriterion
         double result;
         if (trade.getEntry().getType() == OperationType.BUY) {
             // buy-then-sell trade
-            result = series.getTick(exitIndex).getClosePrice() / series.getTick(entryIndex).getClosePrice();
+            result = series.getClosePrice(exitIndex) / series.getClosePrice(entryIndex);
         } else {
             // sell-then-buy trade
-            result = series.getTick(entryIndex).getClosePrice() / series.getTick(exitIndex).getClosePrice();
+            result = series.getClosePrice(entryIndex) / series.getClosePrice(exitIndex);
         }
 
         return (result > 1d) ? 1d : 0d;
@@ -61,10 +61,10 @@ public class AverageProfitableTradesCriterion extends AbstractAnalysisCriterion
             double result;
             if (trade.getEntry().getType() == OperationType.BUY) {
                 // buy-then-sell trade
-                result = series.getTick(exitIndex).getClosePrice() / series.getTick(entryIndex).getClosePrice();
+                result = series.getClosePrice(exitIndex) / series.getClosePrice(entryIndex);
             } else {
                 // sell-then-buy trade
-                result = series.getTick(entryIndex).getClosePrice() / series.getTick(exitIndex).getClosePrice();
+                result = series.getClosePrice(entryIndex) / series.getClosePrice(exitIndex);
             }
             if (result > 1d) {
                 numberOfProfitable++;
@@ -38,7 +38,7 @@ public class BuyAndHoldCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(TimeSeries series, List<Trade> trades) {
-        return series.getTick(series.getEnd()).getClosePrice() / series.getTick(series.getBegin()).getClosePrice();
+        return series.getClosePrice(series.getEnd()) / series.getClosePrice(series.getBegin());
     }
 
     @Override
@@ -52,9 +52,9 @@ public class BuyAndHoldCriterion extends AbstractAnalysisCriterion {
         int exitIndex = trade.getExit().getIndex();
 
         if (trade.getEntry().getType() == OperationType.BUY) {
-            return series.getTick(exitIndex).getClosePrice() / series.getTick(entryIndex).getClosePrice();
+            return series.getClosePrice(exitIndex) / series.getClosePrice(entryIndex);
         } else {
-            return series.getTick(entryIndex).getClosePrice() / series.getTick(exitIndex).getClosePrice();
+            return series.getClosePrice(entryIndex) / series.getClosePrice(exitIndex);
         }
     }
 
@@ -62,8 +62,8 @@ public class TotalProfitCriterion extends AbstractAnalysisCriterion {
     private double calculateProfit(TimeSeries series, Trade trade) {
         double profit = 1d;
         if (trade.isClosed()) {
-            double exitClosePrice = series.getTick(trade.getExit().getIndex()).getClosePrice();
-            double entryClosePrice = series.getTick(trade.getEntry().getIndex()).getClosePrice();
+            double exitClosePrice = series.getClosePrice(trade.getExit().getIndex());
+            double entryClosePrice = series.getClosePrice(trade.getEntry().getIndex());
 
             if (trade.getEntry().getType() == OperationType.BUY) {
                 profit = exitClosePrice / entryClosePrice;
@@ -0,0 +1,66 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.Indicator;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of indicators, shared between the strategies built by a {@link StrategyFactory strategy factory}.
+ * <p>
+ * Indicators are stored by key (e.g. a name and the values of the parameters they depend on).
+ * A cache is used by one thread at a time, so the indicators (and their cached values) are never shared between threads.
+ */
+public class IndicatorCache {
+
+    private final Map<List<Object>, Indicator<?>> indicators = new HashMap<List<Object>, Indicator<?>>();
+
+    /**
+     * @param key the key of the indicator (e.g. "sma", 14)
+     * @return the indicator stored with the key, or null if none
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Indicator<?>> T get(Object... key) {
+        return (T) indicators.get(Arrays.asList(key));
+    }
+
+    /**
+     * @param indicator the indicator to be stored
+     * @param key the key of the indicator (e.g. "sma", 14)
+     * @return the stored indicator
+     */
+    public <T extends Indicator<?>> T put(T indicator, Object... key) {
+        indicators.put(Arrays.asList(key), indicator);
+        return indicator;
+    }
+
+    /**
+     * @return the number of indicators in the cache
+     */
+    public int size() {
+        return indicators.size();
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Result of the evaluation of a set of parameters by the {@link StrategyOptimizer strategy optimizer}.
+ */
+public class OptimizationResult {
+
+    private final int[] parameters;
+
+    private final double value;
+
+    /**
+     * Constructor.
+     * @param parameters the values of the parameters
+     * @param value the criterion value of the strategy built with the parameters
+     */
+    public OptimizationResult(int[] parameters, double value) {
+        this.parameters = parameters;
+        this.value = value;
+    }
+
+    /**
+     * @return the values of the parameters
+     */
+    public int[] getParameters() {
+        return parameters.clone();
+    }
+
+    /**
+     * @param i the index of a parameter
+     * @return the value of the i-th parameter
+     */
+    public int getParameter(int i) {
+        return parameters[i];
+    }
+
+    /**
+     * @return the criterion value of the strategy built with the parameters
+     */
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[parameters %s, value %.3f]", Arrays.toString(parameters), value);
+    }
+}
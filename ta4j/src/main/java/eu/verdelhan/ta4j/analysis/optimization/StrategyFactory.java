@@ -0,0 +1,46 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+
+/**
+ * A factory of {@link Strategy strategies}, for the {@link StrategyOptimizer strategy optimizer}.
+ */
+public interface StrategyFactory {
+
+    /**
+     * Builds the strategy for a set of parameters.
+     * <p>
+     * The indicators depending on a subset of the parameters should be taken from (or put into) the indicator cache,
+     * so they are shared between the strategies built with the same values of these parameters.
+     * They must not be taken from an {@link eu.verdelhan.ta4j.indicators.IndicatorRegistry indicator registry} shared between the calls,
+     * since the strategies may be run concurrently.
+     * @param series the time series
+     * @param parameters the values of the parameters (in the order of the optimizer ranges)
+     * @param cache the indicator cache
+     * @return the strategy
+     */
+    Strategy buildStrategy(TimeSeries series, int[] parameters, IndicatorCache cache);
+}
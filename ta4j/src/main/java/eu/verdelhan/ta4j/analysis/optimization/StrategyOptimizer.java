@@ -0,0 +1,203 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.analysis.ConcurrentAnalysis;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Optimizer of the parameters of a {@link Strategy strategy}.
+ * <p>
+ * Evaluates the strategies built by a {@link StrategyFactory strategy factory} for every point of a grid of integer parameters
+ * (e.g. time frames), and ranks the points according to an {@link AnalysisCriterion analysis criterion}.
+ * <p>
+ * The grid is split into one task per value of the first parameter. Each task has its own {@link IndicatorCache indicator cache},
+ * so the tasks can be run in parallel by an executor (e.g. a ForkJoinPool) without sharing any indicator between threads.
+ * The first parameter should thus be the one with the most values.
+ */
+public class StrategyOptimizer {
+
+    private final TimeSeries series;
+
+    private final StrategyFactory factory;
+
+    private final int[][] parameterValues;
+
+    /**
+     * Constructor.
+     * @param series the time series the strategies are run over
+     * @param factory the strategy factory
+     * @param parameterValues the values of each parameter (see {@link #range(int, int, int)})
+     */
+    public StrategyOptimizer(TimeSeries series, StrategyFactory factory, int[]... parameterValues) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series cannot be null");
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("Strategy factory cannot be null");
+        }
+        if (parameterValues.length == 0) {
+            throw new IllegalArgumentException("At least one parameter is needed");
+        }
+        for (int[] values : parameterValues) {
+            if (values == null || values.length == 0) {
+                throw new IllegalArgumentException("Each parameter must have at least one value");
+            }
+        }
+        this.series = series;
+        this.factory = factory;
+        this.parameterValues = parameterValues;
+    }
+
+    /**
+     * @param from the first value (inclusive)
+     * @param to the last value (inclusive)
+     * @param step the step between two values
+     * @return the values from, from + step, ... up to to
+     */
+    public static int[] range(int from, int to, int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Step must be strictly positive");
+        }
+        if (to < from) {
+            throw new IllegalArgumentException("Last value cannot be lower than first value");
+        }
+        int[] values = new int[(to - from) / step + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+
+    /**
+     * Evaluates the grid in the calling thread.
+     * @param criterion the analysis criterion
+     * @return the results for every point of the grid, from the best to the worst
+     */
+    public List<OptimizationResult> optimize(AnalysisCriterion criterion) {
+        return optimize(criterion, null);
+    }
+
+    /**
+     * Evaluates the grid.
+     * @param criterion the analysis criterion
+     * @param executor the executor the tasks are run by (null to run them in the calling thread)
+     * @return the results for every point of the grid, from the best to the worst (in grid order for equal values)
+     */
+    public List<OptimizationResult> optimize(final AnalysisCriterion criterion, ExecutorService executor) {
+        if (criterion == null) {
+            throw new IllegalArgumentException("Criterion cannot be null");
+        }
+        List<OptimizationResult> results = new ArrayList<OptimizationResult>();
+        if (executor == null) {
+            for (int firstValue : parameterValues[0]) {
+                results.addAll(evaluate(criterion, firstValue));
+            }
+        } else {
+            List<Future<List<OptimizationResult>>> futures = new ArrayList<Future<List<OptimizationResult>>>();
+            for (final int firstValue : parameterValues[0]) {
+                futures.add(executor.submit(new Callable<List<OptimizationResult>>() {
+                    @Override
+                    public List<OptimizationResult> call() {
+                        return evaluate(criterion, firstValue);
+                    }
+                }));
+            }
+            for (Future<List<OptimizationResult>> future : futures) {
+                results.addAll(ConcurrentAnalysis.getResult(future));
+            }
+        }
+        Collections.sort(results, new Comparator<OptimizationResult>() {
+            @Override
+            public int compare(OptimizationResult result1, OptimizationResult result2) {
+                return compareValues(criterion, result1.getValue(), result2.getValue());
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Evaluates the points of the grid with the provided value of the first parameter.
+     * @param criterion the analysis criterion
+     * @param firstValue the value of the first parameter
+     * @return the results, in grid order
+     */
+    private List<OptimizationResult> evaluate(AnalysisCriterion criterion, int firstValue) {
+        List<OptimizationResult> results = new ArrayList<OptimizationResult>();
+        IndicatorCache cache = new IndicatorCache();
+        int[] positions = new int[parameterValues.length];
+        boolean done = false;
+        while (!done) {
+            int[] parameters = new int[parameterValues.length];
+            parameters[0] = firstValue;
+            for (int i = 1; i < parameters.length; i++) {
+                parameters[i] = parameterValues[i][positions[i]];
+            }
+            Strategy strategy = factory.buildStrategy(series, parameters.clone(), cache);
+            List<Trade> trades = series.run(strategy);
+            results.add(new OptimizationResult(parameters, criterion.calculate(series, trades)));
+
+            // Moving to the next point (the last parameter varies the fastest)
+            done = true;
+            for (int i = parameters.length - 1; i > 0 && done; i--) {
+                positions[i]++;
+                if (positions[i] < parameterValues[i].length) {
+                    done = false;
+                } else {
+                    positions[i] = 0;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param criterion the analysis criterion
+     * @param value1 the first value
+     * @param value2 the second value
+     * @return a negative integer if the first value is better, a positive one if the second value is better, 0 otherwise
+     */
+    private static int compareValues(AnalysisCriterion criterion, double value1, double value2) {
+        // NaN values are the worst ones
+        if (Double.isNaN(value1) || Double.isNaN(value2)) {
+            return Double.isNaN(value1) ? (Double.isNaN(value2) ? 0 : 1) : -1;
+        }
+        if (criterion.betterThan(value1, value2)) {
+            return -1;
+        }
+        if (criterion.betterThan(value2, value1)) {
+            return 1;
+        }
+        return 0;
+    }
+}
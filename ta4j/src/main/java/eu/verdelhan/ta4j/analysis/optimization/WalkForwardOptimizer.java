@@ -0,0 +1,322 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.Trade;
+import eu.verdelhan.ta4j.analysis.ConcurrentAnalysis;
+import eu.verdelhan.ta4j.analysis.Decision;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.joda.time.Period;
+
+/**
+ * Walk-forward optimizer.
+ * <p>
+ * The time series is split into in-sample slices (see {@link TimeSeries#split(Period, Period)}). For each slice, the best strategy
+ * is chosen according to an {@link AnalysisCriterion analysis criterion}, then evaluated over the out-of-sample period which follows the slice.
+ * <p>
+ * Each strategy is run once per slice: its trades are used both to score it and to build the in-sample {@link Decision decision}.
+ * When an executor is provided, the optimization is run in parallel:
+ * <ul>
+ * <li>with a list of strategies, there is one task per strategy, over all the slices. Thus the strategies must not share any indicator:
+ * strategies built from a shared {@link eu.verdelhan.ta4j.indicators.IndicatorRegistry indicator registry} must not be passed with an executor;
+ * <li>with a {@link StrategyListFactory strategy list factory}, the slices are split into contiguous chunks, one task per chunk.
+ * Each task builds its own strategies, which may share their indicators: they are run together in a single loop
+ * (see {@link TimeSeries#run(List)}).
+ * </ul>
+ * @see http://en.wikipedia.org/wiki/Walk_forward_optimization
+ */
+public class WalkForwardOptimizer {
+
+    private final TimeSeries series;
+
+    private final List<Strategy> strategies;
+
+    private final StrategyListFactory factory;
+
+    private final AnalysisCriterion criterion;
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param strategies the strategies (built over the whole series)
+     * @param criterion the analysis criterion used to choose the best strategy
+     */
+    public WalkForwardOptimizer(TimeSeries series, List<Strategy> strategies, AnalysisCriterion criterion) {
+        this(series, strategies, null, criterion);
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy is needed");
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param series the time series
+     * @param factory the factory of the strategies (built over the whole series, once per task)
+     * @param criterion the analysis criterion used to choose the best strategy
+     */
+    public WalkForwardOptimizer(TimeSeries series, StrategyListFactory factory, AnalysisCriterion criterion) {
+        this(series, null, factory, criterion);
+        if (factory == null) {
+            throw new IllegalArgumentException("Strategy list factory cannot be null");
+        }
+    }
+
+    private WalkForwardOptimizer(TimeSeries series, List<Strategy> strategies, StrategyListFactory factory,
+            AnalysisCriterion criterion) {
+        if (series == null) {
+            throw new IllegalArgumentException("Series cannot be null");
+        }
+        if (criterion == null) {
+            throw new IllegalArgumentException("Criterion cannot be null");
+        }
+        this.series = series;
+        this.strategies = (strategies == null) ? null : new ArrayList<Strategy>(strategies);
+        this.factory = factory;
+        this.criterion = criterion;
+    }
+
+    /**
+     * Runs the walk-forward optimization in the calling thread.
+     * @param splitDuration the duration between the beginnings of 2 in-sample slices
+     * @param inSampleDuration the duration of each in-sample slice
+     * @param outOfSampleDuration the duration of each out-of-sample period
+     * @return the steps of the optimization (one per in-sample slice)
+     */
+    public List<WalkForwardStep> run(Period splitDuration, Period inSampleDuration, Period outOfSampleDuration) {
+        return run(splitDuration, inSampleDuration, outOfSampleDuration, null);
+    }
+
+    /**
+     * Runs the walk-forward optimization.
+     * <p>
+     * With a list of strategies, the strategies must not share any indicator if an executor is provided
+     * (e.g. they must not be built from a shared {@link eu.verdelhan.ta4j.indicators.IndicatorRegistry indicator registry}).
+     * With a {@link StrategyListFactory strategy list factory}, the slices are split into as many chunks as available processors.
+     * @param splitDuration the duration between the beginnings of 2 in-sample slices
+     * @param inSampleDuration the duration of each in-sample slice
+     * @param outOfSampleDuration the duration of each out-of-sample period
+     * @param executor the executor the tasks are run by (null to run them in the calling thread)
+     * @return the steps of the optimization (one per in-sample slice)
+     */
+    public List<WalkForwardStep> run(Period splitDuration, Period inSampleDuration, Period outOfSampleDuration,
+            ExecutorService executor) {
+        List<TimeSeries> slices = series.split(splitDuration, inSampleDuration);
+        if (factory != null) {
+            return runByChunks(slices, outOfSampleDuration, executor);
+        }
+        return runByStrategies(slices, outOfSampleDuration, executor);
+    }
+
+    /**
+     * Runs the walk-forward optimization with one task per strategy.
+     * @param slices the in-sample slices
+     * @param outOfSampleDuration the duration of each out-of-sample period
+     * @param executor the executor the tasks are run by (null to run them in the calling thread)
+     * @return the steps of the optimization (one per in-sample slice)
+     */
+    private List<WalkForwardStep> runByStrategies(final List<TimeSeries> slices, Period outOfSampleDuration,
+            ExecutorService executor) {
+        final double[][] inSampleValues = new double[slices.size()][strategies.size()];
+
+        // Running each strategy over the in-sample slices
+        List<Callable<List<List<Trade>>>> inSampleTasks = new ArrayList<Callable<List<List<Trade>>>>();
+        for (int i = 0; i < strategies.size(); i++) {
+            final int strategyIndex = i;
+            inSampleTasks.add(new Callable<List<List<Trade>>>() {
+                @Override
+                public List<List<Trade>> call() {
+                    Strategy strategy = strategies.get(strategyIndex);
+                    List<List<Trade>> tradesBySlice = new ArrayList<List<Trade>>(slices.size());
+                    for (int j = 0; j < slices.size(); j++) {
+                        TimeSeries slice = slices.get(j);
+                        List<Trade> trades = slice.run(strategy);
+                        inSampleValues[j][strategyIndex] = criterion.calculate(slice, trades);
+                        tradesBySlice.add(trades);
+                    }
+                    return tradesBySlice;
+                }
+            });
+        }
+        List<List<List<Trade>>> inSampleTrades = invokeAll(inSampleTasks, executor);
+
+        // Choosing the best strategy of each slice
+        final List<WalkForwardStep> steps = new ArrayList<WalkForwardStep>(slices.size());
+        for (int j = 0; j < slices.size(); j++) {
+            TimeSeries slice = slices.get(j);
+            int bestStrategyIndex = getBestStrategyIndex(inSampleValues[j]);
+            Decision inSampleDecision = new Decision(strategies.get(bestStrategyIndex), slice, criterion,
+                    inSampleTrades.get(bestStrategyIndex).get(j), inSampleValues[j][bestStrategyIndex]);
+            steps.add(new WalkForwardStep(slice, getOutOfSampleSeries(slice, outOfSampleDuration), inSampleValues[j],
+                    bestStrategyIndex, inSampleDecision));
+        }
+
+        // Running the best strategies over the out-of-sample periods
+        List<Callable<Void>> outOfSampleTasks = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < strategies.size(); i++) {
+            final int strategyIndex = i;
+            outOfSampleTasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    Strategy strategy = strategies.get(strategyIndex);
+                    for (WalkForwardStep step : steps) {
+                        TimeSeries outOfSampleSeries = step.getOutOfSampleSeries();
+                        if (step.getBestStrategyIndex() == strategyIndex && outOfSampleSeries != null) {
+                            step.setOutOfSampleDecision(new Decision(strategy, outOfSampleSeries, criterion,
+                                    outOfSampleSeries.run(strategy)));
+                        }
+                    }
+                    return null;
+                }
+            });
+        }
+        invokeAll(outOfSampleTasks, executor);
+
+        return steps;
+    }
+
+    /**
+     * Runs the walk-forward optimization with one task per chunk of contiguous slices.
+     * @param slices the in-sample slices
+     * @param outOfSampleDuration the duration of each out-of-sample period
+     * @param executor the executor the tasks are run by (null to run them in the calling thread)
+     * @return the steps of the optimization (one per in-sample slice)
+     */
+    private List<WalkForwardStep> runByChunks(final List<TimeSeries> slices, final Period outOfSampleDuration,
+            ExecutorService executor) {
+        int nbChunks = (executor == null) ? 1 : Math.min(slices.size(), Runtime.getRuntime().availableProcessors());
+        List<Callable<List<WalkForwardStep>>> tasks = new ArrayList<Callable<List<WalkForwardStep>>>(nbChunks);
+        for (int c = 0; c < nbChunks; c++) {
+            final int from = (int) ((long) slices.size() * c / nbChunks);
+            final int to = (int) ((long) slices.size() * (c + 1) / nbChunks);
+            tasks.add(new Callable<List<WalkForwardStep>>() {
+                @Override
+                public List<WalkForwardStep> call() {
+                    return runChunk(slices.subList(from, to), outOfSampleDuration);
+                }
+            });
+        }
+
+        List<WalkForwardStep> steps = new ArrayList<WalkForwardStep>(slices.size());
+        for (List<WalkForwardStep> chunkSteps : invokeAll(tasks, executor)) {
+            steps.addAll(chunkSteps);
+        }
+        return steps;
+    }
+
+    /**
+     * Runs the walk-forward optimization over a chunk of slices, with strategies of its own.
+     * @param slices the in-sample slices of the chunk
+     * @param outOfSampleDuration the duration of each out-of-sample period
+     * @return the steps of the chunk (one per in-sample slice)
+     */
+    private List<WalkForwardStep> runChunk(List<TimeSeries> slices, Period outOfSampleDuration) {
+        List<Strategy> chunkStrategies = factory.buildStrategies(series);
+        if (chunkStrategies == null || chunkStrategies.isEmpty()) {
+            throw new IllegalArgumentException("At least one strategy is needed");
+        }
+        List<WalkForwardStep> steps = new ArrayList<WalkForwardStep>(slices.size());
+        for (TimeSeries slice : slices) {
+            // The strategies may share their indicators: they are run in a single loop
+            List<List<Trade>> trades = slice.run(chunkStrategies);
+            double[] inSampleValues = new double[chunkStrategies.size()];
+            for (int i = 0; i < inSampleValues.length; i++) {
+                inSampleValues[i] = criterion.calculate(slice, trades.get(i));
+            }
+            int bestStrategyIndex = getBestStrategyIndex(inSampleValues);
+            Strategy bestStrategy = chunkStrategies.get(bestStrategyIndex);
+            Decision inSampleDecision = new Decision(bestStrategy, slice, criterion,
+                    trades.get(bestStrategyIndex), inSampleValues[bestStrategyIndex]);
+            TimeSeries outOfSampleSeries = getOutOfSampleSeries(slice, outOfSampleDuration);
+            WalkForwardStep step = new WalkForwardStep(slice, outOfSampleSeries, inSampleValues, bestStrategyIndex,
+                    inSampleDecision);
+            if (outOfSampleSeries != null) {
+                step.setOutOfSampleDecision(new Decision(bestStrategy, outOfSampleSeries, criterion,
+                        outOfSampleSeries.run(bestStrategy)));
+            }
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    /**
+     * @param values the criterion values of the strategies
+     * @return the index of the best strategy (the first one for equal values)
+     */
+    private int getBestStrategyIndex(double[] values) {
+        int bestStrategyIndex = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (criterion.betterThan(values[i], values[bestStrategyIndex])) {
+                bestStrategyIndex = i;
+            }
+        }
+        return bestStrategyIndex;
+    }
+
+    /**
+     * @param slice an in-sample slice
+     * @param outOfSampleDuration the duration of the out-of-sample period
+     * @return the out-of-sample series which follows the slice, or null if the slice ends with the whole series
+     */
+    private TimeSeries getOutOfSampleSeries(TimeSeries slice, Period outOfSampleDuration) {
+        if (slice.getEnd() < series.getEnd()) {
+            return series.subseries(slice.getEnd() + 1, outOfSampleDuration);
+        }
+        return null;
+    }
+
+    /**
+     * @param tasks the tasks to be run
+     * @param executor the executor the tasks are run by (null to run them in the calling thread)
+     * @return the results of the tasks, in the same order
+     */
+    private static <T> List<T> invokeAll(List<Callable<T>> tasks, ExecutorService executor) {
+        List<T> results = new ArrayList<T>(tasks.size());
+        if (executor == null) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException re) {
+                    throw re;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        } else {
+            List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<T> future : futures) {
+                results.add(ConcurrentAnalysis.getResult(future));
+            }
+        }
+        return results;
+    }
+}
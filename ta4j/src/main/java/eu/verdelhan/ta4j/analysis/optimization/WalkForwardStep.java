@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.analysis.Decision;
+
+/**
+ * Step of a {@link WalkForwardOptimizer walk-forward optimization}.
+ * <p>
+ * The best strategy is chosen over the in-sample series, then evaluated over the out-of-sample series which follows it.
+ */
+public class WalkForwardStep {
+
+    private final TimeSeries inSampleSeries;
+
+    private final TimeSeries outOfSampleSeries;
+
+    private final double[] inSampleValues;
+
+    private final int bestStrategyIndex;
+
+    private final Decision inSampleDecision;
+
+    private Decision outOfSampleDecision;
+
+    /**
+     * Constructor.
+     * @param inSampleSeries the in-sample series
+     * @param outOfSampleSeries the out-of-sample series (null if the in-sample series ends with the whole series)
+     * @param inSampleValues the in-sample criterion values of the strategies
+     * @param bestStrategyIndex the index of the best strategy over the in-sample series
+     * @param inSampleDecision the decision over the in-sample series
+     */
+    WalkForwardStep(TimeSeries inSampleSeries, TimeSeries outOfSampleSeries, double[] inSampleValues,
+            int bestStrategyIndex, Decision inSampleDecision) {
+        this.inSampleSeries = inSampleSeries;
+        this.outOfSampleSeries = outOfSampleSeries;
+        this.inSampleValues = inSampleValues;
+        this.bestStrategyIndex = bestStrategyIndex;
+        this.inSampleDecision = inSampleDecision;
+    }
+
+    /**
+     * @return the in-sample series
+     */
+    public TimeSeries getInSampleSeries() {
+        return inSampleSeries;
+    }
+
+    /**
+     * @return the out-of-sample series, or null if the in-sample series ends with the whole series
+     */
+    public TimeSeries getOutOfSampleSeries() {
+        return outOfSampleSeries;
+    }
+
+    /**
+     * @param strategyIndex the index of a strategy
+     * @return the criterion value of the strategy over the in-sample series
+     */
+    public double getInSampleValue(int strategyIndex) {
+        return inSampleValues[strategyIndex];
+    }
+
+    /**
+     * @return the index of the best strategy over the in-sample series
+     */
+    public int getBestStrategyIndex() {
+        return bestStrategyIndex;
+    }
+
+    /**
+     * @return the decision (best strategy and its trades) over the in-sample series
+     */
+    public Decision getInSampleDecision() {
+        return inSampleDecision;
+    }
+
+    /**
+     * @return the decision (best in-sample strategy and its trades) over the out-of-sample series, or null if none
+     */
+    public Decision getOutOfSampleDecision() {
+        return outOfSampleDecision;
+    }
+
+    /**
+     * @param outOfSampleDecision the decision over the out-of-sample series
+     */
+    void setOutOfSampleDecision(Decision outOfSampleDecision) {
+        this.outOfSampleDecision = outOfSampleDecision;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+
+/**
+ * Abstract {@link DoubleIndicator double indicator}.
+ * <p>
+ * Subclasses only have to provide the primitive value. The boxed value is built from it.
+ */
+public abstract class AbstractDoubleIndicator implements DoubleIndicator {
+
+    /** The time series the indicator is computed on (null if unknown) */
+    private final TimeSeries timeSeries;
+
+    /**
+     * Constructor of an indicator which is not bound to a time series.
+     */
+    protected AbstractDoubleIndicator() {
+        this((TimeSeries) null);
+    }
+
+    /**
+     * Constructor.
+     * @param timeSeries the time series the indicator is computed on
+     */
+    protected AbstractDoubleIndicator(TimeSeries timeSeries) {
+        this.timeSeries = timeSeries;
+    }
+
+    /**
+     * Constructor.
+     * @param indicator the indicator the current one is computed from (its time series is inherited, if any)
+     */
+    protected AbstractDoubleIndicator(Indicator<?> indicator) {
+        this(indicator instanceof AbstractDoubleIndicator ? ((AbstractDoubleIndicator) indicator).getTimeSeries() : null);
+    }
+
+    /**
+     * @return the time series the indicator is computed on, or null if unknown
+     */
+    public TimeSeries getTimeSeries() {
+        return timeSeries;
+    }
+
+    /**
+     * @return the first index the indicator is computed from: the index of the oldest tick which can still be read
+     *         from the time series (see {@link TimeSeries#getRemovedTickCount()}), 0 if the time series is unknown
+     */
+    protected int getFirstIndex() {
+        return (timeSeries == null) ? 0 : timeSeries.getRemovedTickCount();
+    }
+
+    @Override
+    public Double getValue(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        checkRange(from, to, values);
+        for (int i = from; i <= to; i++) {
+            values[i - from] = getDouble(i);
+        }
+    }
+
+    /**
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @param values the array to be filled with the values
+     * @throws IllegalArgumentException if the range is empty or does not fit in the array
+     */
+    protected static void checkRange(int from, int to, double[] values) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range: " + from + " to " + to);
+        }
+        if (values.length < to - from + 1) {
+            throw new IllegalArgumentException("Array too short for " + (to - from + 1) + " values: " + values.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Element-wise array kernels used by the {@link eu.verdelhan.ta4j.DoubleIndicator#evaluate(int, int, double[]) bulk evaluation}
+ * of the simple per-tick indicators (median/typical price, price variation, true range, Bollinger bands, etc.).
+ * <p>
+ * The kernels are loaded once through a {@link ServiceLoader}: the first supported implementation found on the
+ * class path is used (e.g. the SIMD one of the ta4j-vector module), otherwise the {@link ScalarArrayKernels scalar}
+ * one. Every implementation must give exactly the same results as the scalar one.
+ * <p>
+ * The price kernels read their inputs from an offset, so that they work straight on the columns
+ * of a {@link eu.verdelhan.ta4j.ColumnarTimeSeries columnar series}. The other series are evaluated index by index:
+ * gathering their prices through the ticks costs more than the kernels save.
+ * The result array may be one of the input arrays, when the results are written at the offset of the inputs
+ * (except for the close prices of the {@link #priceVariation price variation} and {@link #trueRange true range} kernels).
+ */
+public abstract class ArrayKernels {
+
+    /**
+     * @return the kernels to be used
+     */
+    public static ArrayKernels getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Checks whether the kernels can run on the current platform.
+     * <p>
+     * Called once, before any other method.
+     * @return true if the kernels are supported, false otherwise
+     */
+    protected boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * result[i] = values[i] * factor
+     * @param values the values
+     * @param factor the factor
+     * @param result the result array
+     * @param length the number of values
+     */
+    public abstract void multiply(double[] values, double factor, double[] result, int length);
+
+    /**
+     * result[i] = values[i] + factor * others[i]
+     * @param values the values
+     * @param others the other values
+     * @param factor the factor of the other values
+     * @param result the result array
+     * @param length the number of values
+     */
+    public abstract void addMultiplied(double[] values, double[] others, double factor, double[] result, int length);
+
+    /**
+     * result[resultOffset + i] = (maxPrices[offset + i] + minPrices[offset + i]) / 2
+     * @param maxPrices the max prices
+     * @param minPrices the min prices
+     * @param offset the index of the first prices
+     * @param result the result array
+     * @param resultOffset the index of the first result
+     * @param length the number of values
+     */
+    public abstract void medianPrice(double[] maxPrices, double[] minPrices, int offset, double[] result, int resultOffset, int length);
+
+    /**
+     * result[resultOffset + i] = (maxPrices[offset + i] + minPrices[offset + i] + closePrices[offset + i]) / 3
+     * @param maxPrices the max prices
+     * @param minPrices the min prices
+     * @param closePrices the close prices
+     * @param offset the index of the first prices
+     * @param result the result array
+     * @param resultOffset the index of the first result
+     * @param length the number of values
+     */
+    public abstract void typicalPrice(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length);
+
+    /**
+     * result[resultOffset + i] = closePrices[offset + i] / closePrices[offset + i - 1]
+     * @param closePrices the close prices
+     * @param offset the index of the first close price (at least 1, since the previous close price is read too)
+     * @param result the result array (not the close prices array)
+     * @param resultOffset the index of the first result
+     * @param length the number of results
+     */
+    public abstract void priceVariation(double[] closePrices, int offset, double[] result, int resultOffset, int length);
+
+    /**
+     * result[resultOffset + i] = max(|maxPrices[j] - minPrices[j]|, |maxPrices[j] - closePrices[j - 1]|, |closePrices[j - 1] - minPrices[j]|)
+     * with j = offset + i
+     * @param maxPrices the max prices
+     * @param minPrices the min prices
+     * @param closePrices the close prices
+     * @param offset the index of the first prices (at least 1, since the previous close price is read too)
+     * @param result the result array (not the close prices array)
+     * @param resultOffset the index of the first result
+     * @param length the number of values
+     */
+    public abstract void trueRange(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length);
+
+    /**
+     * Lazy holder of the kernels instance.
+     */
+    private static class Holder {
+
+        static final ArrayKernels INSTANCE = load();
+
+        /**
+         * @return the first supported kernels found by the service loader, the scalar ones otherwise
+         */
+        private static ArrayKernels load() {
+            try {
+                Iterator<ArrayKernels> kernels = ServiceLoader.load(ArrayKernels.class, ArrayKernels.class.getClassLoader()).iterator();
+                while (kernels.hasNext()) {
+                    ArrayKernels candidate = kernels.next();
+                    if (candidate.isSupported()) {
+                        return candidate;
+                    }
+                }
+            } catch (ServiceConfigurationError sce) {
+                // Falling back to the scalar kernels
+            } catch (LinkageError le) {
+                // Falling back to the scalar kernels
+            }
+            return new ScalarArrayKernels();
+        }
+    }
+}
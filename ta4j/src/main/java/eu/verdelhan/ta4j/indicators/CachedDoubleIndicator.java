@@ -0,0 +1,177 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import java.util.Arrays;
+
+/**
+ * Cached {@link DoubleIndicator double indicators}.
+ * <p>
+ * Caches the calculated values in a primitive array. Avoid to calculate the same index of the indicator twice.
+ * <p>
+ * The values are calculated from the first index up to the highest requested one,
+ * so the cached values always are the indexes between the first index and the highest result index.
+ * <p>
+ * When the time series of the indicator retains a bounded number of ticks (e.g. a {@link eu.verdelhan.ta4j.LiveTimeSeries live series}),
+ * the cache is a ring buffer of the same size: only the last results are kept. The first index is then the one of
+ * the oldest retained tick (see {@link #getFirstIndex()}): an indicator created after the eviction of ticks is
+ * calculated from this index, and requesting an older index throws an {@link IndexOutOfBoundsException}.
+ * <p>
+ * When the last tick of the time series is amended (see {@link TimeSeries#getModificationCount()}),
+ * the results from this tick are discarded and recalculated on the next request.
+ */
+public abstract class CachedDoubleIndicator extends AbstractDoubleIndicator {
+
+    /** Initial capacity of the results buffer */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Cached results */
+    private double[] results = new double[INITIAL_CAPACITY];
+
+    /** Index of the last calculated result (-1 if none) */
+    private int highestResultIndex = -1;
+
+    /** Modification count of the time series when the indicator was last requested */
+    private int seenModificationCount;
+
+    /** End index of the time series when the indicator was last requested */
+    private int seenEndIndex = -1;
+
+    /**
+     * Constructor of an indicator which is not bound to a time series.
+     */
+    protected CachedDoubleIndicator() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     * @param timeSeries the time series the indicator is computed on
+     */
+    protected CachedDoubleIndicator(TimeSeries timeSeries) {
+        super(timeSeries);
+    }
+
+    /**
+     * Constructor.
+     * @param indicator the indicator the current one is computed from (its time series is inherited, if any)
+     */
+    protected CachedDoubleIndicator(Indicator<?> indicator) {
+        super(indicator);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        TimeSeries series = getTimeSeries();
+        if (series != null) {
+            invalidateAmendedResults(series);
+        }
+        int firstIndex = getFirstIndex();
+        checkRetained(index, firstIndex);
+        if (index > highestResultIndex) {
+            increaseCapacity(index);
+            // The results older than the first index are never calculated
+            for (int i = Math.max(highestResultIndex + 1, firstIndex); i <= index; i++) {
+                results[i % results.length] = calculate(i);
+                highestResultIndex = i;
+            }
+        }
+        return results[index % results.length];
+    }
+
+    /**
+     * Evaluates the indicator over a range of indexes.
+     * <p>
+     * The missing results are calculated into the cache, then the range is copied from it.
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @param values the array to be filled with the values (values[i - from] for index i)
+     */
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        checkRange(from, to, values);
+        getDouble(to);
+        checkRetained(from, getFirstIndex());
+        int i = from;
+        while (i <= to) {
+            // Copying up to the end of the ring buffer at most
+            int position = i % results.length;
+            int length = Math.min(to - i + 1, results.length - position);
+            System.arraycopy(results, position, values, i - from, length);
+            i += length;
+        }
+    }
+
+    /**
+     * @param index the index
+     * @return the value of the indicator at the index-th position
+     */
+    protected abstract double calculate(int index);
+
+    /**
+     * @param index an index
+     * @param firstIndex the first index of the indicator
+     * @throws IndexOutOfBoundsException if the index is older than the first index (i.e. its tick has been evicted)
+     */
+    private static void checkRetained(int index, int firstIndex) {
+        if (index < firstIndex) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", first index: " + firstIndex);
+        }
+    }
+
+    /**
+     * Discards the results of the ticks amended since the last request.
+     * <p>
+     * Only the last tick of a series can be amended, so the amended ticks are the ones after the end index seen
+     * on the last request (included).
+     * @param series the time series of the indicator
+     */
+    private void invalidateAmendedResults(TimeSeries series) {
+        int modificationCount = series.getModificationCount();
+        if (modificationCount != seenModificationCount) {
+            highestResultIndex = Math.max(-1, Math.min(highestResultIndex, seenEndIndex - 1));
+            seenModificationCount = modificationCount;
+        }
+        seenEndIndex = series.getEnd();
+    }
+
+    /**
+     * Increases the capacity of the results buffer, up to the maximum tick count of the time series.
+     * <p>
+     * The buffer only grows before wrapping around, so the results already stored keep their position.
+     * @param index the index which has to fit in the buffer
+     */
+    private void increaseCapacity(int index) {
+        if (results.length <= index) {
+            TimeSeries series = getTimeSeries();
+            int maximumCapacity = (series == null) ? Integer.MAX_VALUE : series.getMaximumTickCount();
+            if (results.length < maximumCapacity) {
+                int newCapacity = Math.max(results.length + (results.length >> 1), index + 1);
+                results = Arrays.copyOf(results, Math.min(newCapacity, maximumCapacity));
+            }
+        }
+    }
+}
@@ -24,30 +24,30 @@ package eu.verdelhan.ta4j.indicators;
 
 import eu.verdelhan.ta4j.Indicator;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Cached {@link Indicator indicators}.
  * <p>
  * Caches the constructor of the indicator. Avoid to calculate the same index of the indicator twice.
+ * <p>
+ * Values are always calculated forward, from the highest already calculated index up to the requested one.
+ * Indicators calling {@link #getValue(int)} on index - 1 from {@link #calculate(int)} are thus computed
+ * iteratively, without any recursion depth proportional to the series length.
  */
 public abstract class CachedIndicator<T> implements Indicator<T> {
 
-    private List<T> results = new ArrayList<T>();
+    private ArrayList<T> results = new ArrayList<T>();
+
+    /** The highest index for which the result has been calculated */
+    private int highestResultIndex = -1;
 
     @Override
     public T getValue(int index) {
-        increaseLength(index);
-        if (results.get(index) == null) {
-            int i = index;
-            while ((i > 0) && (results.get(i--) == null)) {
-                ;
-            }
-            for (; i <= index; i++) {
-                if (results.get(i) == null) {
-                    results.set(i, calculate(i));
-                }
+        if (index > highestResultIndex) {
+            increaseLength(index);
+            for (int i = highestResultIndex + 1; i <= index; i++) {
+                results.add(calculate(i));
+                highestResultIndex = i;
             }
         }
         return results.get(index);
@@ -61,12 +61,10 @@ public abstract class CachedIndicator<T> implements Indicator<T> {
     }
 
     /**
-     * Increases the size of cached results buffer.
-     * @param index
+     * Increases the capacity of cached results buffer.
+     * @param index the highest index to be stored
      */
     private void increaseLength(int index) {
-        if (results.size() <= index) {
-            results.addAll(Collections.<T> nCopies((index - results.size()) + 1, null));
-        }
+        results.ensureCapacity(index + 1);
     }
 }
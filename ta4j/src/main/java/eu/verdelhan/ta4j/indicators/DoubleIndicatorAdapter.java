@@ -0,0 +1,67 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.Indicator;
+
+/**
+ * Adapter from an {@link Indicator indicator} of numbers to a {@link DoubleIndicator double indicator}.
+ * <p>
+ * A double indicator already is an <code>Indicator&lt;Double&gt;</code>, so it can be used wherever
+ * an <code>Indicator&lt;? extends Number&gt;</code> is expected.
+ */
+public class DoubleIndicatorAdapter extends AbstractDoubleIndicator {
+
+    private final Indicator<? extends Number> indicator;
+
+    /**
+     * Constructor.
+     * @param indicator the indicator to be adapted
+     */
+    public DoubleIndicatorAdapter(Indicator<? extends Number> indicator) {
+        super(indicator);
+        this.indicator = indicator;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return indicator.getValue(index).doubleValue();
+    }
+
+    @Override
+    public String toString() {
+        return indicator.toString();
+    }
+
+    /**
+     * @param indicator an indicator of numbers
+     * @return the indicator itself if it is already a double indicator, an adapter over it otherwise
+     */
+    public static DoubleIndicator of(Indicator<? extends Number> indicator) {
+        if (indicator instanceof DoubleIndicator) {
+            return (DoubleIndicator) indicator;
+        }
+        return new DoubleIndicatorAdapter(indicator);
+    }
+}
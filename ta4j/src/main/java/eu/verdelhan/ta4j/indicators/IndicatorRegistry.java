@@ -0,0 +1,310 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.AverageGainIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.MeanDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.CCIIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorDIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MaxPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MinPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.TypicalPriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of shared {@link Indicator indicators}.
+ * <p>
+ * Indicators are built once per type and parameters, e.g. <code>registry.sma(closePrice, 14)</code>
+ * always returns the same SMA instance. The {@link Indicator indicator} and {@link TimeSeries time series} parameters are
+ * compared by identity, the other ones (time frames, etc.) by value. The composite indicators are built from the shared
+ * indicators of the registry (e.g. a MACD from the shared EMAs), so the strategies built from a registry compute each
+ * distinct indicator only once.
+ * <p>
+ * Like the indicators it holds, a registry must be used by one thread at a time: the strategies built from a shared registry
+ * must not be run concurrently. A parallel optimization uses one registry per task instead
+ * (see {@link eu.verdelhan.ta4j.analysis.optimization.StrategyListFactory}).
+ */
+public class IndicatorRegistry {
+
+    private final Map<List<Object>, Indicator<?>> indicators = new HashMap<List<Object>, Indicator<?>>();
+
+    /**
+     * @param series a time series
+     * @return the shared close price indicator of the series
+     */
+    public ClosePriceIndicator closePrice(TimeSeries series) {
+        List<Object> key = key(ClosePriceIndicator.class, series);
+        ClosePriceIndicator indicator = find(key);
+        return (indicator != null) ? indicator : share(key, new ClosePriceIndicator(series));
+    }
+
+    /**
+     * @param series a time series
+     * @return the shared max price indicator of the series
+     */
+    public MaxPriceIndicator maxPrice(TimeSeries series) {
+        List<Object> key = key(MaxPriceIndicator.class, series);
+        MaxPriceIndicator indicator = find(key);
+        return (indicator != null) ? indicator : share(key, new MaxPriceIndicator(series));
+    }
+
+    /**
+     * @param series a time series
+     * @return the shared min price indicator of the series
+     */
+    public MinPriceIndicator minPrice(TimeSeries series) {
+        List<Object> key = key(MinPriceIndicator.class, series);
+        MinPriceIndicator indicator = find(key);
+        return (indicator != null) ? indicator : share(key, new MinPriceIndicator(series));
+    }
+
+    /**
+     * @param series a time series
+     * @return the shared typical price indicator of the series
+     */
+    public TypicalPriceIndicator typicalPrice(TimeSeries series) {
+        List<Object> key = key(TypicalPriceIndicator.class, series);
+        TypicalPriceIndicator indicator = find(key);
+        return (indicator != null) ? indicator : share(key, new TypicalPriceIndicator(series));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared SMA of the indicator over the time frame
+     */
+    public SMAIndicator sma(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(SMAIndicator.class, indicator, timeFrame);
+        SMAIndicator sma = find(key);
+        return (sma != null) ? sma : share(key, new SMAIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared EMA of the indicator over the time frame
+     */
+    public EMAIndicator ema(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(EMAIndicator.class, indicator, timeFrame);
+        EMAIndicator ema = find(key);
+        return (ema != null) ? ema : share(key, new EMAIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param shortTimeFrame the time frame of the short term EMA
+     * @param longTimeFrame the time frame of the long term EMA
+     * @return the shared MACD of the indicator, built from the shared EMAs
+     */
+    public MACDIndicator macd(Indicator<? extends Number> indicator, int shortTimeFrame, int longTimeFrame) {
+        if (shortTimeFrame > longTimeFrame) {
+            throw new IllegalArgumentException("Long term period count must be greater than short term period count");
+        }
+        List<Object> key = key(MACDIndicator.class, indicator, shortTimeFrame, longTimeFrame);
+        MACDIndicator macd = find(key);
+        return (macd != null) ? macd : share(key, new MACDIndicator(ema(indicator, shortTimeFrame), ema(indicator, longTimeFrame)));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared average gain of the indicator over the time frame
+     */
+    public AverageGainIndicator averageGain(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(AverageGainIndicator.class, indicator, timeFrame);
+        AverageGainIndicator averageGain = find(key);
+        return (averageGain != null) ? averageGain : share(key, new AverageGainIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared average loss of the indicator over the time frame
+     */
+    public AverageLossIndicator averageLoss(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(AverageLossIndicator.class, indicator, timeFrame);
+        AverageLossIndicator averageLoss = find(key);
+        return (averageLoss != null) ? averageLoss : share(key, new AverageLossIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared RSI of the indicator over the time frame, built from the shared average gain and loss
+     */
+    public RSIIndicator rsi(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(RSIIndicator.class, indicator, timeFrame);
+        RSIIndicator rsi = find(key);
+        return (rsi != null) ? rsi
+                : share(key, new RSIIndicator(averageGain(indicator, timeFrame), averageLoss(indicator, timeFrame), timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared highest value of the indicator over the time frame
+     */
+    public HighestValueIndicator highestValue(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(HighestValueIndicator.class, indicator, timeFrame);
+        HighestValueIndicator highestValue = find(key);
+        return (highestValue != null) ? highestValue : share(key, new HighestValueIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared lowest value of the indicator over the time frame
+     */
+    public LowestValueIndicator lowestValue(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(LowestValueIndicator.class, indicator, timeFrame);
+        LowestValueIndicator lowestValue = find(key);
+        return (lowestValue != null) ? lowestValue : share(key, new LowestValueIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @param timeFrame the time frame
+     * @return the shared mean deviation of the indicator over the time frame
+     */
+    public MeanDeviationIndicator meanDeviation(Indicator<? extends Number> indicator, int timeFrame) {
+        List<Object> key = key(MeanDeviationIndicator.class, indicator, timeFrame);
+        MeanDeviationIndicator meanDeviation = find(key);
+        return (meanDeviation != null) ? meanDeviation : share(key, new MeanDeviationIndicator(indicator, timeFrame));
+    }
+
+    /**
+     * @param series a time series
+     * @param timeFrame the time frame
+     * @return the shared CCI of the series over the time frame, built from the shared typical price, SMA and mean deviation
+     */
+    public CCIIndicator cci(TimeSeries series, int timeFrame) {
+        List<Object> key = key(CCIIndicator.class, series, timeFrame);
+        CCIIndicator cci = find(key);
+        if (cci == null) {
+            TypicalPriceIndicator typicalPrice = typicalPrice(series);
+            cci = share(key, new CCIIndicator(typicalPrice, sma(typicalPrice, timeFrame), meanDeviation(typicalPrice, timeFrame),
+                    timeFrame));
+        }
+        return cci;
+    }
+
+    /**
+     * @param series a time series
+     * @param timeFrame the time frame
+     * @return the shared stochastic oscillator K of the close price of the series over the time frame,
+     *         built from the shared close, max and min prices, highest and lowest values
+     */
+    public StochasticOscillatorKIndicator stochasticOscillatorK(TimeSeries series, int timeFrame) {
+        List<Object> key = key(StochasticOscillatorKIndicator.class, series, timeFrame);
+        StochasticOscillatorKIndicator k = find(key);
+        return (k != null) ? k : share(key, new StochasticOscillatorKIndicator(closePrice(series), timeFrame,
+                highestValue(maxPrice(series), timeFrame), lowestValue(minPrice(series), timeFrame)));
+    }
+
+    /**
+     * @param k a stochastic oscillator K
+     * @return the shared stochastic oscillator D of K, i.e. built from the shared 3-ticks SMA of K
+     */
+    public StochasticOscillatorDIndicator stochasticOscillatorD(StochasticOscillatorKIndicator k) {
+        List<Object> key = key(StochasticOscillatorDIndicator.class, k);
+        StochasticOscillatorDIndicator d = find(key);
+        return (d != null) ? d : share(key, new StochasticOscillatorDIndicator(sma(k, 3)));
+    }
+
+    /**
+     * @return the number of distinct indicators in the registry
+     */
+    public int size() {
+        return indicators.size();
+    }
+
+    /**
+     * @param type the type of the indicator
+     * @param parameters the parameters of the indicator
+     * @return the key of the indicator
+     */
+    private static List<Object> key(Class<?> type, Object... parameters) {
+        List<Object> key = new ArrayList<Object>(parameters.length + 1);
+        key.add(type);
+        for (Object parameter : parameters) {
+            boolean byIdentity = (parameter instanceof Indicator) || (parameter instanceof TimeSeries);
+            key.add(byIdentity ? new Identity(parameter) : parameter);
+        }
+        return key;
+    }
+
+    /**
+     * @param key the key of an indicator
+     * @return the shared indicator of the key, null if none
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Indicator<?>> T find(List<Object> key) {
+        return (T) indicators.get(key);
+    }
+
+    /**
+     * @param key the key of an indicator
+     * @param indicator the indicator to be shared
+     * @return the indicator
+     */
+    private <T extends Indicator<?>> T share(List<Object> key, T indicator) {
+        indicators.put(key, indicator);
+        return indicator;
+    }
+
+    /**
+     * Key part comparing an object by identity.
+     */
+    private static final class Identity {
+
+        private final Object object;
+
+        Identity(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return (other instanceof Identity) && ((Identity) other).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+}
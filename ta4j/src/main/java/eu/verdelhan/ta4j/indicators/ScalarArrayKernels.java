@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+/**
+ * Scalar {@link ArrayKernels array kernels}.
+ * <p>
+ * The reference implementation: plain loops, with the same operations (and order) as the per-index indicators.
+ */
+public class ScalarArrayKernels extends ArrayKernels {
+
+    @Override
+    public void multiply(double[] values, double factor, double[] result, int length) {
+        for (int i = 0; i < length; i++) {
+            result[i] = values[i] * factor;
+        }
+    }
+
+    @Override
+    public void addMultiplied(double[] values, double[] others, double factor, double[] result, int length) {
+        for (int i = 0; i < length; i++) {
+            result[i] = values[i] + factor * others[i];
+        }
+    }
+
+    @Override
+    public void medianPrice(double[] maxPrices, double[] minPrices, int offset, double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = (maxPrices[offset + i] + minPrices[offset + i]) / 2d;
+        }
+    }
+
+    @Override
+    public void typicalPrice(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = (maxPrices[offset + i] + minPrices[offset + i] + closePrices[offset + i]) / 3d;
+        }
+    }
+
+    @Override
+    public void priceVariation(double[] closePrices, int offset, double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            result[resultOffset + i] = closePrices[offset + i] / closePrices[offset + i - 1];
+        }
+    }
+
+    @Override
+    public void trueRange(double[] maxPrices, double[] minPrices, double[] closePrices, int offset,
+            double[] result, int resultOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            int j = offset + i;
+            double ts = maxPrices[j] - minPrices[j];
+            double ys = maxPrices[j] - closePrices[j - 1];
+            double yst = closePrices[j - 1] - minPrices[j];
+            result[resultOffset + i] = Math.max(Math.max(Math.abs(ts), Math.abs(ys)), Math.abs(yst));
+        }
+    }
+}
@@ -23,29 +23,29 @@
 package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 
 /**
  * Average of {@link DirectionalMovementDownIndicator directional movement down indicator}.
  * <p>
  */
-public class AverageDirectionalMovementDownIndicator extends CachedIndicator<Double> {
+public class AverageDirectionalMovementDownIndicator extends CachedDoubleIndicator {
     private final int timeFrame;
 
     private final DirectionalMovementDownIndicator dmdown;
 
     public AverageDirectionalMovementDownIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.timeFrame = timeFrame;
         dmdown = new DirectionalMovementDownIndicator(series);
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (index == 0) {
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
             return 1d;
         }
-        return (getValue(index - 1) * (timeFrame - 1) / timeFrame) + (dmdown.getValue(index) / timeFrame);
+        return (getDouble(index - 1) * (timeFrame - 1) / timeFrame) + (dmdown.getDouble(index) / timeFrame);
 
     }
 
@@ -23,30 +23,30 @@
 package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 
 /**
  * Average of {@link DirectionalMovementUpIndicator directional movement up indicator}.
  * <p>
  */
-public class AverageDirectionalMovementUpIndicator extends CachedIndicator<Double> {
+public class AverageDirectionalMovementUpIndicator extends CachedDoubleIndicator {
 
     private final int timeFrame;
 
     private final DirectionalMovementUpIndicator dmup;
 
     public AverageDirectionalMovementUpIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.timeFrame = timeFrame;
         dmup = new DirectionalMovementUpIndicator(series);
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (index == 0) {
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
             return 1d;
         }
-        return (getValue(index - 1) * (timeFrame - 1) / timeFrame) + (dmup.getValue(index) * 1 / timeFrame);
+        return (getDouble(index - 1) * (timeFrame - 1) / timeFrame) + (dmup.getDouble(index) * 1 / timeFrame);
     }
 
     @Override
@@ -22,32 +22,64 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Average gain indicator.
  * <p>
+ * The sum of the gains of the time frame is maintained incrementally from one index to the next
+ * and recomputed from scratch every time frame, in order to bound the rounding drift.
  */
-public class AverageGainIndicator implements Indicator<Double> {
+public class AverageGainIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
+    /** Sum of the gains of the time frame ending at sumIndex */
+    private double sum;
+
+    private int sumIndex = -1;
+
+    /** First index of the gains in sum */
+    private int sumStart;
+
     public AverageGainIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        double result = 0;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).doubleValue() >= indicator.getValue(i - 1).doubleValue()) {
-                result += indicator.getValue(i).doubleValue() - indicator.getValue(i - 1).doubleValue();
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        int start = Math.max(firstIndex + 1, index - timeFrame + 1);
+        // The evicted gains of the sum cannot be read anymore to be subtracted (a gain needs the previous value)
+        if ((index != sumIndex + 1) || (index % timeFrame == 0) || (sumStart <= firstIndex)) {
+            sum = 0.0;
+            for (int i = start; i <= index; i++) {
+                sum += gain(i);
+            }
+        } else {
+            sum += gain(index);
+            if (index - timeFrame > firstIndex) {
+                sum -= gain(index - timeFrame);
             }
         }
-        return result / Math.min(timeFrame, index + 1);
+        sumIndex = index;
+        sumStart = start;
+        return sum / Math.min(timeFrame, index - firstIndex + 1);
+    }
+
+    /**
+     * @param index the index (must be greater than the first index)
+     * @return the gain between the previous index and the index (0 if none)
+     */
+    private double gain(int index) {
+        return Math.max(0.0, indicator.getDouble(index) - indicator.getDouble(index - 1));
     }
 
     @Override
@@ -22,32 +22,64 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Average loss indicator.
  * <p>
+ * The sum of the losses of the time frame is maintained incrementally from one index to the next
+ * and recomputed from scratch every time frame, in order to bound the rounding drift.
  */
-public class AverageLossIndicator implements Indicator<Double> {
+public class AverageLossIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
+    /** Sum of the losses of the time frame ending at sumIndex */
+    private double sum;
+
+    private int sumIndex = -1;
+
+    /** First index of the losss in sum */
+    private int sumStart;
+
     public AverageLossIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        double result = 0;
-        for (int i = Math.max(1, index - timeFrame + 1); i <= index; i++) {
-            if (indicator.getValue(i).doubleValue() < indicator.getValue(i - 1).doubleValue()) {
-                result += indicator.getValue(i - 1).doubleValue() - indicator.getValue(i).doubleValue();
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        int start = Math.max(firstIndex + 1, index - timeFrame + 1);
+        // The evicted losss of the sum cannot be read anymore to be subtracted (a loss needs the previous value)
+        if ((index != sumIndex + 1) || (index % timeFrame == 0) || (sumStart <= firstIndex)) {
+            sum = 0.0;
+            for (int i = start; i <= index; i++) {
+                sum += loss(i);
+            }
+        } else {
+            sum += loss(index);
+            if (index - timeFrame > firstIndex) {
+                sum -= loss(index - timeFrame);
             }
         }
-        return result / Math.min(timeFrame, index + 1);
+        sumIndex = index;
+        sumStart = start;
+        return sum / Math.min(timeFrame, index - firstIndex + 1);
+    }
+
+    /**
+     * @param index the index (must be greater than the first index)
+     * @return the loss between the previous index and the index (0 if none)
+     */
+    private double loss(int index) {
+        return Math.max(0.0, indicator.getDouble(index - 1) - indicator.getDouble(index));
     }
 
     @Override
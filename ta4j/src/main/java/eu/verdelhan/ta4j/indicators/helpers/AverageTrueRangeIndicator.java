@@ -23,29 +23,29 @@
 package eu.verdelhan.ta4j.indicators.helpers;
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 
 /**
  * Average true range indicator.
  * <p>
  */
-public class AverageTrueRangeIndicator extends CachedIndicator<Double> {
+public class AverageTrueRangeIndicator extends CachedDoubleIndicator {
 
     private final int timeFrame;
     private final TrueRangeIndicator tr;
 
     public AverageTrueRangeIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.timeFrame = timeFrame;
         this.tr = new TrueRangeIndicator(series);
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (index == 0) {
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
             return 1d;
         }
-        return ((getValue(index - 1) * (timeFrame-1)) / timeFrame) + tr.getValue(index) / timeFrame;
+        return ((getDouble(index - 1) * (timeFrame-1)) / timeFrame) + tr.getDouble(index) / timeFrame;
     }
 
     @Override
@@ -22,7 +22,11 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Cross indicator.
@@ -32,9 +36,21 @@ import eu.verdelhan.ta4j.Indicator;
 public class CrossIndicator implements Indicator<Boolean> {
 
     /** Upper indicator */
-    private final Indicator<? extends Number> up;
+    private final DoubleIndicator up;
     /** Lower indicator */
-    private final Indicator<? extends Number> low;
+    private final DoubleIndicator low;
+
+    /** Index of the relation cursor (-1 if none) */
+    private int lastIndex = -1;
+
+    /** Relation at the cursor: true if the upper indicator was above the lower one at the last index where they were not equal */
+    private boolean lastAbove;
+
+    /** Modification count of the time series when the indicator was last requested */
+    private int seenModificationCount;
+
+    /** End index of the time series when the indicator was last requested */
+    private int seenEndIndex = -1;
 
     /**
      * Constructor.
@@ -42,28 +58,128 @@ public class CrossIndicator implements Indicator<Boolean> {
      * @param low the lower indicator
      */
     public CrossIndicator(Indicator<? extends Number> up, Indicator<? extends Number> low) {
-        this.up = up;
-        this.low = low;
+        this.up = DoubleIndicatorAdapter.of(up);
+        this.low = DoubleIndicatorAdapter.of(low);
     }
 
     @Override
     public Boolean getValue(int index) {
-
-        int i = index;
-        if (i == 0 || up.getValue(i).doubleValue() >= (low.getValue(i).doubleValue())) {
+        TimeSeries series = getTimeSeries();
+        if (series != null) {
+            resetAmendedCursor(series);
+        }
+        final int first = getFirstIndex();
+        if (index == first) {
+            lastIndex = first;
+            lastAbove = false;
             return false;
         }
 
-        i--;
-        if (up.getValue(i).doubleValue() > low.getValue(i).doubleValue()) {
-            return true;
-        } else {
+        double upValue = up.getDouble(index);
+        double lowValue = low.getDouble(index);
+        boolean crossed = false;
+        if (!(upValue >= lowValue)) {
+            // Below (or not comparable)
+            int i = index - 1;
+            double previousUpValue = up.getDouble(i);
+            double previousLowValue = low.getDouble(i);
+            if (previousUpValue > previousLowValue) {
+                crossed = true;
+            } else if (previousUpValue == previousLowValue) {
+                crossed = wasAbove(i, first);
+            }
+        }
+
+        if (index == lastIndex + 1 && lastIndex >= first) {
+            // Carrying the relation forward with the values already read
+            if (upValue != lowValue) {
+                lastAbove = upValue > lowValue;
+            }
+            lastIndex = index;
+        }
+        return crossed;
+    }
 
-            while (i > 0 && up.getValue(i).doubleValue() == low.getValue(i).doubleValue()) {
+    /**
+     * Returns the relation between the indicators at the last index (strictly after the first one) where they were not equal.
+     * <p>
+     * The relation is carried forward from the cursor, so that sequential calls read each value once.
+     * Before the cursor, it is found by walking backward through the equal values.
+     * @param index the index
+     * @param first the first index of the indicators
+     * @return true if the upper indicator was above the lower one at the last index (in ]first, index]) where they were not equal
+     */
+    private boolean wasAbove(int index, int first) {
+        if (lastIndex < first || index < lastIndex) {
+            int i = index;
+            while (i > first && up.getDouble(i) == low.getDouble(i)) {
                 i--;
             }
-            return (i != 0) && (up.getValue(i).doubleValue() > low.getValue(i).doubleValue());
+            lastAbove = (i != first) && (up.getDouble(i) > low.getDouble(i));
+        } else {
+            for (int i = lastIndex + 1; i <= index; i++) {
+                double upValue = up.getDouble(i);
+                double lowValue = low.getDouble(i);
+                if (upValue != lowValue) {
+                    lastAbove = upValue > lowValue;
+                }
+            }
+        }
+        lastIndex = index;
+        return lastAbove;
+    }
+
+    /**
+     * Resets the relation cursor if it was computed from a tick amended since the last request.
+     * <p>
+     * Only the last tick of a series can be amended, so the amended ticks are the ones after the end index seen
+     * on the last request (included). The relation is then found again by walking backward.
+     * @param series the time series of the indicators
+     */
+    private void resetAmendedCursor(TimeSeries series) {
+        int modificationCount = series.getModificationCount();
+        if (modificationCount != seenModificationCount) {
+            if (lastIndex >= seenEndIndex) {
+                lastIndex = -1;
+            }
+            seenModificationCount = modificationCount;
+        }
+        seenEndIndex = series.getEnd();
+    }
+
+    /**
+     * @return the time series of the indicators (null if unknown)
+     */
+    private TimeSeries getTimeSeries() {
+        TimeSeries series = getTimeSeries(up);
+        return (series != null) ? series : getTimeSeries(low);
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return the time series of the indicator (null if unknown)
+     */
+    private static TimeSeries getTimeSeries(DoubleIndicator indicator) {
+        if (indicator instanceof AbstractDoubleIndicator) {
+            return ((AbstractDoubleIndicator) indicator).getTimeSeries();
         }
+        return null;
+    }
+
+    /**
+     * @return the first index of the indicators: the index of the oldest tick which can still be read from their time series
+     */
+    private int getFirstIndex() {
+        return Math.max(getFirstIndex(up), getFirstIndex(low));
+    }
+
+    /**
+     * @param indicator an indicator
+     * @return the first index of the indicator (0 if its time series is unknown)
+     */
+    private static int getFirstIndex(DoubleIndicator indicator) {
+        TimeSeries series = getTimeSeries(indicator);
+        return (series == null) ? 0 : series.getRemovedTickCount();
     }
 
     /**
@@ -22,28 +22,30 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Directional down indicator.
  * <p>
  */
-public class DirectionalDownIndicator implements Indicator<Double>{
+public class DirectionalDownIndicator extends AbstractDoubleIndicator {
 
-    private final Indicator<Double> admdown;
-    private final Indicator<Double> atr;
+    private final DoubleIndicator admdown;
+    private final DoubleIndicator atr;
     private final int timeFrame;
 
     public DirectionalDownIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.admdown = new AverageDirectionalMovementDownIndicator(series, timeFrame);
         this.atr = new AverageTrueRangeIndicator(series, timeFrame);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        return  admdown.getValue(index) / atr.getValue(index);
+    public double getDouble(int index) {
+        return  admdown.getDouble(index) / atr.getDouble(index);
     }
 
     @Override
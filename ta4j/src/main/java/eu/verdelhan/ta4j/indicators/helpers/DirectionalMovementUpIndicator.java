@@ -22,30 +22,30 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Directional movement up indicator.
  * <p>
  */
-public class DirectionalMovementUpIndicator implements Indicator<Double>
-{
+public class DirectionalMovementUpIndicator extends AbstractDoubleIndicator {
     private TimeSeries series;
 
     public DirectionalMovementUpIndicator(TimeSeries series) {
+        super(series);
         this.series = series;
     }
 
     @Override
-    public Double getValue(int index) {
-        if (index == 0) {
+    public double getDouble(int index) {
+        if (index <= getFirstIndex()) {
             return 0d;
         }
-        double yh = series.getTick(index - 1).getMaxPrice();
-        double th = series.getTick(index).getMaxPrice();
-        double yl = series.getTick(index - 1).getMinPrice();
-        double tl = series.getTick(index).getMinPrice();
+        double yh = series.getMaxPrice(index - 1);
+        double th = series.getMaxPrice(index);
+        double yl = series.getMinPrice(index - 1);
+        double tl = series.getMinPrice(index);
         
         if ((yh >= th && yl <= tl) || th - yh == yl - tl) {
             return 0d;
@@ -22,28 +22,30 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Directional up indicator.
  * <p>
  */
-public class DirectionalUpIndicator implements Indicator<Double>{
+public class DirectionalUpIndicator extends AbstractDoubleIndicator {
 
-    private final Indicator<Double> admup;
-    private final Indicator<Double> atr;
+    private final DoubleIndicator admup;
+    private final DoubleIndicator atr;
     private int timeFrame;
 
     public DirectionalUpIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.admup = new AverageDirectionalMovementUpIndicator(series, timeFrame);
         this.atr = new AverageTrueRangeIndicator(series, timeFrame);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        return admup.getValue(index) / atr.getValue(index);
+    public double getDouble(int index) {
+        return admup.getDouble(index) / atr.getDouble(index);
     }
 
     @Override
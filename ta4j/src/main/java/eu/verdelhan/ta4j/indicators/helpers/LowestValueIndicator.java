@@ -22,33 +22,80 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Lowest value indicator.
  * <p>
+ * The candidates of the time frame are kept in a monotonic deque (increasing values),
+ * so that each index is added and removed at most once when walking the series.
  */
-public class LowestValueIndicator implements Indicator<Double> {
+public class LowestValueIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
+    /** Circular buffer of the candidate indexes */
+    private final int[] dequeIndexes;
+
+    /** Circular buffer of the candidate values */
+    private final double[] dequeValues;
+
+    /** Position of the head of the deque in the buffers */
+    private int head;
+
+    /** Number of candidates in the deque */
+    private int size;
+
+    /** Last index pushed into the deque (-1 if none) */
+    private int lastIndex = -1;
+
     public LowestValueIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
+        this.dequeIndexes = new int[timeFrame];
+        this.dequeValues = new double[timeFrame];
     }
 
     @Override
-    public Double getValue(int index) {
-        int start = Math.max(0, index - timeFrame + 1);
-        double lowest = indicator.getValue(start).doubleValue();
-        for (int i = start + 1; i <= index; i++) {
-            if (lowest > indicator.getValue(i).doubleValue()) {
-                lowest = indicator.getValue(i).doubleValue();
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        if (index != lastIndex + 1) {
+            // Non-contiguous access: rebuilding the deque from the time frame
+            size = 0;
+            for (int i = Math.max(firstIndex, index - timeFrame + 1); i < index; i++) {
+                push(i, firstIndex);
             }
         }
-        return lowest;
+        push(index, firstIndex);
+        return dequeValues[head];
+    }
+
+    /**
+     * Pushes an index at the tail of the deque.
+     * @param index the index to be pushed
+     * @param firstIndex the first index of the indicator
+     */
+    private void push(int index, int firstIndex) {
+        while ((size > 0) && ((dequeIndexes[head] <= index - timeFrame) || (dequeIndexes[head] < firstIndex))) {
+            // The head left the time frame (or its tick has been evicted)
+            head = (head + 1) % timeFrame;
+            size--;
+        }
+        double value = indicator.getDouble(index);
+        while ((size > 0) && (dequeValues[(head + size - 1) % timeFrame] > value)) {
+            size--;
+        }
+        int tail = (head + size) % timeFrame;
+        dequeIndexes[tail] = index;
+        dequeValues[tail] = value;
+        size++;
+        lastIndex = index;
     }
 
     @Override
@@ -22,7 +22,10 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 
 /**
@@ -30,9 +33,9 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * <p>
  * @see http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation
  */
-public class MeanDeviationIndicator implements Indicator<Double> {
+public class MeanDeviationIndicator extends AbstractDoubleIndicator {
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
 
     private int timeFrame;
 
@@ -44,22 +47,23 @@ public class MeanDeviationIndicator implements Indicator<Double> {
      * @param timeFrame the time frame
      */
     public MeanDeviationIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
         sma = new SMAIndicator(indicator, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
+    public double getDouble(int index) {
         double absoluteDeviations = 0.0;
 
-        final double average = sma.getValue(index);
-        final int startIndex = Math.max(0, index - timeFrame + 1);
+        final double average = sma.getDouble(index);
+        final int startIndex = Math.max(getFirstIndex(), index - timeFrame + 1);
         final int nbValues = index - startIndex + 1;
 
         for (int i = startIndex; i <= index; i++) {
             // For each period...
-            absoluteDeviations += Math.abs(indicator.getValue(i).doubleValue() - average);
+            absoluteDeviations += Math.abs(indicator.getDouble(i) - average);
         }
         return absoluteDeviations / nbValues;
     }
@@ -22,20 +22,37 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Standard deviation indicator.
  * <p>
+ * The sum and the sum of squares of the time frame are maintained in a single pass over the series.
+ * Both are shifted by a value of the time frame (to avoid cancellation when the deviation is small
+ * compared to the values) and recomputed from scratch every time frame, in order to bound the rounding drift.
  */
-public class StandardDeviationIndicator implements Indicator<Double> {
+public class StandardDeviationIndicator extends CachedDoubleIndicator {
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
 
     private int timeFrame;
 
-    private SMAIndicator sma;
+    /** Value subtracted from each value before summing */
+    private double shift;
+
+    /** Sum of the shifted values of the time frame ending at lastIndex */
+    private double shiftedSum;
+
+    /** Sum of the squared shifted values of the time frame ending at lastIndex */
+    private double shiftedSumOfSquares;
+
+    private int lastIndex = -1;
+
+    /** First index of the values in the sums */
+    private int sumStart;
 
     /**
      * Constructor.
@@ -43,19 +60,47 @@ public class StandardDeviationIndicator implements Indicator<Double> {
      * @param timeFrame the time frame
      */
     public StandardDeviationIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
-        sma = new SMAIndicator(indicator, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
-        double standardDeviation = 0.0;
-        double average = sma.getValue(index);
-        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
-            standardDeviation += Math.pow(indicator.getValue(i).doubleValue() - average, 2.0);
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        int start = Math.max(firstIndex, index - timeFrame + 1);
+        // The evicted values of the sums cannot be read anymore to be subtracted
+        if ((index != lastIndex + 1) || (index % timeFrame == 0) || (sumStart < firstIndex)) {
+            shift = indicator.getDouble(start);
+            shiftedSum = 0.0;
+            shiftedSumOfSquares = 0.0;
+            for (int i = start; i <= index; i++) {
+                add(indicator.getDouble(i));
+            }
+        } else {
+            add(indicator.getDouble(index));
+            if (index - timeFrame >= firstIndex) {
+                remove(indicator.getDouble(index - timeFrame));
+            }
         }
-        return Math.sqrt(standardDeviation);
+        lastIndex = index;
+        sumStart = start;
+
+        int nbValues = index - start + 1;
+        double sumOfSquaredDeviations = shiftedSumOfSquares - (shiftedSum * shiftedSum / nbValues);
+        return Math.sqrt(Math.max(0.0, sumOfSquaredDeviations));
+    }
+
+    private void add(double value) {
+        double shifted = value - shift;
+        shiftedSum += shifted;
+        shiftedSumOfSquares += shifted * shifted;
+    }
+
+    private void remove(double value) {
+        double shifted = value - shift;
+        shiftedSum -= shifted;
+        shiftedSumOfSquares -= shifted * shifted;
     }
 
     @Override
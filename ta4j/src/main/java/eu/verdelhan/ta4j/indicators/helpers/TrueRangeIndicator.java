@@ -22,31 +22,52 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
 
 /**
  * True range indicator.
  * <p>
  */
-public class TrueRangeIndicator implements Indicator<Double>{
+public class TrueRangeIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries series;
 
     public TrueRangeIndicator(TimeSeries series) {
+        super(series);
         this.series = series;
     }
     
     @Override
-    public Double getValue(int index) {
-        double ts = series.getTick(index).getMaxPrice() - series.getTick(index).getMinPrice();
-        double ys = index == 0 ? 0 : series.getTick(index).getMaxPrice() - series.getTick(index - 1).getClosePrice();
-        double yst = index == 0 ? 0 : series.getTick(index - 1).getClosePrice() - series.getTick(index).getMinPrice();
+    public double getDouble(int index) {
+        double ts = series.getMaxPrice(index) - series.getMinPrice(index);
+        boolean first = index <= getFirstIndex();
+        double ys = first ? 0 : series.getMaxPrice(index) - series.getClosePrice(index - 1);
+        double yst = first ? 0 : series.getClosePrice(index - 1) - series.getMinPrice(index);
         double max = Math.max(Math.abs(ts), Math.abs(ys));
         
         return Math.max(max, Math.abs(yst));
     }
 
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        if (!(series instanceof ColumnarTimeSeries)) {
+            super.evaluate(from, to, values);
+            return;
+        }
+        checkRange(from, to, values);
+        // The first tick has no previous one
+        int start = (from <= getFirstIndex()) ? 1 : 0;
+        if (start == 1) {
+            values[0] = getDouble(from);
+        }
+        ColumnarTimeSeries columns = (ColumnarTimeSeries) series;
+        ArrayKernels.getInstance().trueRange(columns.getMaxPrices(), columns.getMinPrices(), columns.getClosePrices(),
+                from + start, values, start, to - from + 1 - start);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -22,8 +22,8 @@
  */
 package eu.verdelhan.ta4j.indicators.oscillators;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 
@@ -32,7 +32,7 @@ import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
  * Aroon up indicator.
  * <p>
  */
-public class AroonUpIndicator implements Indicator<Double> {
+public class AroonUpIndicator extends AbstractDoubleIndicator {
 
     private final int timeFrame;
 
@@ -41,21 +41,21 @@ public class AroonUpIndicator implements Indicator<Double> {
     private final HighestValueIndicator highestClosePriceIndicator;
 
     public AroonUpIndicator(TimeSeries timeSeries, int timeFrame) {
+        super(timeSeries);
         this.timeFrame = timeFrame;
         closePriceIndicator = new ClosePriceIndicator(timeSeries);
         highestClosePriceIndicator = new HighestValueIndicator(closePriceIndicator, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
-        int realTimeFrame = Math.min(timeFrame, index + 1);
+    public double getDouble(int index) {
+        int realTimeFrame = Math.min(timeFrame, index - getFirstIndex() + 1);
 
         // Getting the number of ticks since the highest close price
         int endIndex = index - realTimeFrame;
         int nbTicks = 0;
         for (int i = index; i > endIndex; i--) {
-            if (closePriceIndicator.getValue(i)
-                    .compareTo(highestClosePriceIndicator.getValue(index)) == 0) {
+            if (closePriceIndicator.getDouble(i) == highestClosePriceIndicator.getDouble(index)) {
                 break;
             }
             nbTicks++;
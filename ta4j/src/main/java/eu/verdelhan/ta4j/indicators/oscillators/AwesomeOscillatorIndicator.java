@@ -23,6 +23,7 @@
 package eu.verdelhan.ta4j.indicators.oscillators;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 
 /**
@@ -30,25 +31,27 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * <p>
  * @see http://www.forexgurus.co.uk/indicators/awesome-oscillator
  */
-public class AwesomeOscillatorIndicator implements Indicator<Double> {
+public class AwesomeOscillatorIndicator extends AbstractDoubleIndicator {
 
     private SMAIndicator sma5;
 
     private SMAIndicator sma34;
 
     public AwesomeOscillatorIndicator(Indicator<? extends Number> average, int timeFrameSma1, int timeFrameSma2) {
+        super(average);
         this.sma5 = new SMAIndicator(average, timeFrameSma1);
         this.sma34 = new SMAIndicator(average, timeFrameSma2);
     }
 
     public AwesomeOscillatorIndicator(Indicator<? extends Number> average) {
+        super(average);
         this.sma5 = new SMAIndicator(average, 5);
         this.sma34 = new SMAIndicator(average, 34);
     }
 
     @Override
-    public Double getValue(int index) {
-        return sma5.getValue(index) - sma34.getValue(index);
+    public double getDouble(int index) {
+        return sma5.getDouble(index) - sma34.getDouble(index);
     }
 
     @Override
@@ -22,8 +22,8 @@
  */
 package eu.verdelhan.ta4j.indicators.oscillators;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.MeanDeviationIndicator;
 import eu.verdelhan.ta4j.indicators.simple.TypicalPriceIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
@@ -33,7 +33,7 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * <p>
  * @see http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:commodity_channel_in
  */
-public class CCIIndicator implements Indicator<Double> {
+public class CCIIndicator extends AbstractDoubleIndicator {
 
     public static final double FACTOR = 0.015d;
 
@@ -51,17 +51,34 @@ public class CCIIndicator implements Indicator<Double> {
      * @param timeFrame the time frame
      */
     public CCIIndicator(TimeSeries timeSeries, int timeFrame) {
+        super(timeSeries);
         typicalPriceInd = new TypicalPriceIndicator(timeSeries);
         smaInd = new SMAIndicator(typicalPriceInd, timeFrame);
         meanDeviationInd = new MeanDeviationIndicator(typicalPriceInd, timeFrame);
         this.timeFrame = timeFrame;
     }
 
+    /**
+     * Constructor.
+     * @param typicalPriceInd the typical price indicator
+     * @param smaInd the SMA of the typical price over the time frame
+     * @param meanDeviationInd the mean deviation of the typical price over the time frame
+     * @param timeFrame the time frame
+     */
+    public CCIIndicator(TypicalPriceIndicator typicalPriceInd, SMAIndicator smaInd, MeanDeviationIndicator meanDeviationInd,
+            int timeFrame) {
+        super(typicalPriceInd);
+        this.typicalPriceInd = typicalPriceInd;
+        this.smaInd = smaInd;
+        this.meanDeviationInd = meanDeviationInd;
+        this.timeFrame = timeFrame;
+    }
+
     @Override
-    public Double getValue(int index) {
-        final double typicalPrice = typicalPriceInd.getValue(index);
-        final double typicalPriceAvg = smaInd.getValue(index);
-        final double meanDeviation = meanDeviationInd.getValue(index);
+    public double getDouble(int index) {
+        final double typicalPrice = typicalPriceInd.getDouble(index);
+        final double typicalPriceAvg = smaInd.getDouble(index);
+        final double meanDeviation = meanDeviationInd.getDouble(index);
         return (typicalPrice - typicalPriceAvg) / (FACTOR * meanDeviation);
     }
 
@@ -23,19 +23,21 @@
 package eu.verdelhan.ta4j.indicators.oscillators;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
 
 /**
  * Percentage price oscillator (PPO) indicator.
  * <p>
  */
-public class PPOIndicator implements Indicator<Double> {
+public class PPOIndicator extends AbstractDoubleIndicator {
 
     private final EMAIndicator shortTermEma;
 
     private final EMAIndicator longTermEma;
 
     public PPOIndicator(Indicator<? extends Number> indicator, int shortTimeFrame, int longTimeFrame) {
+        super(indicator);
         if (shortTimeFrame > longTimeFrame) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
@@ -44,7 +46,7 @@ public class PPOIndicator implements Indicator<Double> {
     }
 
     @Override
-    public Double getValue(int index) {
-        return (shortTermEma.getValue(index) - longTermEma.getValue(index)) / longTermEma.getValue(index) * 100;
+    public double getDouble(int index) {
+        return (shortTermEma.getDouble(index) - longTermEma.getDouble(index)) / longTermEma.getDouble(index) * 100;
     }
 }
@@ -22,7 +22,10 @@
  */
 package eu.verdelhan.ta4j.indicators.oscillators;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 
 /**
@@ -30,21 +33,23 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * <p>
  * Receive {@link StochasticOscillatorKIndicator} and returns its {@link SMAIndicator SMAIndicator(3)}.
  */
-public class StochasticOscillatorDIndicator implements Indicator<Double> {
+public class StochasticOscillatorDIndicator extends AbstractDoubleIndicator {
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
 
     public StochasticOscillatorDIndicator(StochasticOscillatorKIndicator k) {
+        super(k);
         indicator = new SMAIndicator(k, 3);
     }
 
     public StochasticOscillatorDIndicator(Indicator<? extends Number> indicator) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
     }
 
     @Override
-    public Double getValue(int index) {
-        return indicator.getValue(index).doubleValue();
+    public double getDouble(int index) {
+        return indicator.getDouble(index);
     }
 
     @Override
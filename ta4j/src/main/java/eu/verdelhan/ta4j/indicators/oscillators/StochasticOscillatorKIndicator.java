@@ -22,8 +22,11 @@
  */
 package eu.verdelhan.ta4j.indicators.oscillators;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
@@ -39,14 +42,14 @@ import eu.verdelhan.ta4j.indicators.simple.MinPriceIndicator;
  * MinPriceIndicator and returns StochasticOsiclatorK over this indicator.
  * 
  */
-public class StochasticOscillatorKIndicator implements Indicator<Double> {
-    private final Indicator<? extends Number> indicator;
+public class StochasticOscillatorKIndicator extends AbstractDoubleIndicator {
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
-    private MaxPriceIndicator maxPriceIndicator;
+    private final HighestValueIndicator highestHigh;
 
-    private MinPriceIndicator minPriceIndicator;
+    private final LowestValueIndicator lowestMin;
 
     public StochasticOscillatorKIndicator(TimeSeries timeSeries, int timeFrame) {
         this(new ClosePriceIndicator(timeSeries), timeFrame, new MaxPriceIndicator(timeSeries), new MinPriceIndicator(
@@ -55,21 +58,28 @@ public class StochasticOscillatorKIndicator implements Indicator<Double> {
 
     public StochasticOscillatorKIndicator(Indicator<? extends Number> indicator, int timeFrame,
             MaxPriceIndicator maxPriceIndicator, MinPriceIndicator minPriceIndicator) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
-        this.maxPriceIndicator = maxPriceIndicator;
-        this.minPriceIndicator = minPriceIndicator;
+        this.highestHigh = new HighestValueIndicator(maxPriceIndicator, timeFrame);
+        this.lowestMin = new LowestValueIndicator(minPriceIndicator, timeFrame);
     }
 
-    @Override
-    public Double getValue(int index) {
-        HighestValueIndicator highestHigh = new HighestValueIndicator(maxPriceIndicator, timeFrame);
-        LowestValueIndicator lowestMin = new LowestValueIndicator(minPriceIndicator, timeFrame);
+    public StochasticOscillatorKIndicator(Indicator<? extends Number> indicator, int timeFrame,
+            HighestValueIndicator highestHigh, LowestValueIndicator lowestMin) {
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
+        this.timeFrame = timeFrame;
+        this.highestHigh = highestHigh;
+        this.lowestMin = lowestMin;
+    }
 
-        double highestHighPrice = highestHigh.getValue(index);
-        double lowestLowPrice = lowestMin.getValue(index);
+    @Override
+    public double getDouble(int index) {
+        double highestHighPrice = highestHigh.getDouble(index);
+        double lowestLowPrice = lowestMin.getDouble(index);
 
-        return (indicator.getValue(index).doubleValue() - lowestLowPrice) / (highestHighPrice - lowestLowPrice) * 100d;
+        return (indicator.getDouble(index) - lowestLowPrice) / (highestHighPrice - lowestLowPrice) * 100d;
     }
 
     @Override
@@ -22,24 +22,33 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Close price indicator.
  * <p>
  */
-public class ClosePriceIndicator implements Indicator<Double> {
+public class ClosePriceIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries data;
 
     public ClosePriceIndicator(TimeSeries data) {
+        super(data);
         this.data = data;
     }
 
     @Override
-    public Double getValue(int index) {
-        return data.getTick(index).getClosePrice();
+    public double getDouble(int index) {
+        return data.getClosePrice(index);
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        checkRange(from, to, values);
+        for (int i = from; i <= to; i++) {
+            values[i - from] = data.getClosePrice(i);
+        }
     }
 
     @Override
@@ -22,24 +22,38 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
 
 /**
  * Average high-low indicator.
  * <p>
  */
-public class MedianPriceIndicator implements Indicator<Double> {
+public class MedianPriceIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries data;
 
     public MedianPriceIndicator(TimeSeries data) {
+        super(data);
         this.data = data;
     }
 
     @Override
-    public Double getValue(int index) {
-        return (data.getTick(index).getMaxPrice() + data.getTick(index).getMinPrice()) / 2d;
+    public double getDouble(int index) {
+        return (data.getMaxPrice(index) + data.getMinPrice(index)) / 2d;
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        if (!(data instanceof ColumnarTimeSeries)) {
+            super.evaluate(from, to, values);
+            return;
+        }
+        checkRange(from, to, values);
+        ColumnarTimeSeries columns = (ColumnarTimeSeries) data;
+        ArrayKernels.getInstance().medianPrice(columns.getMaxPrices(), columns.getMinPrices(), from, values, 0, to - from + 1);
     }
 
     @Override
@@ -22,24 +22,33 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Minimum price indicator.
  * <p>
  */
-public class MinPriceIndicator implements Indicator<Double> {
+public class MinPriceIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries data;
 
     public MinPriceIndicator(TimeSeries data) {
+        super(data);
         this.data = data;
     }
 
     @Override
-    public Double getValue(int index) {
-        return data.getTick(index).getMinPrice();
+    public double getDouble(int index) {
+        return data.getMinPrice(index);
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        checkRange(from, to, values);
+        for (int i = from; i <= to; i++) {
+            values[i - from] = data.getMinPrice(i);
+        }
     }
 
     @Override
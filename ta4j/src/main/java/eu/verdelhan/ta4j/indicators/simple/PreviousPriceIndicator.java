@@ -22,24 +22,25 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Previous price indicator.
  * <p>
  */
-public class PreviousPriceIndicator implements Indicator<Double> {
+public class PreviousPriceIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries data;
 
     public PreviousPriceIndicator(TimeSeries data) {
+        super(data);
         this.data = data;
     }
 
     @Override
-    public Double getValue(int index) {
-        return data.getTick(Math.max(0, index - 1)).getClosePrice();
+    public double getDouble(int index) {
+        return data.getClosePrice(Math.max(getFirstIndex(), index - 1));
     }
 
     @Override
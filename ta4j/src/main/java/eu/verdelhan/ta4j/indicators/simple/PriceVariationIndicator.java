@@ -22,28 +22,47 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
 
 /**
  * Price variation indicator.
  * <p>
  */
-public class PriceVariationIndicator implements Indicator<Double> {
+public class PriceVariationIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries data;
 
     public PriceVariationIndicator(TimeSeries data) {
+        super(data);
         this.data = data;
     }
 
     @Override
-    public Double getValue(int index) {
-        double previousTickClosePrice = data.getTick(Math.max(0, index - 1)).getClosePrice();
-        double currentTickClosePrice = data.getTick(index).getClosePrice();
+    public double getDouble(int index) {
+        double previousTickClosePrice = data.getClosePrice(Math.max(getFirstIndex(), index - 1));
+        double currentTickClosePrice = data.getClosePrice(index);
         return currentTickClosePrice / previousTickClosePrice;
     }
 
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        if (!(data instanceof ColumnarTimeSeries)) {
+            super.evaluate(from, to, values);
+            return;
+        }
+        checkRange(from, to, values);
+        // The first tick has no previous one
+        int start = (from <= getFirstIndex()) ? 1 : 0;
+        if (start == 1) {
+            values[0] = getDouble(from);
+        }
+        double[] closePrices = ((ColumnarTimeSeries) data).getClosePrices();
+        ArrayKernels.getInstance().priceVariation(closePrices, from + start, values, start, to - from + 1 - start);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
@@ -22,26 +22,37 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Simple multiplier indicator.
  * <p>
  */
-public class SimpleMultiplierIndicator implements Indicator<Double> {
+public class SimpleMultiplierIndicator extends AbstractDoubleIndicator {
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
     private double value;
     
 
     public SimpleMultiplierIndicator(Indicator<? extends Number> indicator, double value) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.value = value;
     }
 
     @Override
-    public Double getValue(int index) {
-        return indicator.getValue(index).doubleValue() * value;
+    public double getDouble(int index) {
+        return indicator.getDouble(index) * value;
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        indicator.evaluate(from, to, values);
+        ArrayKernels.getInstance().multiply(values, value, values, to - from + 1);
     }
 
     @Override
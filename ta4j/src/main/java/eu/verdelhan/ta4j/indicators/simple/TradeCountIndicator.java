@@ -39,7 +39,7 @@ public class TradeCountIndicator implements Indicator<Integer> {
 
     @Override
     public Integer getValue(int index) {
-        return data.getTick(index).getTrades();
+        return data.getTrades(index);
     }
 
     @Override
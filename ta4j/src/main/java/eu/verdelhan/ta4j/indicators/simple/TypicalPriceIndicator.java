@@ -22,29 +22,44 @@
  */
 package eu.verdelhan.ta4j.indicators.simple;
 
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
 
 /**
  * Typical price indicator.
  * <p>
  */
-public class TypicalPriceIndicator implements Indicator<Double> {
+public class TypicalPriceIndicator extends AbstractDoubleIndicator {
 
     private TimeSeries data;
 
     public TypicalPriceIndicator(TimeSeries data) {
+        super(data);
         this.data = data;
     }
 
     @Override
-    public Double getValue(int index) {
-        double maxPrice = data.getTick(index).getMaxPrice();
-        double minPrice = data.getTick(index).getMinPrice();
-        double closePrice = data.getTick(index).getClosePrice();
+    public double getDouble(int index) {
+        double maxPrice = data.getMaxPrice(index);
+        double minPrice = data.getMinPrice(index);
+        double closePrice = data.getClosePrice(index);
         return (maxPrice + minPrice + closePrice) / 3d;
     }
 
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        if (!(data instanceof ColumnarTimeSeries)) {
+            super.evaluate(from, to, values);
+            return;
+        }
+        checkRange(from, to, values);
+        ColumnarTimeSeries columns = (ColumnarTimeSeries) data;
+        ArrayKernels.getInstance().typicalPrice(columns.getMaxPrices(), columns.getMinPrices(), columns.getClosePrices(), from,
+                values, 0, to - from + 1);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName();
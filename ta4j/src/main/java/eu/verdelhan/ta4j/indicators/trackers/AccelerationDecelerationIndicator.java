@@ -23,7 +23,7 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.oscillators.AwesomeOscillatorIndicator;
 import eu.verdelhan.ta4j.indicators.simple.MedianPriceIndicator;
 
@@ -31,13 +31,14 @@ import eu.verdelhan.ta4j.indicators.simple.MedianPriceIndicator;
  * Acceleration-deceleration indicator.
  * <p>
  */
-public class AccelerationDecelerationIndicator implements Indicator<Double> {
+public class AccelerationDecelerationIndicator extends AbstractDoubleIndicator {
     
     private AwesomeOscillatorIndicator awesome;
     
     private SMAIndicator sma5;
 
     public AccelerationDecelerationIndicator(TimeSeries series, int timeFrameSma1, int timeFrameSma2) {
+        super(series);
         this.awesome = new AwesomeOscillatorIndicator(new MedianPriceIndicator(series), timeFrameSma1, timeFrameSma2);
         this.sma5 = new SMAIndicator(awesome, timeFrameSma1);
     }
@@ -47,8 +48,8 @@ public class AccelerationDecelerationIndicator implements Indicator<Double> {
     }
     
     @Override
-    public Double getValue(int index) {
-        return awesome.getValue(index) - sma5.getValue(index);
+    public double getDouble(int index) {
+        return awesome.getDouble(index) - sma5.getDouble(index);
     }
 
     @Override
@@ -23,29 +23,29 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 
 /**
  * Average directional movement indicator.
  * <p>
  */
-public class AverageDirectionalMovementIndicator extends CachedIndicator<Double> {
+public class AverageDirectionalMovementIndicator extends CachedDoubleIndicator {
 
     private final int timeFrame;
     private final DirectionalMovementIndicator dm;
 
     public AverageDirectionalMovementIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.timeFrame = timeFrame;
         this.dm = new DirectionalMovementIndicator(series, timeFrame);
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (index == 0) {
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
             return 1d;
         }
-        return (getValue(index - 1) * (timeFrame - 1) / timeFrame) + (dm.getValue(index) / timeFrame);
+        return (getDouble(index - 1) * (timeFrame - 1) / timeFrame) + (dm.getDouble(index) / timeFrame);
     }
 
     @Override
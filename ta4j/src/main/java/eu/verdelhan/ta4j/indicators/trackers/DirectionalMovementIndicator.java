@@ -22,8 +22,8 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
-import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.DirectionalDownIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.DirectionalUpIndicator;
 
@@ -31,22 +31,23 @@ import eu.verdelhan.ta4j.indicators.helpers.DirectionalUpIndicator;
  * Directional movement indicator.
  * <p>
  */
-public class DirectionalMovementIndicator implements Indicator<Double>{
+public class DirectionalMovementIndicator extends AbstractDoubleIndicator {
 
     private final int timeFrame;
     private final DirectionalUpIndicator dup;
     private final DirectionalDownIndicator ddown;
 
     public DirectionalMovementIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.timeFrame = timeFrame;
         dup = new DirectionalUpIndicator(series, timeFrame);
         ddown = new DirectionalDownIndicator(series, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
-        double dupValue = dup.getValue(index);
-        double ddownValue = ddown.getValue(index);
+    public double getDouble(int index) {
+        double dupValue = dup.getDouble(index);
+        double ddownValue = ddown.getDouble(index);
         
         return (Math.abs((dupValue - ddownValue)) / (dupValue + ddownValue)) * 100;
     }
@@ -23,25 +23,29 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Double exponential moving average indicator.
  * <p>
  */
-public class DoubleEMAIndicator implements Indicator<Double> {
+public class DoubleEMAIndicator extends AbstractDoubleIndicator {
 
     private final int timeFrame;
 
     private final EMAIndicator ema;
 
+    private final EMAIndicator emaEma;
+
     public DoubleEMAIndicator(Indicator<? extends Number> indicator, int timeFrame) {
+        super(indicator);
         this.timeFrame = timeFrame;
         this.ema = new EMAIndicator(indicator, timeFrame);
+        this.emaEma = new EMAIndicator(ema, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
-        EMAIndicator emaEma = new EMAIndicator(ema, timeFrame);
-        return (2 * ema.getValue(index)) - emaEma.getValue(index);
+    public double getDouble(int index) {
+        return (2 * ema.getDouble(index)) - emaEma.getDouble(index);
     }
 }
@@ -22,22 +22,28 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Exponential moving average indicator.
  * <p>
  */
-public class EMAIndicator extends CachedIndicator<Double> {
+public class EMAIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
+    private final SMAIndicator sma;
+
     public EMAIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
+        this.sma = new SMAIndicator(this.indicator, timeFrame);
     }
 
     private double multiplier() {
@@ -46,15 +52,16 @@ public class EMAIndicator extends CachedIndicator<Double> {
 
 
     @Override
-    protected Double calculate(int index) {
-        if (index + 1 < timeFrame) {
-            return new SMAIndicator(indicator, timeFrame).getValue(index);
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        if (index - firstIndex + 1 < timeFrame) {
+            return sma.getDouble(index);
         }
-        if(index == 0) {
-            return indicator.getValue(0).doubleValue();
+        if(index == firstIndex) {
+            return indicator.getDouble(index);
         }
-        double emaPrev = getValue(index - 1).doubleValue();
-        return ((indicator.getValue(index).doubleValue() - emaPrev) * multiplier()) + emaPrev;
+        double emaPrev = getDouble(index - 1);
+        return ((indicator.getDouble(index) - emaPrev) * multiplier()) + emaPrev;
     }
 
     @Override
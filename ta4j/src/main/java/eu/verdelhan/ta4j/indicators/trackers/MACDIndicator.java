@@ -23,18 +23,20 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Moving average convergence divergence (MACDIndicator) indicator.
  * <p>
  */
-public class MACDIndicator implements Indicator<Double> {
+public class MACDIndicator extends AbstractDoubleIndicator {
 
     private final EMAIndicator shortTermEma;
 
     private final EMAIndicator longTermEma;
 
     public MACDIndicator(Indicator<? extends Number> indicator, int shortTimeFrame, int longTimeFrame) {
+        super(indicator);
         if (shortTimeFrame > longTimeFrame) {
             throw new IllegalArgumentException("Long term period count must be greater than short term period count");
         }
@@ -42,9 +44,20 @@ public class MACDIndicator implements Indicator<Double> {
         longTermEma = new EMAIndicator(indicator, longTimeFrame);
     }
 
+    /**
+     * Constructor.
+     * @param shortTermEma the short term EMA of an indicator
+     * @param longTermEma the long term EMA of the same indicator
+     */
+    public MACDIndicator(EMAIndicator shortTermEma, EMAIndicator longTermEma) {
+        super(shortTermEma);
+        this.shortTermEma = shortTermEma;
+        this.longTermEma = longTermEma;
+    }
+
     @Override
-    public Double getValue(int index) {
-        return shortTermEma.getValue(index).doubleValue() - longTermEma.getValue(index).doubleValue();
+    public double getDouble(int index) {
+        return shortTermEma.getDouble(index) - longTermEma.getDouble(index);
     }
 
 }
@@ -24,7 +24,7 @@ package eu.verdelhan.ta4j.indicators.trackers;
 
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
 import eu.verdelhan.ta4j.indicators.simple.MaxPriceIndicator;
@@ -34,7 +34,7 @@ import eu.verdelhan.ta4j.indicators.simple.MinPriceIndicator;
  * Parabolic SAR indicator.
  * <p>
  */
-public class ParabolicSarIndicator extends CachedIndicator<Double> {
+public class ParabolicSarIndicator extends CachedDoubleIndicator {
 
     private double acceleration;
 
@@ -47,8 +47,18 @@ public class ParabolicSarIndicator extends CachedIndicator<Double> {
     private final HighestValueIndicator highestValueIndicator;
     
     private final int timeFrame;
+
+    /** Index of the last calculated value */
+    private int lastIndex = -1;
+
+    /** Acceleration before the calculation of the last index */
+    private double previousAcceleration;
+
+    /** Extreme point before the calculation of the last index */
+    private double previousExtremePoint;
     
     public ParabolicSarIndicator(TimeSeries series, int timeFrame) {
+        super(series);
         this.acceleration = 0.02d;
         this.series = series;
         this.lowestValueIndicator = new LowestValueIndicator(new MinPriceIndicator(series), timeFrame);
@@ -57,43 +67,53 @@ public class ParabolicSarIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
+
+        if (index == lastIndex) {
+            // Calculating the last index again (e.g. amended tick): restoring the state of the previous index
+            acceleration = previousAcceleration;
+            extremePoint = previousExtremePoint;
+        } else {
+            previousAcceleration = acceleration;
+            previousExtremePoint = extremePoint;
+        }
+        lastIndex = index;
 
-        if (index <= 1) {
+        if (index <= getFirstIndex() + 1) {
             // Warning: should the min or the max price, according to the trend
             // But we don't know the trend yet, so we use the close price.
-            extremePoint = series.getTick(index).getClosePrice();
+            extremePoint = series.getClosePrice(index);
             return extremePoint;
         }
 
-        double n2ClosePrice = series.getTick(index - 2).getClosePrice();
-        double n1ClosePrice = series.getTick(index - 1).getClosePrice();
-        double nClosePrice = series.getTick(index).getClosePrice();
+        double n2ClosePrice = series.getClosePrice(index - 2);
+        double n1ClosePrice = series.getClosePrice(index - 1);
+        double nClosePrice = series.getClosePrice(index);
 
         double sar;
         if (n2ClosePrice > n1ClosePrice && n1ClosePrice < nClosePrice) {
             // Trend switch: \_/
             sar = extremePoint;
-            extremePoint = highestValueIndicator.getValue(index);
+            extremePoint = highestValueIndicator.getDouble(index);
             acceleration = 0.02;
         } else if (n2ClosePrice < n1ClosePrice && n1ClosePrice > nClosePrice) {
             // Trend switch: /¯\
             sar = extremePoint;
-            extremePoint = lowestValueIndicator.getValue(index);
+            extremePoint = lowestValueIndicator.getDouble(index);
             acceleration = 0.02;
 
         } else if (nClosePrice < n1ClosePrice) {
              // Downtrend: falling SAR
-            double lowestValue = lowestValueIndicator.getValue(index);
+            double lowestValue = lowestValueIndicator.getDouble(index);
             if (extremePoint > lowestValue) {
                 acceleration = acceleration >= 0.19 ? 0.2 : acceleration + 0.02d;
                 extremePoint = lowestValue;
             }
-            sar = (extremePoint - getValue(index - 1)) * acceleration + getValue(index - 1);
+            sar = (extremePoint - getDouble(index - 1)) * acceleration + getDouble(index - 1);
 
-            double n2MaxPrice = series.getTick(index - 2).getMaxPrice();
-            double n1MaxPrice = series.getTick(index - 1).getMaxPrice();
-            double nMaxPrice = series.getTick(index).getMaxPrice();
+            double n2MaxPrice = series.getMaxPrice(index - 2);
+            double n1MaxPrice = series.getMaxPrice(index - 1);
+            double nMaxPrice = series.getMaxPrice(index);
 
             if (n1MaxPrice > sar) {
                 sar = n1MaxPrice;
@@ -101,21 +121,21 @@ public class ParabolicSarIndicator extends CachedIndicator<Double> {
                 sar = n2MaxPrice;
             }
             if (nMaxPrice > sar) {
-                sar = series.getTick(index).getMinPrice();
+                sar = series.getMinPrice(index);
             }
 
         } else {
              // Uptrend: rising SAR
-            double highestValue = highestValueIndicator.getValue(index);
+            double highestValue = highestValueIndicator.getDouble(index);
             if (extremePoint < highestValue) {
                 acceleration = acceleration >= 0.19 ? 0.2 : acceleration + 0.02;
                 extremePoint = highestValue;
             }
-            sar = (extremePoint - getValue(index - 1)) * acceleration + getValue(index - 1);
+            sar = (extremePoint - getDouble(index - 1)) * acceleration + getDouble(index - 1);
 
-            double n2MinPrice = series.getTick(index - 2).getMinPrice();
-            double n1MinPrice = series.getTick(index - 1).getMinPrice();
-            double nMinPrice = series.getTick(index).getMinPrice();
+            double n2MinPrice = series.getMinPrice(index - 2);
+            double n1MinPrice = series.getMinPrice(index - 1);
+            double nMinPrice = series.getMinPrice(index);
 
             if (n1MinPrice < sar) {
                 sar = n1MinPrice;
@@ -123,7 +143,7 @@ public class ParabolicSarIndicator extends CachedIndicator<Double> {
                 sar = n2MinPrice;
             }
             if (nMinPrice < sar) {
-                sar = series.getTick(index).getMaxPrice();
+                sar = series.getMaxPrice(index);
             }
 
         }
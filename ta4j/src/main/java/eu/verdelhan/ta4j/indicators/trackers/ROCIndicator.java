@@ -22,7 +22,10 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Rate of change (ROCIndicator) indicator.
@@ -30,22 +33,23 @@ import eu.verdelhan.ta4j.Indicator;
  * <p>
  * The ROCIndicator calculation compares the current value with the value "n" periods ago.
  */
-public class ROCIndicator implements Indicator<Double> {
+public class ROCIndicator extends AbstractDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
     public ROCIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        int nIndex = Math.max(index - timeFrame, 0);
-        double nPeriodsAgoValue = indicator.getValue(nIndex).doubleValue();
-        double currentValue = indicator.getValue(index).doubleValue();
+    public double getDouble(int index) {
+        int nIndex = Math.max(index - timeFrame, getFirstIndex());
+        double nPeriodsAgoValue = indicator.getDouble(nIndex);
+        double currentValue = indicator.getDouble(index);
         return (currentValue - nPeriodsAgoValue) / nPeriodsAgoValue * 100d;
     }
 }
\ No newline at end of file
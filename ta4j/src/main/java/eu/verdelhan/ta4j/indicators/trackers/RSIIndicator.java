@@ -23,6 +23,7 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.AverageGainIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
 
@@ -30,19 +31,36 @@ import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
  * Relative strength index indicator.
  * <p>
  */
-public class RSIIndicator implements Indicator<Double> {
-
-    private final Indicator<? extends Number> indicator;
+public class RSIIndicator extends AbstractDoubleIndicator {
 
     private final int timeFrame;
 
+    private final AverageGainIndicator averageGain;
+
+    private final AverageLossIndicator averageLoss;
+
     public RSIIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.timeFrame = timeFrame;
+        this.averageGain = new AverageGainIndicator(indicator, timeFrame);
+        this.averageLoss = new AverageLossIndicator(indicator, timeFrame);
+    }
+
+    /**
+     * Constructor.
+     * @param averageGain the average gain of an indicator over the time frame
+     * @param averageLoss the average loss of the same indicator over the time frame
+     * @param timeFrame the time frame
+     */
+    public RSIIndicator(AverageGainIndicator averageGain, AverageLossIndicator averageLoss, int timeFrame) {
+        super(averageGain);
         this.timeFrame = timeFrame;
+        this.averageGain = averageGain;
+        this.averageLoss = averageLoss;
     }
 
     @Override
-    public Double getValue(int index) {
+    public double getDouble(int index) {
         return 100d - 100d / (1 + relativeStrength(index));
     }
 
@@ -55,11 +73,9 @@ public class RSIIndicator implements Indicator<Double> {
      * @param index
      * @return
      */
-    private Double relativeStrength(int index) {
-        if (index == 0)
+    private double relativeStrength(int index) {
+        if (index <= getFirstIndex())
             return 0d;
-        AverageGainIndicator averageGain = new AverageGainIndicator(indicator, timeFrame);
-        AverageLossIndicator averageLoss = new AverageLossIndicator(indicator, timeFrame);
-        return averageGain.getValue(index) / averageLoss.getValue(index);
+        return averageGain.getDouble(index) / averageLoss.getDouble(index);
     }
 }
@@ -22,31 +22,92 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Simple moving average (SMA) indicator.
  * <p>
+ * The sum of the time frame is maintained incrementally from one index to the next
+ * and recomputed from scratch every time frame, in order to bound the rounding drift.
+ * The running sum is compensated (Kahan summation), and the average of a flat time frame
+ * (i.e. all values equal) is exactly its value, so that no rounding noise is seen as a deviation.
  */
-public class SMAIndicator implements Indicator<Double> {
+public class SMAIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
+    /** Sum of the values in the time frame ending at sumIndex */
+    private double sum;
+
+    /** Running compensation of the low-order bits lost in sum */
+    private double compensation;
+
+    private int sumIndex = -1;
+
+    /** First index of the values in sum */
+    private int sumStart;
+
+    /** Value at sumIndex */
+    private double lastValue;
+
+    /** Number of consecutive values equal to lastValue, up to sumIndex (capped to the time frame) */
+    private int equalCount;
+
     public SMAIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        double sum = 0.0;
-        for (int i = Math.max(0, index - timeFrame + 1); i <= index; i++) {
-            sum += indicator.getValue(i).doubleValue();
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        int start = Math.max(firstIndex, index - timeFrame + 1);
+        // The evicted values of the sum cannot be read anymore to be subtracted
+        if ((index != sumIndex + 1) || (index % timeFrame == 0) || (sumStart < firstIndex)) {
+            sum = 0.0;
+            compensation = 0.0;
+            equalCount = 0;
+            for (int i = start; i <= index; i++) {
+                double value = indicator.getDouble(i);
+                add(value);
+                equalCount = (equalCount > 0 && value == lastValue) ? equalCount + 1 : 1;
+                lastValue = value;
+            }
+        } else {
+            double value = indicator.getDouble(index);
+            add(value);
+            if (index - timeFrame >= firstIndex) {
+                add(-indicator.getDouble(index - timeFrame));
+            }
+            equalCount = (value == lastValue) ? Math.min(equalCount + 1, timeFrame) : 1;
+            lastValue = value;
+        }
+        sumIndex = index;
+        sumStart = start;
+
+        int nbValues = index - start + 1;
+        if (equalCount >= nbValues) {
+            // Flat time frame
+            return lastValue;
         }
+        return sum / nbValues;
+    }
 
-        return sum / Math.min(timeFrame, index + 1);
+    /**
+     * Adds a value to the running sum, with compensation of the rounding error.
+     * @param value the value to be added
+     */
+    private void add(double value) {
+        double y = value - compensation;
+        double t = sum + y;
+        compensation = (t - sum) - y;
+        sum = t;
     }
 
     @Override
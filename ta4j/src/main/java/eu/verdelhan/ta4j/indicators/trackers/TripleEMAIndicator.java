@@ -23,27 +23,33 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
 
 /**
  * Triple exponential moving average indicator.
  * <p>
  * a.k.a TRIX
  */
-public class TripleEMAIndicator implements Indicator<Double> {
+public class TripleEMAIndicator extends AbstractDoubleIndicator {
 
     private final int timeFrame;
 
     private final EMAIndicator ema;
 
+    private final EMAIndicator emaEma;
+
+    private final EMAIndicator emaEmaEma;
+
     public TripleEMAIndicator(Indicator<? extends Number> indicator, int timeFrame) {
+        super(indicator);
         this.timeFrame = timeFrame;
         this.ema = new EMAIndicator(indicator, timeFrame);
+        this.emaEma = new EMAIndicator(ema, timeFrame);
+        this.emaEmaEma = new EMAIndicator(emaEma, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
-        EMAIndicator emaEma = new EMAIndicator(ema, timeFrame);
-        EMAIndicator emaEmaEma = new EMAIndicator(emaEma, timeFrame);
-        return (3 * ema.getValue(index) - 3 * emaEma.getValue(index)) + emaEmaEma.getValue(index);
+    public double getDouble(int index) {
+        return (3 * ema.getDouble(index) - 3 * emaEma.getDouble(index)) + emaEmaEma.getDouble(index);
     }
 }
@@ -22,43 +22,69 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * WMA indicator.
  * <p>
+ * The weighted sum and the plain sum of the time frame are maintained incrementally from one index to the next
+ * and recomputed from scratch every time frame, in order to bound the rounding drift.
  */
-public class WMAIndicator implements Indicator<Double> {
+public class WMAIndicator extends CachedDoubleIndicator {
 
     private int timeFrame;
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
+
+    /** Weighted sum of the time frame ending at sumIndex (the oldest value has a weight of 1) */
+    private double weightedSum;
+
+    /** Plain sum of the time frame ending at sumIndex */
+    private double sum;
+
+    private int sumIndex = -1;
+
+    /** First index of the values in sum */
+    private int sumStart;
 
     public WMAIndicator(Indicator<? extends Number> indicator, int timeFrame) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
     }
 
     @Override
-    public Double getValue(int index) {
-        if (index == 0) {
-            return indicator.getValue(0).doubleValue();
-        }
-        double value = 0;
-        if(index - timeFrame < 0) {
-            
-            for(int i = index + 1; i > 0; i--) {
-                value += i * indicator.getValue(i-1).doubleValue();
+    protected double calculate(int index) {
+        int firstIndex = getFirstIndex();
+        int start = Math.max(firstIndex, index - timeFrame + 1);
+        // The evicted values of the sums cannot be read anymore to be subtracted
+        if ((index != sumIndex + 1) || (index % timeFrame == 0) || (sumStart < firstIndex)) {
+            weightedSum = 0;
+            sum = 0;
+            for (int i = start; i <= index; i++) {
+                double value = indicator.getDouble(i);
+                weightedSum += (i - start + 1) * value;
+                sum += value;
             }
-            return value / (((index + 1) * (index + 2)) / 2);
-        }
-        
-        int actualIndex = index;
-        for(int i = timeFrame; i > 0; i--) {
-            value += i * indicator.getValue(actualIndex).doubleValue();
-            actualIndex--;
+        } else if (index - firstIndex < timeFrame) {
+            // The time frame is growing: the new value gets the next weight
+            double value = indicator.getDouble(index);
+            weightedSum += (index - firstIndex + 1) * value;
+            sum += value;
+        } else {
+            // Every weight decreases by 1, the oldest value leaves the time frame
+            double value = indicator.getDouble(index);
+            weightedSum += (timeFrame * value) - sum;
+            sum += value - indicator.getDouble(index - timeFrame);
         }
-        return value / ((timeFrame * (timeFrame + 1)) / 2);
+        sumIndex = index;
+        sumStart = start;
+
+        double nbValues = index - start + 1;
+        return weightedSum / (nbValues * (nbValues + 1) / 2);
     }
 
     @Override
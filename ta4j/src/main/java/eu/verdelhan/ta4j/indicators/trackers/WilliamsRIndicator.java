@@ -22,8 +22,11 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
 import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
@@ -34,15 +37,15 @@ import eu.verdelhan.ta4j.indicators.simple.MinPriceIndicator;
  * William's R indicator.
  * <p>
  */
-public class WilliamsRIndicator implements Indicator<Double> {
+public class WilliamsRIndicator extends AbstractDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private final int timeFrame;
 
-    private MaxPriceIndicator maxPriceIndicator;
+    private final HighestValueIndicator highestHigh;
 
-    private MinPriceIndicator minPriceIndicator;
+    private final LowestValueIndicator lowestMin;
 
     public WilliamsRIndicator(TimeSeries timeSeries, int timeFrame) {
         this(new ClosePriceIndicator(timeSeries), timeFrame, new MaxPriceIndicator(timeSeries), new MinPriceIndicator(
@@ -51,21 +54,19 @@ public class WilliamsRIndicator implements Indicator<Double> {
 
     public WilliamsRIndicator(Indicator<? extends Number> indicator, int timeFrame,
             MaxPriceIndicator maxPriceIndicator, MinPriceIndicator minPriceIndicator) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.timeFrame = timeFrame;
-        this.maxPriceIndicator = maxPriceIndicator;
-        this.minPriceIndicator = minPriceIndicator;
+        this.highestHigh = new HighestValueIndicator(maxPriceIndicator, timeFrame);
+        this.lowestMin = new LowestValueIndicator(minPriceIndicator, timeFrame);
     }
 
     @Override
-    public Double getValue(int index) {
-        HighestValueIndicator highestHigh = new HighestValueIndicator(maxPriceIndicator, timeFrame);
-        LowestValueIndicator lowestMin = new LowestValueIndicator(minPriceIndicator, timeFrame);
+    public double getDouble(int index) {
+        double highestHighPrice = highestHigh.getDouble(index);
+        double lowestLowPrice = lowestMin.getDouble(index);
 
-        double highestHighPrice = highestHigh.getValue(index).doubleValue();
-        double lowestLowPrice = lowestMin.getValue(index).doubleValue();
-
-        return ((highestHighPrice - indicator.getValue(index).doubleValue())
+        return ((highestHighPrice - indicator.getDouble(index))
                 / (highestHighPrice - lowestLowPrice))
                 * -100d;
     }
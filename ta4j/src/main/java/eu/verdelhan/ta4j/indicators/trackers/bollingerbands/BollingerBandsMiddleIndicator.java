@@ -22,7 +22,10 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers.bollingerbands;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
 
 /**
@@ -31,21 +34,28 @@ import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
  * High.
  * 
  */
-public class BollingerBandsMiddleIndicator implements Indicator<Double> {
+public class BollingerBandsMiddleIndicator extends AbstractDoubleIndicator {
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     public BollingerBandsMiddleIndicator(SMAIndicator smaIndicator) {
+        super(smaIndicator);
         this.indicator = smaIndicator;
     }
 
     public BollingerBandsMiddleIndicator(Indicator<? extends Number> indicator) {
-        this.indicator = indicator;
+        super(indicator);
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
     }
 
     @Override
-    public Double getValue(int index) {
-        return indicator.getValue(index).doubleValue();
+    public double getDouble(int index) {
+        return indicator.getDouble(index);
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        indicator.evaluate(from, to, values);
     }
 
     @Override
@@ -22,7 +22,11 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers.bollingerbands;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.AbstractDoubleIndicator;
+import eu.verdelhan.ta4j.indicators.ArrayKernels;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
 
 /**
@@ -31,24 +35,36 @@ import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
  * High.
  * 
  */
-public class BollingerBandsUpperIndicator implements Indicator<Double> {
-    private final Indicator<? extends Number> indicator;
+public class BollingerBandsUpperIndicator extends AbstractDoubleIndicator {
+    private final DoubleIndicator indicator;
 
     private final BollingerBandsMiddleIndicator bbm;
 
     public BollingerBandsUpperIndicator(BollingerBandsMiddleIndicator bbm, StandardDeviationIndicator standardDeviation) {
+        super(bbm);
         this.bbm = bbm;
         this.indicator = standardDeviation;
     }
 
     public BollingerBandsUpperIndicator(BollingerBandsMiddleIndicator bbm, Indicator<? extends Number> indicator) {
+        super(bbm);
         this.bbm = bbm;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
     }
 
     @Override
-    public Double getValue(int index) {
-        return bbm.getValue(index).doubleValue() + 2 * indicator.getValue(index).doubleValue();
+    public double getDouble(int index) {
+        return bbm.getDouble(index) + 2 * indicator.getDouble(index);
+    }
+
+    @Override
+    public void evaluate(int from, int to, double[] values) {
+        checkRange(from, to, values);
+        int length = to - from + 1;
+        double[] deviations = new double[length];
+        bbm.evaluate(from, to, values);
+        indicator.evaluate(from, to, deviations);
+        ArrayKernels.getInstance().addMultiplied(values, deviations, 2, values, length);
     }
 
     @Override
@@ -23,38 +23,39 @@
 package eu.verdelhan.ta4j.indicators.volume;
 
 
-import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 
 /**
  * Accumulation-distribution indicator.
  * <p>
  */
-public class AccumulationDistributionIndicator extends CachedIndicator<Double> {
+public class AccumulationDistributionIndicator extends CachedDoubleIndicator {
 
     private TimeSeries series;
 
     public AccumulationDistributionIndicator(TimeSeries series) {
+        super(series);
         this.series = series;
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (index == 0) {
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
             return 0d;
         }
-        Tick tick = series.getTick(index);
+        double closePrice = series.getClosePrice(index);
+        double maxPrice = series.getMaxPrice(index);
+        double minPrice = series.getMinPrice(index);
 
         // Calculating the money flow multiplier
-        double moneyFlowMultiplier = ((tick.getClosePrice() - tick.getMinPrice()) - (tick.getMaxPrice() - tick.getClosePrice()))
-                / (tick.getMaxPrice() - tick.getMinPrice());
+        double moneyFlowMultiplier = ((closePrice - minPrice) - (maxPrice - closePrice))
+                / (maxPrice - minPrice);
 
         // Calculating the money flow volume
-        double moneyFlowVolume = moneyFlowMultiplier * tick.getVolume();
+        double moneyFlowVolume = moneyFlowMultiplier * series.getVolume(index);
 
-        return moneyFlowVolume + getValue(index - 1);
+        return moneyFlowVolume + getDouble(index - 1);
     }
 
     @Override
@@ -23,35 +23,35 @@
 package eu.verdelhan.ta4j.indicators.volume;
 
 import eu.verdelhan.ta4j.TimeSeries;
-import eu.verdelhan.ta4j.Indicator;
-import eu.verdelhan.ta4j.indicators.CachedIndicator;
+import eu.verdelhan.ta4j.indicators.CachedDoubleIndicator;
 
 /**
  * On-balance volume indicator.
  * <p>
  */
-public class OnBalanceVolumeIndicator extends CachedIndicator<Double> {
+public class OnBalanceVolumeIndicator extends CachedDoubleIndicator {
 
     private final TimeSeries series;
 
     public OnBalanceVolumeIndicator(TimeSeries series) {
+        super(series);
         this.series = series;
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (index == 0) {
+    protected double calculate(int index) {
+        if (index <= getFirstIndex()) {
             return 0d;
         }
-        double yesterdayClose = series.getTick(index - 1).getClosePrice();
-        double todayClose = series.getTick(index).getClosePrice();
+        double yesterdayClose = series.getClosePrice(index - 1);
+        double todayClose = series.getClosePrice(index);
 
         if (yesterdayClose > todayClose) {
-            return getValue(index - 1) - series.getTick(index).getVolume();
+            return getDouble(index - 1) - series.getVolume(index);
         } else if (yesterdayClose < todayClose) {
-            return getValue(index - 1) + series.getTick(index).getVolume();
+            return getDouble(index - 1) + series.getVolume(index);
         }
-        return getValue(index - 1);
+        return getDouble(index - 1);
     }
 
     @Override
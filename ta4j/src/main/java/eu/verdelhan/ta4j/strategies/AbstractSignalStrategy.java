@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.strategies;
+
+import eu.verdelhan.ta4j.SignalStrategy;
+import eu.verdelhan.ta4j.Strategy;
+import java.util.BitSet;
+
+/**
+ * An abstract trading {@link SignalStrategy strategy}, stateless by default.
+ * <p>
+ * By default the signals are computed index by index from {@link #shouldEnter(int)} and {@link #shouldExit(int)}.
+ * Composite strategies are stateless only if all their sub-strategies are stateless signal strategies
+ * (e.g. not with a {@link StopLossStrategy}): otherwise their signals cannot be precomputed.
+ */
+public abstract class AbstractSignalStrategy extends AbstractStrategy implements SignalStrategy {
+
+    /**
+     * Stateless by default: strategies keeping a state between calls must override this method.
+     * @return true
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        checkRange(from, to);
+        checkStateless(this);
+        BitSet signals = new BitSet(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            if (shouldEnter(i)) {
+                signals.set(i - from);
+            }
+        }
+        return signals;
+    }
+
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        checkRange(from, to);
+        checkStateless(this);
+        BitSet signals = new BitSet(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            if (shouldExit(i)) {
+                signals.set(i - from);
+            }
+        }
+        return signals;
+    }
+
+    /**
+     * @param strategies strategies
+     * @return true if all the strategies are stateless {@link SignalStrategy signal strategies}, false otherwise
+     */
+    protected static boolean isStateless(Strategy... strategies) {
+        for (Strategy strategy : strategies) {
+            if (!(strategy instanceof SignalStrategy) || !((SignalStrategy) strategy).isStateless()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param strategy a stateless signal strategy
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @return the enter signals of the strategy over the range (bit i for index from + i)
+     * @throws IllegalStateException if the strategy is not a stateless signal strategy
+     */
+    protected static BitSet enterSignals(Strategy strategy, int from, int to) {
+        checkStateless(strategy);
+        return ((SignalStrategy) strategy).getEnterSignals(from, to);
+    }
+
+    /**
+     * @param strategy a stateless signal strategy
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @return the exit signals of the strategy over the range (bit i for index from + i)
+     * @throws IllegalStateException if the strategy is not a stateless signal strategy
+     */
+    protected static BitSet exitSignals(Strategy strategy, int from, int to) {
+        checkStateless(strategy);
+        return ((SignalStrategy) strategy).getExitSignals(from, to);
+    }
+
+    /**
+     * @param from the first index
+     * @param to the last index (inclusive)
+     * @throws IllegalArgumentException if the range is empty or starts before 0
+     */
+    protected static void checkRange(int from, int to) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid signal range: " + from + " to " + to);
+        }
+    }
+
+    /**
+     * @param strategy a strategy
+     * @throws IllegalStateException if the strategy is not a stateless signal strategy
+     */
+    private static void checkStateless(Strategy strategy) {
+        if (!isStateless(strategy)) {
+            throw new IllegalStateException("Signals cannot be precomputed for a stateful strategy: " + strategy);
+        }
+    }
+}
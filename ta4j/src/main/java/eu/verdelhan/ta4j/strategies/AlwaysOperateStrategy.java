@@ -22,13 +22,15 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import java.util.BitSet;
+
 /**
  * A {@link Strategy strategy} which always enters and exits.
  * <p>
  * Enter: always<br>
  * Exit: always
  */
-public class AlwaysOperateStrategy extends AbstractStrategy {
+public class AlwaysOperateStrategy extends AbstractSignalStrategy {
 
     @Override
     public boolean shouldEnter(int index) {
@@ -40,6 +42,19 @@ public class AlwaysOperateStrategy extends AbstractStrategy {
         return true;
     }
 
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        checkRange(from, to);
+        BitSet signals = new BitSet(to - from + 1);
+        signals.set(0, to - from + 1);
+        return signals;
+    }
+
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        return getEnterSignals(from, to);
+    }
+
     @Override
     public String toString() {
         return this.getClass().getSimpleName();
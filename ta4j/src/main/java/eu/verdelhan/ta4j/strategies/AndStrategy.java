@@ -23,6 +23,7 @@
 package eu.verdelhan.ta4j.strategies;
 
 import eu.verdelhan.ta4j.Strategy;
+import java.util.BitSet;
 
 /**
  * An AND combination of two {@link Strategy strategies}.
@@ -30,7 +31,7 @@ import eu.verdelhan.ta4j.Strategy;
  * Enter: according to the provided {@link Strategy strategies}<br>
  * Exit: according to the provided {@link Strategy strategies}
  */
-public class AndStrategy extends AbstractStrategy {
+public class AndStrategy extends AbstractSignalStrategy {
     /** First strategy */
     private Strategy strategy;
     /** Second strategy */
@@ -46,6 +47,11 @@ public class AndStrategy extends AbstractStrategy {
         this.strategy2 = strategy2;
     }
 
+    @Override
+    public boolean isStateless() {
+        return isStateless(strategy, strategy2);
+    }
+
     @Override
     public boolean shouldEnter(int index) {
         return strategy.shouldEnter(index) && strategy2.shouldEnter(index);
@@ -56,6 +62,20 @@ public class AndStrategy extends AbstractStrategy {
         return strategy.shouldExit(index) && strategy2.shouldExit(index);
     }
 
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        BitSet signals = enterSignals(strategy, from, to);
+        signals.and(enterSignals(strategy2, from, to));
+        return signals;
+    }
+
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        BitSet signals = exitSignals(strategy, from, to);
+        signals.and(exitSignals(strategy2, from, to));
+        return signals;
+    }
+
     @Override
     public String toString() {
         return String.format("%s and %s", strategy, strategy2);
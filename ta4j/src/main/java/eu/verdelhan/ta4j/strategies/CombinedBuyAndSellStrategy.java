@@ -23,6 +23,7 @@
 package eu.verdelhan.ta4j.strategies;
 
 import eu.verdelhan.ta4j.Strategy;
+import java.util.BitSet;
 
 /**
  * Combination of a BUY {@link Strategy strategy} and a SELL {@link Strategy strategy}.
@@ -30,7 +31,7 @@ import eu.verdelhan.ta4j.Strategy;
  * Enter: according to the provided BUY {@link Strategy strategy}<br>
  * Exit: according to the provided SELL {@link Strategy strategy}
  */
-public class CombinedBuyAndSellStrategy extends AbstractStrategy {
+public class CombinedBuyAndSellStrategy extends AbstractSignalStrategy {
 
     /** Buy strategy */
     private Strategy buyStrategy;
@@ -47,6 +48,11 @@ public class CombinedBuyAndSellStrategy extends AbstractStrategy {
         this.sellStrategy = sellStrategy;
     }
 
+    @Override
+    public boolean isStateless() {
+        return isStateless(buyStrategy, sellStrategy);
+    }
+
     @Override
     public boolean shouldEnter(int index) {
         return buyStrategy.shouldEnter(index);
@@ -57,6 +63,16 @@ public class CombinedBuyAndSellStrategy extends AbstractStrategy {
         return sellStrategy.shouldExit(index);
     }
 
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        return enterSignals(buyStrategy, from, to);
+    }
+
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        return exitSignals(sellStrategy, from, to);
+    }
+
     @Override
     public String toString() {
         return String.format("Combined strategy using buy strategy %s and sell strategy %s", buyStrategy, sellStrategy);
@@ -22,7 +22,9 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
 
 /**
@@ -33,11 +35,11 @@ import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
  * <p>
  *
  */
-public class DistanceBetweenIndicatorsStrategy extends AbstractStrategy {
+public class DistanceBetweenIndicatorsStrategy extends AbstractSignalStrategy {
 
-    private Indicator<? extends Number> upper;
+    private DoubleIndicator upper;
 
-    private Indicator<? extends Number> lower;
+    private DoubleIndicator lower;
 
     private double distance;
 
@@ -52,8 +54,8 @@ public class DistanceBetweenIndicatorsStrategy extends AbstractStrategy {
      */
     public <T extends Number> DistanceBetweenIndicatorsStrategy(Indicator<? extends Number> indicator, T constant,
             double distance, double difference) {
-        this.upper = indicator;
-        this.lower = new ConstantIndicator<T>(constant);
+        this.upper = DoubleIndicatorAdapter.of(indicator);
+        this.lower = DoubleIndicatorAdapter.of(new ConstantIndicator<T>(constant));
         this.distance = distance;
         this.difference = difference;
     }
@@ -67,15 +69,15 @@ public class DistanceBetweenIndicatorsStrategy extends AbstractStrategy {
      */
     public DistanceBetweenIndicatorsStrategy(Indicator<? extends Number> upper, Indicator<? extends Number> lower,
             double distance, double difference) {
-        this.upper = upper;
-        this.lower = lower;
+        this.upper = DoubleIndicatorAdapter.of(upper);
+        this.lower = DoubleIndicatorAdapter.of(lower);
         this.distance = distance;
         this.difference = difference;
     }
 
     @Override
     public boolean shouldEnter(int index) {
-        if ((upper.getValue(index).doubleValue() - lower.getValue(index).doubleValue()) >= ((difference + 1.0) * distance)) {
+        if ((upper.getDouble(index) - lower.getDouble(index)) >= ((difference + 1.0) * distance)) {
             return true;
         }
         return false;
@@ -83,7 +85,7 @@ public class DistanceBetweenIndicatorsStrategy extends AbstractStrategy {
 
     @Override
     public boolean shouldExit(int index) {
-        if ((upper.getValue(index).doubleValue() - lower.getValue(index).doubleValue()) <= ((1.0 - difference) * distance)) {
+        if ((upper.getDouble(index) - lower.getDouble(index)) <= ((1.0 - difference) * distance)) {
             return true;
         }
         return false;
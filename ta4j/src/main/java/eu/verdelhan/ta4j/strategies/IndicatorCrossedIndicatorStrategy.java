@@ -31,7 +31,7 @@ import eu.verdelhan.ta4j.indicators.helpers.CrossIndicator;
  * Enter: when the upper {@link Indicator indicator} is above the lower one then cross it<br>
  * Exit: when the lower {@link Indicator indicator} is above the upper one then cross it
  */
-public class IndicatorCrossedIndicatorStrategy extends AbstractStrategy {
+public class IndicatorCrossedIndicatorStrategy extends AbstractSignalStrategy {
 
     private final Indicator<Boolean> crossUp;
 
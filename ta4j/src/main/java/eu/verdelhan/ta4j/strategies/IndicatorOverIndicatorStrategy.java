@@ -22,7 +22,9 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Indicator over indicator strategy.
@@ -30,12 +32,12 @@ import eu.verdelhan.ta4j.Indicator;
  * Enter: when the value of the first {@link Indicator indicator} is strictly greater than the value of the second one<br>
  * Exit: when the value of the first {@link Indicator indicator} is strictly lesser than the value of the second one
  */
-public class IndicatorOverIndicatorStrategy extends AbstractStrategy {
+public class IndicatorOverIndicatorStrategy extends AbstractSignalStrategy {
     
     /** The first indicator */
-    private Indicator<Double> first;
+    private DoubleIndicator first;
     /** The second indicator */
-    private Indicator<Double> second;
+    private DoubleIndicator second;
 
     /**
      * Constructor.
@@ -43,18 +45,18 @@ public class IndicatorOverIndicatorStrategy extends AbstractStrategy {
      * @param second the second indicator
      */
     public IndicatorOverIndicatorStrategy(Indicator<Double> first, Indicator<Double> second) {
-        this.first = first;
-        this.second = second;
+        this.first = DoubleIndicatorAdapter.of(first);
+        this.second = DoubleIndicatorAdapter.of(second);
     }
 
     @Override
     public boolean shouldEnter(int index) {
-        return (first.getValue(index) > second.getValue(index));
+        return (first.getDouble(index) > second.getDouble(index));
     }
 
     @Override
     public boolean shouldExit(int index) {
-        return (first.getValue(index) < second.getValue(index));
+        return (first.getDouble(index) < second.getDouble(index));
     }
 
     @Override
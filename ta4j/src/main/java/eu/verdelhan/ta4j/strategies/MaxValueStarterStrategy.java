@@ -22,8 +22,10 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Maximum value starter strategy.
@@ -37,7 +39,7 @@ public class MaxValueStarterStrategy extends AbstractStrategy {
     private final Strategy strategy;
 
     /** Indicator */
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     /** Starting threshold */
     private final double start;
@@ -49,14 +51,14 @@ public class MaxValueStarterStrategy extends AbstractStrategy {
      * @param start the starting threshold
      */
     public MaxValueStarterStrategy(final Indicator<? extends Number> indicator, final Strategy strategy, final double start) {
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.strategy = strategy;
         this.start = start;
     }
 
     @Override
     public boolean shouldEnter(final int index) {
-        return (indicator.getValue(index).doubleValue() < start);
+        return (indicator.getDouble(index) < start);
     }
 
     @Override
@@ -22,8 +22,10 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Minimum value starter strategy.
@@ -36,7 +38,7 @@ public class MinValueStarterStrategy extends AbstractStrategy {
     /** Strategy */
     private Strategy strategy;
     /** Indicator */
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
     /** Starting threshold */
     private double start;
 
@@ -47,14 +49,14 @@ public class MinValueStarterStrategy extends AbstractStrategy {
      * @param start the starting threshold
      */
     public MinValueStarterStrategy(Indicator<? extends Number> indicator, Strategy strategy, double start) {
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
         this.strategy = strategy;
         this.start = start;
     }
 
     @Override
     public boolean shouldEnter(int index) {
-        return (indicator.getValue(index).doubleValue() > start);
+        return (indicator.getDouble(index) > start);
     }
 
     @Override
@@ -23,6 +23,7 @@
 package eu.verdelhan.ta4j.strategies;
 
 import eu.verdelhan.ta4j.Strategy;
+import java.util.BitSet;
 
 /**
  * The opposite (logical operator: NOT) of a {@link Strategy strategy}.
@@ -30,7 +31,7 @@ import eu.verdelhan.ta4j.Strategy;
  * Enter: the opposite of the provided {@link Strategy strategy}<br>
  * Exit: the opposite of the provided {@link Strategy strategy}
  */
-public class OppositeStrategy extends AbstractStrategy {
+public class OppositeStrategy extends AbstractSignalStrategy {
 
     private Strategy strategy;
 
@@ -42,6 +43,11 @@ public class OppositeStrategy extends AbstractStrategy {
         this.strategy = strategy;
     }
 
+    @Override
+    public boolean isStateless() {
+        return isStateless(strategy);
+    }
+
     @Override
     public boolean shouldEnter(int index) {
         return !strategy.shouldEnter(index);
@@ -51,4 +57,18 @@ public class OppositeStrategy extends AbstractStrategy {
     public boolean shouldExit(int index) {
         return !strategy.shouldExit(index);
     }
+
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        BitSet signals = enterSignals(strategy, from, to);
+        signals.flip(0, to - from + 1);
+        return signals;
+    }
+
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        BitSet signals = exitSignals(strategy, from, to);
+        signals.flip(0, to - from + 1);
+        return signals;
+    }
 }
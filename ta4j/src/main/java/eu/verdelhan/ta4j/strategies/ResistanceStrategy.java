@@ -22,8 +22,11 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
+import java.util.BitSet;
 
 /**
  * Resistance strategy.
@@ -31,11 +34,11 @@ import eu.verdelhan.ta4j.Strategy;
  * Enter: according to the provided {@link Strategy strategy}<br>
  * Exit: when the {@link Indicator indicator} value is greater than or equal to the resistance threshold
  */
-public class ResistanceStrategy extends AbstractStrategy {
+public class ResistanceStrategy extends AbstractSignalStrategy {
 
     private final Strategy strategy;
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private double resistance;
 
@@ -48,7 +51,12 @@ public class ResistanceStrategy extends AbstractStrategy {
     public ResistanceStrategy(Indicator<? extends Number> indicator, Strategy strategy, double resistance) {
         this.strategy = strategy;
         this.resistance = resistance;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
+    }
+
+    @Override
+    public boolean isStateless() {
+        return isStateless(strategy);
     }
 
     @Override
@@ -58,12 +66,28 @@ public class ResistanceStrategy extends AbstractStrategy {
 
     @Override
     public boolean shouldExit(int index) {
-        if (indicator.getValue(index).doubleValue() >= resistance) {
+        if (indicator.getDouble(index) >= resistance) {
             return true;
         }
         return strategy.shouldExit(index);
     }
 
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        BitSet signals = exitSignals(strategy, from, to);
+        for (int i = from; i <= to; i++) {
+            if (indicator.getDouble(i) >= resistance) {
+                signals.set(i - from);
+            }
+        }
+        return signals;
+    }
+
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        return enterSignals(strategy, from, to);
+    }
+
     @Override
     public String toString() {
         return String.format("%s resistance: %f strategy: %s", this.getClass().getSimpleName(), resistance, strategy);
@@ -22,8 +22,10 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Stop gain strategy.
@@ -37,7 +39,7 @@ public class StopGainStrategy extends AbstractStrategy {
 
     private double gain;
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
 
     private double value;
 
@@ -50,13 +52,13 @@ public class StopGainStrategy extends AbstractStrategy {
     public StopGainStrategy(Indicator<? extends Number> indicator, Strategy strategy, int gain) {
         this.strategy = strategy;
         this.gain = gain;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
     }
 
     @Override
     public boolean shouldEnter(int index) {
         if (strategy.shouldEnter(index)) {
-            value = indicator.getValue(index).doubleValue();
+            value = indicator.getDouble(index);
             return true;
         }
         return false;
@@ -64,7 +66,7 @@ public class StopGainStrategy extends AbstractStrategy {
 
     @Override
     public boolean shouldExit(int index) {
-        if ((value + (value * (gain / 100))) < indicator.getValue(index).doubleValue()) {
+        if ((value + (value * (gain / 100))) < indicator.getDouble(index)) {
             return true;
         }
         return strategy.shouldExit(index);
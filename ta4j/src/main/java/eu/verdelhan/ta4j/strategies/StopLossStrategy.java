@@ -22,8 +22,10 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
 
 /**
  * Stop loss strategy.
@@ -37,7 +39,7 @@ public class StopLossStrategy extends AbstractStrategy {
 
     private double loss;
 
-    private Indicator<? extends Number> indicator;
+    private DoubleIndicator indicator;
 
     private double value;
 
@@ -50,13 +52,13 @@ public class StopLossStrategy extends AbstractStrategy {
     public StopLossStrategy(Indicator<? extends Number> indicator, Strategy strategy, int loss) {
         this.strategy = strategy;
         this.loss = loss;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
     }
 
     @Override
     public boolean shouldEnter(int index) {
         if (strategy.shouldEnter(index)) {
-            value = indicator.getValue(index).doubleValue();
+            value = indicator.getDouble(index);
             return true;
         }
         return false;
@@ -64,7 +66,7 @@ public class StopLossStrategy extends AbstractStrategy {
 
     @Override
     public boolean shouldExit(int index) {
-        if ((value - (value * (loss / 100))) > indicator.getValue(index).doubleValue()) {
+        if ((value - (value * (loss / 100))) > indicator.getDouble(index)) {
             return true;
         }
         return strategy.shouldExit(index);
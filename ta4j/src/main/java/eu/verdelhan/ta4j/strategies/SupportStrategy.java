@@ -22,8 +22,11 @@
  */
 package eu.verdelhan.ta4j.strategies;
 
+import eu.verdelhan.ta4j.DoubleIndicator;
 import eu.verdelhan.ta4j.Indicator;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.DoubleIndicatorAdapter;
+import java.util.BitSet;
 
 /**
  * Support strategy.
@@ -31,11 +34,11 @@ import eu.verdelhan.ta4j.Strategy;
  * Enter: when the {@link Indicator indicator} value is less than or equal to the support threshold<br>
  * Exit: according to the provided {@link Strategy strategy}
  */
-public class SupportStrategy extends AbstractStrategy {
+public class SupportStrategy extends AbstractSignalStrategy {
 
     private final Strategy strategy;
 
-    private final Indicator<? extends Number> indicator;
+    private final DoubleIndicator indicator;
 
     private double support;
 
@@ -48,12 +51,17 @@ public class SupportStrategy extends AbstractStrategy {
     public SupportStrategy(Indicator<? extends Number> indicator, Strategy strategy, double support) {
         this.strategy = strategy;
         this.support = support;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicatorAdapter.of(indicator);
+    }
+
+    @Override
+    public boolean isStateless() {
+        return isStateless(strategy);
     }
 
     @Override
     public boolean shouldEnter(int index) {
-        if (indicator.getValue(index).doubleValue() <= support) {
+        if (indicator.getDouble(index) <= support) {
             return true;
         }
         return strategy.shouldEnter(index);
@@ -64,6 +72,22 @@ public class SupportStrategy extends AbstractStrategy {
         return strategy.shouldExit(index);
     }
 
+    @Override
+    public BitSet getEnterSignals(int from, int to) {
+        BitSet signals = enterSignals(strategy, from, to);
+        for (int i = from; i <= to; i++) {
+            if (indicator.getDouble(i) <= support) {
+                signals.set(i - from);
+            }
+        }
+        return signals;
+    }
+
+    @Override
+    public BitSet getExitSignals(int from, int to) {
+        return exitSignals(strategy, from, to);
+    }
+
     @Override
     public String toString() {
         return String.format("%s suport: %f strategy: %s", this.getClass().getSimpleName(), support, strategy);
@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.strategies.IndicatorCrossedIndicatorStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ColumnarTimeSeriesTest {
+
+    private List<Tick> ticks;
+
+    private TimeSeries series;
+
+    private ColumnarTimeSeries columnarSeries;
+
+    @Before
+    public void setUp() {
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        ticks = new ArrayList<Tick>();
+        double[] closePrices = { 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2, 5, 6, 7, 6, 5, 4, 5 };
+        for (int i = 0; i < closePrices.length; i++) {
+            ticks.add(new MockTick(date.plusDays(i), closePrices[i] - 0.5, closePrices[i], closePrices[i] + 1,
+                    closePrices[i] - 1, i * 10, i * 100, i));
+        }
+        series = new TimeSeries("series", ticks);
+        columnarSeries = new ColumnarTimeSeries("series", ticks);
+    }
+
+    @Test
+    public void valuesShouldBeCopiedFromTicks() {
+        assertThat(columnarSeries.getName()).isEqualTo("series");
+        assertThat(columnarSeries.getBegin()).isEqualTo(0);
+        assertThat(columnarSeries.getEnd()).isEqualTo(ticks.size() - 1);
+        for (int i = 0; i < ticks.size(); i++) {
+            Tick tick = ticks.get(i);
+            assertThat(columnarSeries.getOpenPrice(i)).isEqualTo(tick.getOpenPrice());
+            assertThat(columnarSeries.getMaxPrice(i)).isEqualTo(tick.getMaxPrice());
+            assertThat(columnarSeries.getMinPrice(i)).isEqualTo(tick.getMinPrice());
+            assertThat(columnarSeries.getClosePrice(i)).isEqualTo(tick.getClosePrice());
+            assertThat(columnarSeries.getVolume(i)).isEqualTo(tick.getVolume());
+            assertThat(columnarSeries.getAmount(i)).isEqualTo(tick.getAmount());
+            assertThat(columnarSeries.getTrades(i)).isEqualTo(tick.getTrades());
+        }
+    }
+
+    @Test
+    public void getTickShouldReturnAView() {
+        Tick tick = columnarSeries.getTick(5);
+        assertThat(tick.getEndTime()).isEqualTo(ticks.get(5).getEndTime());
+        assertThat(tick.getBeginTime()).isNull();
+        assertThat(tick.getClosePrice()).isEqualTo(4d);
+        assertThat(tick.getOpenPrice()).isEqualTo(3.5);
+        assertThat(tick.getMaxPrice()).isEqualTo(5d);
+        assertThat(tick.getMinPrice()).isEqualTo(3d);
+        assertThat(tick.getAmount()).isEqualTo(50d);
+        assertThat(tick.getVolume()).isEqualTo(500d);
+        assertThat(tick.getTrades()).isEqualTo(5);
+        assertThat(tick.toString()).isEqualTo(ticks.get(5).toString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void ticksShouldBeReadOnly() {
+        columnarSeries.getTick(0).addTrade(1, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getTickOutOfBoundsShouldThrowException() {
+        columnarSeries.getTick(ticks.size());
+    }
+
+    @Test
+    public void arraysConstructor() {
+        long[] endTimes = { 1000, 2000, 3000 };
+        ColumnarTimeSeries arraysSeries = new ColumnarTimeSeries("arrays", endTimes,
+                new double[] { 1, 2, 3 }, new double[] { 2, 3, 4 }, new double[] { 0, 1, 2 }, new double[] { 1.5, 2.5, 3.5 },
+                new double[] { 10, 20, 30 }, new double[] { 1, 1, 1 }, new int[] { 1, 2, 3 });
+        assertThat(arraysSeries.getSize()).isEqualTo(3);
+        assertThat(arraysSeries.getClosePrice(1)).isEqualTo(2.5);
+        assertThat(arraysSeries.getTick(2).getEndTime().getMillis()).isEqualTo(3000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void arraysConstructorWithDifferentLengthsShouldThrowException() {
+        new ColumnarTimeSeries("arrays", new long[] { 1000, 2000 },
+                new double[] { 1, 2 }, new double[] { 2, 3 }, new double[] { 0, 1 }, new double[] { 1.5 },
+                new double[] { 10, 20 }, new double[] { 1, 1 }, new int[] { 1, 2 });
+    }
+
+    @Test
+    public void subseries() {
+        TimeSeries subseries = columnarSeries.subseries(2, 6);
+        assertThat(subseries).isInstanceOf(ColumnarTimeSeries.class);
+        assertThat(subseries.getBegin()).isEqualTo(2);
+        assertThat(subseries.getEnd()).isEqualTo(6);
+        assertThat(subseries.getClosePrice(6)).isEqualTo(5d);
+
+        TimeSeries periodSubseries = columnarSeries.subseries(3, Period.days(3));
+        assertThat(periodSubseries.getBegin()).isEqualTo(3);
+        assertThat(periodSubseries.getEnd()).isEqualTo(5);
+
+        List<TimeSeries> splitted = columnarSeries.split(Period.days(5));
+        assertThat(splitted).hasSize(4);
+        assertThat(splitted.get(3).getBegin()).isEqualTo(15);
+    }
+
+    @Test
+    public void indicatorsAndRunShouldMatchTickList() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        ClosePriceIndicator columnarClosePrice = new ClosePriceIndicator(columnarSeries);
+        for (int i = 0; i < ticks.size(); i++) {
+            assertThat(columnarClosePrice.getValue(i)).isEqualTo(closePrice.getValue(i));
+        }
+
+        Strategy strategy = new IndicatorCrossedIndicatorStrategy(new SMAIndicator(closePrice, 2), new SMAIndicator(closePrice, 5));
+        Strategy columnarStrategy = new IndicatorCrossedIndicatorStrategy(new SMAIndicator(columnarClosePrice, 2),
+                new SMAIndicator(columnarClosePrice, 5));
+        assertThat(columnarSeries.run(columnarStrategy)).isEqualTo(series.run(strategy));
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.indicators.helpers.AverageGainIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageLossIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.AverageTrueRangeIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.HighestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.LowestValueIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.ParabolicSarIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.WMAIndicator;
+import eu.verdelhan.ta4j.indicators.volume.OnBalanceVolumeIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LiveTimeSeriesTest {
+
+    private DateTime date;
+
+    private LiveTimeSeries series;
+
+    @Before
+    public void setUp() {
+        date = new DateTime(2014, 6, 13, 0, 0);
+        series = new LiveTimeSeries("live", 5);
+    }
+
+    @Test
+    public void emptySeries() {
+        assertThat(series.getName()).isEqualTo("live");
+        assertThat(series.getSize()).isEqualTo(0);
+        assertThat(series.getBegin()).isEqualTo(0);
+        assertThat(series.getEnd()).isEqualTo(-1);
+        assertThat(series.getMaximumTickCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void addTickShouldAppendTicks() {
+        for (int i = 0; i < 3; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        assertThat(series.getSize()).isEqualTo(3);
+        assertThat(series.getBegin()).isEqualTo(0);
+        assertThat(series.getEnd()).isEqualTo(2);
+        for (int i = 0; i < 3; i++) {
+            assertThat(series.getClosePrice(i)).isEqualTo(i);
+            assertThat(series.getEndTime(i)).isEqualTo(date.plusMinutes(i));
+        }
+    }
+
+    @Test
+    public void oldestTicksShouldBeEvicted() {
+        for (int i = 0; i < 12; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        assertThat(series.getSize()).isEqualTo(5);
+        assertThat(series.getBegin()).isEqualTo(7);
+        assertThat(series.getEnd()).isEqualTo(11);
+        for (int i = 7; i <= 11; i++) {
+            assertThat(series.getClosePrice(i)).isEqualTo(i);
+        }
+        assertThat(series.getRemovedTickCount()).isEqualTo(7);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void evictedIndexShouldThrowException() {
+        for (int i = 0; i < 12; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        series.getTick(6);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexAfterEndShouldThrowException() {
+        series.addTick(new MockTick(date, 1));
+        series.getTick(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tickNotAfterLastTickShouldThrowException() {
+        series.addTick(new MockTick(date, 1));
+        series.addTick(new MockTick(date, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaximumTickCountShouldThrowException() {
+        new LiveTimeSeries(0);
+    }
+
+    @Test
+    public void subseriesShouldKeepAbsoluteIndexes() {
+        for (int i = 0; i < 8; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        TimeSeries subseries = series.subseries(4, 6);
+        assertThat(subseries.getBegin()).isEqualTo(4);
+        assertThat(subseries.getEnd()).isEqualTo(6);
+        assertThat(subseries.getClosePrice(5)).isEqualTo(5d);
+    }
+
+    @Test
+    public void indicatorsShouldMatchFullSeries() {
+        LiveTimeSeries live = new LiveTimeSeries(100);
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < 5000; i++) {
+            price += random.nextDouble() - 0.5;
+            ticks.add(new MockTick(date.plusMinutes(i), price));
+        }
+        TimeSeries full = new TimeSeries(ticks);
+        SMAIndicator fullSma = new SMAIndicator(new ClosePriceIndicator(full), 20);
+        EMAIndicator fullEma = new EMAIndicator(new ClosePriceIndicator(full), 20);
+        SMAIndicator liveSma = new SMAIndicator(new ClosePriceIndicator(live), 20);
+        EMAIndicator liveEma = new EMAIndicator(new ClosePriceIndicator(live), 20);
+
+        for (int i = 0; i < ticks.size(); i++) {
+            live.addTick(ticks.get(i));
+            assertThat(liveSma.getDouble(i)).isEqualTo(fullSma.getDouble(i));
+            assertThat(liveEma.getDouble(i)).isEqualTo(fullEma.getDouble(i));
+        }
+        assertThat(live.getBegin()).isEqualTo(4900);
+        assertThat(live.getSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void indicatorCreatedAfterEvictionShouldStartAtBegin() {
+        LiveTimeSeries live = new LiveTimeSeries(100);
+        List<Tick> retainedTicks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < 5000; i++) {
+            price += random.nextDouble() - 0.5;
+            Tick tick = new MockTick(date.plusMinutes(i), price);
+            live.addTick(tick);
+            if (i >= 4900) {
+                retainedTicks.add(tick);
+            }
+        }
+        // Same values as on a series made of the retained ticks only
+        TimeSeries retained = new TimeSeries(retainedTicks);
+        SMAIndicator retainedSma = new SMAIndicator(new ClosePriceIndicator(retained), 20);
+        EMAIndicator retainedEma = new EMAIndicator(new ClosePriceIndicator(retained), 20);
+        AverageTrueRangeIndicator retainedAtr = new AverageTrueRangeIndicator(retained, 14);
+        SMAIndicator liveSma = new SMAIndicator(new ClosePriceIndicator(live), 20);
+        EMAIndicator liveEma = new EMAIndicator(new ClosePriceIndicator(live), 20);
+        AverageTrueRangeIndicator liveAtr = new AverageTrueRangeIndicator(live, 14);
+        assertThat(liveEma.getDouble(4999)).isEqualTo(retainedEma.getDouble(99));
+        for (int i = 0; i < 100; i++) {
+            assertThat(liveSma.getDouble(4900 + i)).isEqualTo(retainedSma.getDouble(i));
+            assertThat(liveEma.getDouble(4900 + i)).isEqualTo(retainedEma.getDouble(i));
+            assertThat(liveAtr.getDouble(4900 + i)).isEqualTo(retainedAtr.getDouble(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void evictedIndexOfIndicatorShouldThrowException() {
+        for (int i = 0; i < 12; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        new SMAIndicator(new ClosePriceIndicator(series), 3).getDouble(6);
+    }
+
+    @Test
+    public void replaceLastTick() {
+        series.addTick(new MockTick(date, 1));
+        series.addTick(new MockTick(date.plusMinutes(1), 2));
+        assertThat(series.getModificationCount()).isEqualTo(0);
+        series.replaceLastTick(new MockTick(date.plusMinutes(2), 3));
+        assertThat(series.getModificationCount()).isEqualTo(1);
+        assertThat(series.getSize()).isEqualTo(2);
+        assertThat(series.getClosePrice(1)).isEqualTo(3d);
+        assertThat(series.getEndTime(1)).isEqualTo(date.plusMinutes(2));
+    }
+
+    @Test
+    public void addTradeShouldAmendLastTick() {
+        series.addTick(new Tick(date, date.plusMinutes(1)));
+        series.addTrade(2, 10);
+        series.addTrade(1, 12);
+        assertThat(series.getModificationCount()).isEqualTo(2);
+        assertThat(series.getOpenPrice(0)).isEqualTo(10d);
+        assertThat(series.getClosePrice(0)).isEqualTo(12d);
+        assertThat(series.getMaxPrice(0)).isEqualTo(12d);
+        assertThat(series.getTrades(0)).isEqualTo(2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void replaceLastTickOfEmptySeriesShouldThrowException() {
+        series.replaceLastTick(new MockTick(date, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void replacingTickNotAfterPreviousTickShouldThrowException() {
+        series.addTick(new MockTick(date, 1));
+        series.addTick(new MockTick(date.plusMinutes(1), 2));
+        series.replaceLastTick(new MockTick(date, 3));
+    }
+
+    @Test
+    public void indicatorsShouldFollowAmendedTicks() {
+        LiveTimeSeries live = new LiveTimeSeries(100);
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < 2000; i++) {
+            double open = price;
+            price += random.nextDouble() - 0.5;
+            ticks.add(new MockTick(date.plusMinutes(i), open, price, Math.max(open, price) + random.nextDouble(),
+                    Math.min(open, price) - random.nextDouble(), 0, random.nextDouble() * 1000, 1));
+        }
+        TimeSeries full = new TimeSeries(ticks);
+        List<Indicator<Double>> fullIndicators = buildIndicators(full);
+        List<Indicator<Double>> liveIndicators = buildIndicators(live);
+
+        for (int i = 0; i < ticks.size(); i++) {
+            // Forming tick
+            Tick tick = ticks.get(i);
+            live.addTick(new MockTick(tick.getEndTime(), tick.getOpenPrice(), tick.getOpenPrice() + 1,
+                    tick.getOpenPrice() + 1, tick.getOpenPrice(), 0, 1, 1));
+            for (Indicator<Double> indicator : liveIndicators) {
+                indicator.getValue(i);
+            }
+            // Final tick
+            live.replaceLastTick(tick);
+            for (int j = 0; j < fullIndicators.size(); j++) {
+                assertThat(liveIndicators.get(j).getValue(i)).isEqualTo(fullIndicators.get(j).getValue(i),
+                        TATestsUtils.LONG_OFFSET);
+            }
+        }
+    }
+
+    @Test
+    public void rollingIndicatorsWithTimeFrameEqualToRetention() {
+        assertRollingIndicatorsMatchNewOnes(5, 5);
+    }
+
+    @Test
+    public void rollingIndicatorsWithTimeFrameLargerThanRetention() {
+        assertRollingIndicatorsMatchNewOnes(5, 8);
+        assertRollingIndicatorsMatchNewOnes(3, 5);
+    }
+
+    /**
+     * Checks that the rolling indicators of a live series have the same values as new indicators built
+     * after each tick (i.e. computed from the oldest retained tick only).
+     */
+    private void assertRollingIndicatorsMatchNewOnes(int maximumTickCount, int timeFrame) {
+        LiveTimeSeries live = new LiveTimeSeries(maximumTickCount);
+        List<Indicator<Double>> liveIndicators = buildRollingIndicators(live, timeFrame);
+        Random random = new Random(42);
+        double price = 100;
+        for (int i = 0; i < 40; i++) {
+            price += random.nextDouble() - 0.5;
+            live.addTick(new MockTick(date.plusMinutes(i), price));
+            List<Indicator<Double>> newIndicators = buildRollingIndicators(live, timeFrame);
+            for (int j = 0; j < liveIndicators.size(); j++) {
+                assertThat(liveIndicators.get(j).getValue(i)).isEqualTo(newIndicators.get(j).getValue(i),
+                        TATestsUtils.LONG_OFFSET);
+            }
+        }
+    }
+
+    private static List<Indicator<Double>> buildRollingIndicators(TimeSeries series, int timeFrame) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Indicator<Double>> indicators = new ArrayList<Indicator<Double>>();
+        indicators.add(new SMAIndicator(closePrice, timeFrame));
+        indicators.add(new WMAIndicator(closePrice, timeFrame));
+        indicators.add(new StandardDeviationIndicator(closePrice, timeFrame));
+        indicators.add(new AverageGainIndicator(closePrice, timeFrame));
+        indicators.add(new AverageLossIndicator(closePrice, timeFrame));
+        indicators.add(new HighestValueIndicator(closePrice, timeFrame));
+        indicators.add(new LowestValueIndicator(closePrice, timeFrame));
+        return indicators;
+    }
+
+    private static List<Indicator<Double>> buildIndicators(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<Indicator<Double>> indicators = new ArrayList<Indicator<Double>>();
+        indicators.add(new SMAIndicator(closePrice, 20));
+        indicators.add(new EMAIndicator(closePrice, 20));
+        indicators.add(new StandardDeviationIndicator(closePrice, 20));
+        indicators.add(new HighestValueIndicator(closePrice, 20));
+        indicators.add(new AverageTrueRangeIndicator(series, 14));
+        indicators.add(new OnBalanceVolumeIndicator(series));
+        indicators.add(new ParabolicSarIndicator(series, 14));
+        return indicators;
+    }
+}
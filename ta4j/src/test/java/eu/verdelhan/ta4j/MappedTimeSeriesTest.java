@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j;
+
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.strategies.IndicatorCrossedIndicatorStrategy;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedTimeSeriesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<Tick> ticks;
+
+    private TimeSeries series;
+
+    @Before
+    public void setUp() {
+        DateTime date = new DateTime(2014, 6, 13, 0, 0, DateTimeZone.forID("Europe/Paris"));
+        ticks = new ArrayList<Tick>();
+        double[] closePrices = { 1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2, 5, 6, 7, 6, 5, 4, 5 };
+        for (int i = 0; i < closePrices.length; i++) {
+            ticks.add(new MockTick(date.plusDays(i), closePrices[i] - 0.5, closePrices[i], closePrices[i] + 1,
+                    closePrices[i] - 1, i * 10, i * 100, i));
+        }
+        series = new TimeSeries("series", ticks);
+    }
+
+    @Test
+    public void writeAndMap() throws IOException {
+        File file = folder.newFile("series.ticks");
+        MappedTimeSeries.write(series, file);
+        MappedTimeSeries mappedSeries = new MappedTimeSeries("mapped", file);
+
+        assertThat(mappedSeries.getName()).isEqualTo("mapped");
+        assertThat(mappedSeries.getBegin()).isEqualTo(0);
+        assertThat(mappedSeries.getEnd()).isEqualTo(ticks.size() - 1);
+        for (int i = 0; i < ticks.size(); i++) {
+            Tick tick = ticks.get(i);
+            assertThat(mappedSeries.getBeginTime(i)).isNull();
+            assertThat(mappedSeries.getEndTime(i)).isEqualTo(tick.getEndTime());
+            assertThat(mappedSeries.getOpenPrice(i)).isEqualTo(tick.getOpenPrice());
+            assertThat(mappedSeries.getMaxPrice(i)).isEqualTo(tick.getMaxPrice());
+            assertThat(mappedSeries.getMinPrice(i)).isEqualTo(tick.getMinPrice());
+            assertThat(mappedSeries.getClosePrice(i)).isEqualTo(tick.getClosePrice());
+            assertThat(mappedSeries.getVolume(i)).isEqualTo(tick.getVolume());
+            assertThat(mappedSeries.getAmount(i)).isEqualTo(tick.getAmount());
+            assertThat(mappedSeries.getTrades(i)).isEqualTo(tick.getTrades());
+            assertThat(mappedSeries.getTick(i).toString()).isEqualTo(tick.toString());
+        }
+    }
+
+    @Test
+    public void writeSubseries() throws IOException {
+        File file = folder.newFile("subseries.ticks");
+        MappedTimeSeries.write(series.subseries(5, 9), file);
+        MappedTimeSeries mappedSeries = new MappedTimeSeries("mapped", file);
+        assertThat(mappedSeries.getSize()).isEqualTo(5);
+        assertThat(mappedSeries.getClosePrice(0)).isEqualTo(4d);
+        assertThat(mappedSeries.getTick(4).getEndTime()).isEqualTo(ticks.get(9).getEndTime());
+    }
+
+    @Test
+    public void subseriesAndRun() throws IOException {
+        File file = folder.newFile("series.ticks");
+        MappedTimeSeries.write(series, file);
+        MappedTimeSeries mappedSeries = new MappedTimeSeries("mapped", file);
+
+        TimeSeries subseries = mappedSeries.subseries(2, 6);
+        assertThat(subseries).isInstanceOf(MappedTimeSeries.class);
+        assertThat(subseries.getClosePrice(6)).isEqualTo(5d);
+
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        ClosePriceIndicator mappedClosePrice = new ClosePriceIndicator(mappedSeries);
+        Strategy strategy = new IndicatorCrossedIndicatorStrategy(new SMAIndicator(closePrice, 2), new SMAIndicator(closePrice, 5));
+        Strategy mappedStrategy = new IndicatorCrossedIndicatorStrategy(new SMAIndicator(mappedClosePrice, 2),
+                new SMAIndicator(mappedClosePrice, 5));
+        assertThat(mappedSeries.run(mappedStrategy)).isEqualTo(series.run(strategy));
+    }
+
+    @Test
+    public void emptySeries() throws IOException {
+        File file = folder.newFile("empty.ticks");
+        MappedTimeSeries.write(new TimeSeries(new ArrayList<Tick>()), file);
+        assertThat(new MappedTimeSeries("empty", file).getSize()).isEqualTo(0);
+    }
+
+    @Test(expected = IOException.class)
+    public void mappingAnotherFileShouldThrowException() throws IOException {
+        File file = folder.newFile("other.csv");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(new byte[MappedTimeSeries.HEADER_SIZE]);
+        } finally {
+            out.close();
+        }
+        new MappedTimeSeries("other", file);
+    }
+}
@@ -22,6 +22,10 @@
  */
 package eu.verdelhan.ta4j;
 
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
 import org.assertj.core.data.Offset;
 
 /**
@@ -34,4 +38,31 @@ public class TATestsUtils {
     /** Long offset for double equality checking */
     public static final Offset<Double> LONG_OFFSET = Offset.offset(0.0000000001);
 
+    /** Number of ticks of the long rising series */
+    public static final int LONG_SERIES_LENGTH = 100000;
+
+    /**
+     * @return a long series of rising ticks (tick i: open and close price i, max price i + 1, min price i - 1, volume 1)
+     */
+    public static TimeSeries longRisingSeries() {
+        List<Tick> ticks = new ArrayList<Tick>(LONG_SERIES_LENGTH);
+        for (int i = 0; i < LONG_SERIES_LENGTH; i++) {
+            ticks.add(new MockTick(null, i, i, i + 1, i - 1, 0, 1, 0));
+        }
+        return new MockTimeSeries(ticks);
+    }
+
+    /**
+     * Reads the values of an indicator one index after the other (i.e. warm access).
+     * @param indicator the indicator
+     * @param index the last index to read
+     * @return the value of the indicator at index
+     */
+    public static <T> T sequentialValue(Indicator<T> indicator, int index) {
+        for (int i = 0; i < index; i++) {
+            indicator.getValue(i);
+        }
+        return indicator.getValue(index);
+    }
+
 }
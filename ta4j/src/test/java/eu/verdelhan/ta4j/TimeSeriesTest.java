@@ -22,9 +22,17 @@
  */
 package eu.verdelhan.ta4j;
 
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
 import eu.verdelhan.ta4j.mocks.MockStrategy;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.strategies.AlwaysOperateStrategy;
+import eu.verdelhan.ta4j.strategies.AndStrategy;
+import eu.verdelhan.ta4j.strategies.CombinedBuyAndSellStrategy;
+import eu.verdelhan.ta4j.strategies.OppositeStrategy;
+import eu.verdelhan.ta4j.strategies.OrStrategy;
+import eu.verdelhan.ta4j.strategies.StopLossStrategy;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import static org.assertj.core.api.Assertions.*;
@@ -316,6 +324,65 @@ public class TimeSeriesTest {
         assertThat(trades.get(0).getExit()).isEqualTo(new Operation(3, OperationType.BUY));
     }
 
+    @Test
+    public void runSeveralStrategiesShouldMatchSeparateRuns() {
+        Operation[] enter = new Operation[] { null, new Operation(1, OperationType.BUY), null, null, null, null, null, null, null };
+        Operation[] exit = { null, null, null, new Operation(3, OperationType.SELL), null, null, null, null, null };
+        Strategy openEntryStrategy = new MockStrategy(enter, exit);
+        List<Strategy> strategies = Arrays.asList(strategy, openEntryStrategy, new AlwaysOperateStrategy());
+
+        for (TimeSeries slice : seriesForRun.split(Period.years(1))) {
+            List<List<Trade>> trades = slice.run(strategies);
+            assertThat(trades).hasSize(strategies.size());
+            for (int i = 0; i < strategies.size(); i++) {
+                assertThat(trades.get(i)).isEqualTo(slice.run(strategies.get(i)));
+            }
+        }
+
+        List<List<Trade>> sellTrades = seriesForRun.run(strategies, OperationType.SELL);
+        for (int i = 0; i < strategies.size(); i++) {
+            assertThat(sellTrades.get(i)).isEqualTo(seriesForRun.run(strategies.get(i), OperationType.SELL));
+        }
+    }
+
+    @Test
+    public void runSignalsShouldMatchRun() {
+        Operation[] enter = new Operation[] { null, new Operation(1, OperationType.BUY), null, null, null, null, null, null, null };
+        Operation[] exit = { null, null, null, new Operation(3, OperationType.SELL), null, null, null, null, null };
+        Strategy openEntryStrategy = new MockStrategy(enter, exit);
+        List<SignalStrategy> strategies = Arrays.<SignalStrategy>asList(
+                new CombinedBuyAndSellStrategy(strategy, strategy),
+                new OrStrategy(strategy, openEntryStrategy),
+                new AndStrategy(new OppositeStrategy(strategy), new AlwaysOperateStrategy()),
+                new OppositeStrategy(new OrStrategy(strategy, openEntryStrategy)));
+
+        for (SignalStrategy signalStrategy : strategies) {
+            assertThat(seriesForRun.runSignals(signalStrategy)).isEqualTo(seriesForRun.run(signalStrategy));
+            assertThat(seriesForRun.runSignals(signalStrategy, OperationType.SELL))
+                    .isEqualTo(seriesForRun.run(signalStrategy, OperationType.SELL));
+            for (TimeSeries slice : seriesForRun.split(Period.years(1))) {
+                assertThat(slice.runSignals(signalStrategy)).isEqualTo(slice.run(signalStrategy));
+            }
+        }
+    }
+
+    @Test
+    public void runSignalsOfStatefulStrategyShouldMatchRun() {
+        TimeSeries series = new MockTimeSeries(10d, 11d, 12d, 13d, 14d, 7d, 7d, 7d);
+        Operation[] enterAt0and5 = { new Operation(0, OperationType.BUY), null, null, null, null, new Operation(5, OperationType.BUY), null, null };
+        Operation[] none = new Operation[8];
+        Strategy never = new MockStrategy(none, none);
+        // The stop loss remembers the price of the last entry: its signals cannot be precomputed
+        SignalStrategy strategy = new OrStrategy(new StopLossStrategy(new ClosePriceIndicator(series), new MockStrategy(enterAt0and5, none), 20), never);
+        assertThat(strategy.isStateless()).isFalse();
+
+        List<Trade> trades = series.runSignals(strategy);
+        assertThat(trades).hasSize(1);
+        assertThat(trades.get(0).getEntry()).isEqualTo(new Operation(0, OperationType.BUY));
+        assertThat(trades.get(0).getExit()).isEqualTo(new Operation(5, OperationType.SELL));
+        assertThat(trades).isEqualTo(series.run(strategy));
+    }
+
     @Test
     public void runSplitted() {
         List<TimeSeries> subseries = seriesForRun.split(Period.years(1));
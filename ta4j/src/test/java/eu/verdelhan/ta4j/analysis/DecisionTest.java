@@ -28,6 +28,7 @@ import eu.verdelhan.ta4j.OperationType;
 import eu.verdelhan.ta4j.Strategy;
 import eu.verdelhan.ta4j.TATestsUtils;
 import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.criteria.AverageProfitCriterion;
 import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
 import eu.verdelhan.ta4j.mocks.MockStrategy;
@@ -69,6 +70,32 @@ public class DecisionTest {
         assertThat(decision.evaluateCriterion()).isEqualTo(45d / 21, TATestsUtils.LONG_OFFSET);
     }
 
+    @Test
+    public void criterionValueShouldBeMemoized() {
+        series = new MockTimeSeries(3d, 5d, 7d, 9d);
+        Operation[] buy = new Operation[] { new Operation(0, OperationType.BUY), null, null, null };
+        Operation[] sell = new Operation[] { null, null, null, new Operation(3, OperationType.SELL) };
+        Strategy fakeStrategy = new MockStrategy(buy, sell);
+
+        final int[] nbCalculations = { 0 };
+        AnalysisCriterion countingCriterion = new TotalProfitCriterion() {
+            @Override
+            public double calculate(TimeSeries series, List<Trade> trades) {
+                nbCalculations[0]++;
+                return super.calculate(series, trades);
+            }
+        };
+        Decision decision = new Decision(fakeStrategy, series, countingCriterion);
+        assertThat(decision.evaluateCriterion()).isEqualTo(3d, TATestsUtils.LONG_OFFSET);
+        assertThat(decision.evaluateCriterion()).isEqualTo(3d, TATestsUtils.LONG_OFFSET);
+        decision.toString();
+        assertThat(nbCalculations[0]).isEqualTo(1);
+
+        Decision knownDecision = new Decision(fakeStrategy, series, countingCriterion, series.run(fakeStrategy), 42d);
+        assertThat(knownDecision.evaluateCriterion()).isEqualTo(42d);
+        assertThat(nbCalculations[0]).isEqualTo(1);
+    }
+
     @Test
     public void evaluateCriterionNotSelling() {
         series = new MockTimeSeries(3d, 1d, 7d, 9d);
@@ -25,12 +25,15 @@ package eu.verdelhan.ta4j.analysis.criteria;
 import eu.verdelhan.ta4j.Operation;
 import eu.verdelhan.ta4j.OperationType;
 import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.Trade;
 import eu.verdelhan.ta4j.analysis.Decision;
 import eu.verdelhan.ta4j.mocks.MockStrategy;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import eu.verdelhan.ta4j.strategies.AlwaysOperateStrategy;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -67,6 +70,62 @@ public class AbstractAnalysisCriterionTest {
         assertThat(decision.getStrategy()).isEqualTo(buyAndHoldStrategy);
     }
 
+    @Test
+    public void chooseBestShouldRunEachStrategyOnce() {
+        MockTimeSeries series = new MockTimeSeries(6.0, 9.0, 6.0, 6.0);
+        final int[] nbRuns = { 0 };
+        Strategy countingStrategy = new AlwaysOperateStrategy() {
+            @Override
+            public boolean shouldOperate(Trade trade, int index) {
+                if (index == 0) {
+                    nbRuns[0]++;
+                }
+                return super.shouldOperate(trade, index);
+            }
+        };
+        strategies.add(0, countingStrategy);
+        Decision decision = new TotalProfitCriterion().chooseBest(series, strategies);
+        assertThat(decision.getStrategy()).isEqualTo(countingStrategy);
+        assertThat(nbRuns[0]).isEqualTo(1);
+        assertThat(decision.getTrades()).isEqualTo(series.run(alwaysStrategy));
+        assertThat(decision.evaluateCriterion()).isEqualTo(new TotalProfitCriterion().calculate(series, series.run(alwaysStrategy)));
+    }
+
+    @Test
+    public void concurrentChooseBestShouldMatchSerialOne() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            MockTimeSeries series = new MockTimeSeries(6.0, 9.0, 6.0, 6.0);
+            Decision decision = new TotalProfitCriterion().chooseBest(series, strategies, executor);
+            assertThat(decision.getStrategy()).isEqualTo(alwaysStrategy);
+            assertThat(decision.getTrades()).isEqualTo(series.run(alwaysStrategy));
+
+            series = new MockTimeSeries(6.0, 3.0, 6.0, 6.0);
+            decision = new TotalProfitCriterion().chooseBest(series, strategies, executor);
+            assertThat(decision.getStrategy()).isEqualTo(buyAndHoldStrategy);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentChooseBestShouldKeepFirstOfEqualStrategies() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            MockTimeSeries series = new MockTimeSeries(6.0, 9.0, 6.0, 6.0);
+            List<Strategy> equalStrategies = new ArrayList<Strategy>();
+            equalStrategies.add(buyAndHoldStrategy);
+            for (int i = 0; i < 20; i++) {
+                equalStrategies.add(new AlwaysOperateStrategy());
+            }
+            Decision decision = new TotalProfitCriterion().chooseBest(series, equalStrategies, executor);
+            assertThat(decision.getStrategy()).isSameAs(equalStrategies.get(1));
+            assertThat(decision.getStrategy()).isSameAs(new TotalProfitCriterion().chooseBest(series, equalStrategies).getStrategy());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void toStringMethod() {
         AbstractAnalysisCriterion c1 = new AverageProfitCriterion();
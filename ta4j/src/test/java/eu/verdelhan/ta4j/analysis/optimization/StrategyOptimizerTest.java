@@ -0,0 +1,143 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import eu.verdelhan.ta4j.strategies.IndicatorCrossedIndicatorStrategy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StrategyOptimizerTest {
+
+    private TimeSeries series;
+
+    private AtomicInteger nbSmas;
+
+    private StrategyFactory smaCrossover;
+
+    private final AnalysisCriterion totalProfit = new TotalProfitCriterion();
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        double[] prices = new double[500];
+        double price = 100;
+        for (int i = 0; i < prices.length; i++) {
+            price += random.nextDouble() - 0.5;
+            prices[i] = price;
+        }
+        series = new MockTimeSeries(prices);
+        nbSmas = new AtomicInteger();
+        smaCrossover = new StrategyFactory() {
+            @Override
+            public Strategy buildStrategy(TimeSeries series, int[] parameters, IndicatorCache cache) {
+                ClosePriceIndicator closePrice = cache.get("close");
+                if (closePrice == null) {
+                    closePrice = cache.put(new ClosePriceIndicator(series), "close");
+                }
+                return new IndicatorCrossedIndicatorStrategy(sma(cache, closePrice, parameters[0]),
+                        sma(cache, closePrice, parameters[1]));
+            }
+        };
+    }
+
+    private SMAIndicator sma(IndicatorCache cache, ClosePriceIndicator closePrice, int timeFrame) {
+        SMAIndicator sma = cache.get("sma", timeFrame);
+        if (sma == null) {
+            nbSmas.incrementAndGet();
+            sma = cache.put(new SMAIndicator(closePrice, timeFrame), "sma", timeFrame);
+        }
+        return sma;
+    }
+
+    @Test
+    public void range() {
+        assertThat(StrategyOptimizer.range(5, 20, 5)).containsExactly(5, 10, 15, 20);
+        assertThat(StrategyOptimizer.range(5, 22, 5)).containsExactly(5, 10, 15, 20);
+        assertThat(StrategyOptimizer.range(3, 3, 1)).containsExactly(3);
+    }
+
+    @Test
+    public void resultsShouldBeRankedByCriterion() {
+        int[] shortTimeFrames = StrategyOptimizer.range(2, 10, 2);
+        int[] longTimeFrames = StrategyOptimizer.range(20, 50, 10);
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, smaCrossover, shortTimeFrames, longTimeFrames);
+        List<OptimizationResult> results = optimizer.optimize(totalProfit);
+
+        assertThat(results).hasSize(shortTimeFrames.length * longTimeFrames.length);
+        for (int i = 1; i < results.size(); i++) {
+            assertThat(totalProfit.betterThan(results.get(i).getValue(), results.get(i - 1).getValue())).isFalse();
+        }
+        for (OptimizationResult result : results) {
+            Strategy strategy = new IndicatorCrossedIndicatorStrategy(
+                    new SMAIndicator(new ClosePriceIndicator(series), result.getParameter(0)),
+                    new SMAIndicator(new ClosePriceIndicator(series), result.getParameter(1)));
+            assertThat(result.getValue()).isEqualTo(totalProfit.calculate(series, series.run(strategy)));
+        }
+    }
+
+    @Test
+    public void indicatorsShouldBeSharedWithinTasks() {
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, smaCrossover,
+                StrategyOptimizer.range(2, 10, 2), StrategyOptimizer.range(20, 50, 10));
+        optimizer.optimize(totalProfit);
+        // One task per short time frame: 1 short SMA and 4 long SMAs per task
+        assertThat(nbSmas.get()).isEqualTo(5 * (1 + 4));
+    }
+
+    @Test
+    public void parallelOptimizationShouldMatchSequentialOne() {
+        StrategyOptimizer optimizer = new StrategyOptimizer(series, smaCrossover,
+                StrategyOptimizer.range(2, 20, 1), StrategyOptimizer.range(20, 100, 5));
+        List<OptimizationResult> sequentialResults = optimizer.optimize(totalProfit);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<OptimizationResult> parallelResults;
+        try {
+            parallelResults = optimizer.optimize(totalProfit, executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(parallelResults).hasSameSizeAs(sequentialResults);
+        for (int i = 0; i < sequentialResults.size(); i++) {
+            assertThat(parallelResults.get(i).getParameters()).isEqualTo(sequentialResults.get(i).getParameters());
+            assertThat(parallelResults.get(i).getValue()).isEqualTo(sequentialResults.get(i).getValue());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyParameterShouldThrowException() {
+        new StrategyOptimizer(series, smaCrossover, new int[] { 1, 2 }, new int[0]);
+    }
+}
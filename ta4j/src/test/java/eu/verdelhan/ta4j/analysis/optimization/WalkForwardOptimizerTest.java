@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.analysis.optimization;
+
+import eu.verdelhan.ta4j.AnalysisCriterion;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.analysis.criteria.TotalProfitCriterion;
+import eu.verdelhan.ta4j.indicators.IndicatorRegistry;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.strategies.IndicatorCrossedIndicatorStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WalkForwardOptimizerTest {
+
+    private TimeSeries series;
+
+    private List<Strategy> strategies;
+
+    private final AnalysisCriterion totalProfit = new TotalProfitCriterion();
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        List<Tick> ticks = new ArrayList<Tick>();
+        double price = 100;
+        for (int i = 0; i < 1000; i++) {
+            price += random.nextDouble() - 0.5;
+            ticks.add(new MockTick(date.plusHours(i), price));
+        }
+        series = new TimeSeries(ticks);
+        strategies = new ArrayList<Strategy>();
+        strategies.add(smaCrossover(series, 3, 10));
+        strategies.add(smaCrossover(series, 5, 20));
+        strategies.add(smaCrossover(series, 10, 40));
+    }
+
+    private static Strategy smaCrossover(TimeSeries series, int shortTimeFrame, int longTimeFrame) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        return new IndicatorCrossedIndicatorStrategy(new SMAIndicator(closePrice, shortTimeFrame),
+                new SMAIndicator(closePrice, longTimeFrame));
+    }
+
+    @Test
+    public void stepsShouldMatchSequentialChooseBest() {
+        WalkForwardOptimizer optimizer = new WalkForwardOptimizer(series, strategies, totalProfit);
+        List<WalkForwardStep> steps = optimizer.run(Period.days(2), Period.days(5), Period.days(1));
+
+        List<TimeSeries> slices = series.split(Period.days(2), Period.days(5));
+        assertThat(steps).hasSize(slices.size());
+        for (int j = 0; j < slices.size(); j++) {
+            TimeSeries slice = slices.get(j);
+            WalkForwardStep step = steps.get(j);
+            assertThat(step.getInSampleSeries().getBegin()).isEqualTo(slice.getBegin());
+            assertThat(step.getInSampleSeries().getEnd()).isEqualTo(slice.getEnd());
+            for (int i = 0; i < strategies.size(); i++) {
+                assertThat(step.getInSampleValue(i)).isEqualTo(totalProfit.calculate(slice, slice.run(strategies.get(i))));
+            }
+            Strategy best = totalProfit.chooseBest(slice, strategies).getStrategy();
+            assertThat(step.getInSampleDecision().getStrategy()).isSameAs(best);
+            assertThat(strategies.get(step.getBestStrategyIndex())).isSameAs(best);
+            assertThat(step.getInSampleDecision().getTrades()).isEqualTo(slice.run(best));
+
+            if (slice.getEnd() < series.getEnd()) {
+                TimeSeries outOfSample = series.subseries(slice.getEnd() + 1, Period.days(1));
+                assertThat(step.getOutOfSampleSeries().getBegin()).isEqualTo(outOfSample.getBegin());
+                assertThat(step.getOutOfSampleSeries().getEnd()).isEqualTo(outOfSample.getEnd());
+                assertThat(step.getOutOfSampleDecision().getStrategy()).isSameAs(best);
+                assertThat(step.getOutOfSampleDecision().getTrades()).isEqualTo(outOfSample.run(best));
+            } else {
+                assertThat(step.getOutOfSampleSeries()).isNull();
+                assertThat(step.getOutOfSampleDecision()).isNull();
+            }
+        }
+    }
+
+    @Test
+    public void parallelRunShouldMatchSequentialOne() {
+        List<WalkForwardStep> sequentialSteps = new WalkForwardOptimizer(series, strategies, totalProfit)
+                .run(Period.days(1), Period.days(3), Period.hours(12));
+
+        List<Strategy> otherStrategies = new ArrayList<Strategy>();
+        otherStrategies.add(smaCrossover(series, 3, 10));
+        otherStrategies.add(smaCrossover(series, 5, 20));
+        otherStrategies.add(smaCrossover(series, 10, 40));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        List<WalkForwardStep> parallelSteps;
+        try {
+            parallelSteps = new WalkForwardOptimizer(series, otherStrategies, totalProfit)
+                    .run(Period.days(1), Period.days(3), Period.hours(12), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(parallelSteps).hasSameSizeAs(sequentialSteps);
+        for (int j = 0; j < sequentialSteps.size(); j++) {
+            WalkForwardStep sequentialStep = sequentialSteps.get(j);
+            WalkForwardStep parallelStep = parallelSteps.get(j);
+            assertThat(parallelStep.getBestStrategyIndex()).isEqualTo(sequentialStep.getBestStrategyIndex());
+            assertThat(parallelStep.getInSampleDecision().evaluateCriterion())
+                    .isEqualTo(sequentialStep.getInSampleDecision().evaluateCriterion());
+            if (sequentialStep.getOutOfSampleDecision() != null) {
+                assertThat(parallelStep.getOutOfSampleDecision().evaluateCriterion())
+                        .isEqualTo(sequentialStep.getOutOfSampleDecision().evaluateCriterion());
+            }
+        }
+    }
+
+    @Test
+    public void parallelRunOfSharedIndicatorStrategiesShouldMatchSequentialOne() {
+        List<WalkForwardStep> sequentialSteps = new WalkForwardOptimizer(series, strategies, totalProfit)
+                .run(Period.days(1), Period.days(3), Period.hours(12));
+
+        // One registry per task: the strategies of a task share their close price and SMAs
+        StrategyListFactory factory = new StrategyListFactory() {
+            @Override
+            public List<Strategy> buildStrategies(TimeSeries series) {
+                IndicatorRegistry indicators = new IndicatorRegistry();
+                ClosePriceIndicator closePrice = indicators.closePrice(series);
+                List<Strategy> sharedStrategies = new ArrayList<Strategy>();
+                sharedStrategies.add(new IndicatorCrossedIndicatorStrategy(indicators.sma(closePrice, 3), indicators.sma(closePrice, 10)));
+                sharedStrategies.add(new IndicatorCrossedIndicatorStrategy(indicators.sma(closePrice, 5), indicators.sma(closePrice, 20)));
+                sharedStrategies.add(new IndicatorCrossedIndicatorStrategy(indicators.sma(closePrice, 10), indicators.sma(closePrice, 40)));
+                return sharedStrategies;
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<WalkForwardStep> parallelSteps;
+        try {
+            parallelSteps = new WalkForwardOptimizer(series, factory, totalProfit)
+                    .run(Period.days(1), Period.days(3), Period.hours(12), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(parallelSteps).hasSameSizeAs(sequentialSteps);
+        for (int j = 0; j < sequentialSteps.size(); j++) {
+            WalkForwardStep sequentialStep = sequentialSteps.get(j);
+            WalkForwardStep parallelStep = parallelSteps.get(j);
+            assertThat(parallelStep.getInSampleSeries().getBegin()).isEqualTo(sequentialStep.getInSampleSeries().getBegin());
+            for (int i = 0; i < strategies.size(); i++) {
+                assertThat(parallelStep.getInSampleValue(i)).isEqualTo(sequentialStep.getInSampleValue(i));
+            }
+            assertThat(parallelStep.getBestStrategyIndex()).isEqualTo(sequentialStep.getBestStrategyIndex());
+            assertThat(parallelStep.getInSampleDecision().getTrades()).isEqualTo(sequentialStep.getInSampleDecision().getTrades());
+            if (sequentialStep.getOutOfSampleDecision() != null) {
+                assertThat(parallelStep.getOutOfSampleDecision().getTrades())
+                        .isEqualTo(sequentialStep.getOutOfSampleDecision().getTrades());
+            } else {
+                assertThat(parallelStep.getOutOfSampleDecision()).isNull();
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noStrategyShouldThrowException() {
+        new WalkForwardOptimizer(series, new ArrayList<Strategy>(), totalProfit);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.ColumnarTimeSeries;
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.helpers.TrueRangeIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.MedianPriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.PriceVariationIndicator;
+import eu.verdelhan.ta4j.indicators.simple.SimpleMultiplierIndicator;
+import eu.verdelhan.ta4j.indicators.simple.TypicalPriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.bollingerbands.BollingerBandsLowerIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.bollingerbands.BollingerBandsMiddleIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.bollingerbands.BollingerBandsUpperIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class ArrayKernelsTest {
+
+    @Test
+    public void scalarKernelsWithoutProvider() {
+        assertThat(ArrayKernels.getInstance()).isInstanceOf(ScalarArrayKernels.class);
+    }
+
+    @Test
+    public void elementWiseIndicatorsShouldEvaluateLikeSingleValues() {
+        Random random = new Random(42);
+        List<Tick> ticks = new ArrayList<Tick>();
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        double close = 100;
+        for (int i = 0; i < 200; i++) {
+            double open = close;
+            close = open + random.nextGaussian();
+            double max = Math.max(open, close) + random.nextDouble();
+            double min = Math.min(open, close) - random.nextDouble();
+            ticks.add(new MockTick(date.plusMinutes(i), open, close, max, min, 1, 1, 1));
+        }
+        assertEvaluations(new MockTimeSeries(ticks));
+        // Prices read straight from the columns
+        assertEvaluations(new ColumnarTimeSeries(ticks));
+        assertEvaluations(new ColumnarTimeSeries(ticks).subseries(50, 150));
+    }
+
+    /**
+     * @param series a time series of 200 ticks
+     */
+    private static void assertEvaluations(TimeSeries series) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        BollingerBandsMiddleIndicator bbm = new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20));
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(closePrice, 20);
+
+        DoubleIndicator[] indicators = {
+            new SimpleMultiplierIndicator(closePrice, 1.5),
+            new MedianPriceIndicator(series),
+            new TypicalPriceIndicator(series),
+            new PriceVariationIndicator(series),
+            new TrueRangeIndicator(series),
+            bbm,
+            new BollingerBandsUpperIndicator(bbm, deviation),
+            new BollingerBandsLowerIndicator(bbm, deviation)
+        };
+        for (DoubleIndicator indicator : indicators) {
+            assertEvaluation(indicator, 0, 199);
+            assertEvaluation(indicator, 0, 0);
+            assertEvaluation(indicator, 7, 70);
+            assertEvaluation(indicator, 199, 199);
+        }
+    }
+
+    private static void assertEvaluation(DoubleIndicator indicator, int from, int to) {
+        double[] values = new double[to - from + 1];
+        indicator.evaluate(from, to, values);
+        for (int i = from; i <= to; i++) {
+            assertThat(values[i - from]).isEqualTo(indicator.getDouble(i));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.LiveTimeSeries;
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.helpers.StandardDeviationIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.EMAIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.Arrays;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class CachedDoubleIndicatorTest {
+
+    @Test
+    public void ifCacheWorks() {
+        final int[] nbCalculations = { 0 };
+        CachedDoubleIndicator indicator = new CachedDoubleIndicator() {
+            @Override
+            protected double calculate(int index) {
+                nbCalculations[0]++;
+                return index * 2d;
+            }
+        };
+        assertThat(indicator.getDouble(4)).isEqualTo(8d);
+        assertThat(indicator.getDouble(4)).isEqualTo(8d);
+        assertThat(indicator.getDouble(2)).isEqualTo(4d);
+        assertThat(nbCalculations[0]).isEqualTo(5);
+    }
+
+    @Test
+    public void increaseCapacity() {
+        double[] d = new double[500];
+        Arrays.fill(d, 10);
+        TimeSeries data = new MockTimeSeries(d);
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(data), 10);
+        assertThat(ema.getDouble(499)).isEqualTo(10d);
+        assertThat(ema.getValue(63)).isEqualTo(10d);
+        assertThat(ema.getValue(64)).isEqualTo(10d);
+    }
+
+    @Test
+    public void cacheShouldBeBoundedByLiveSeries() {
+        final int[] nbCalculations = { 0 };
+        LiveTimeSeries series = new LiveTimeSeries(100);
+        CachedDoubleIndicator indicator = new CachedDoubleIndicator(series) {
+            @Override
+            protected double calculate(int index) {
+                nbCalculations[0]++;
+                return index * 2d;
+            }
+        };
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+            assertThat(indicator.getDouble(i)).isEqualTo(i * 2d);
+        }
+        assertThat(nbCalculations[0]).isEqualTo(1000);
+        // Retained results
+        assertThat(indicator.getDouble(900)).isEqualTo(1800d);
+        assertThat(indicator.getDouble(999)).isEqualTo(1998d);
+        assertThat(nbCalculations[0]).isEqualTo(1000);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void evictedResultShouldThrowException() {
+        LiveTimeSeries series = new LiveTimeSeries(100);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        EMAIndicator ema = new EMAIndicator(closePrice, 10);
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+            ema.getDouble(i);
+        }
+        ema.getDouble(899);
+    }
+
+    @Test
+    public void indicatorCreatedAfterEvictionShouldOnlyCalculateRetainedResults() {
+        final int[] nbCalculations = { 0 };
+        LiveTimeSeries series = new LiveTimeSeries(100);
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        CachedDoubleIndicator indicator = new CachedDoubleIndicator(series) {
+            @Override
+            protected double calculate(int index) {
+                nbCalculations[0]++;
+                return index * 2d;
+            }
+        };
+        assertThat(indicator.getDouble(999)).isEqualTo(1998d);
+        assertThat(indicator.getDouble(900)).isEqualTo(1800d);
+        assertThat(nbCalculations[0]).isEqualTo(100);
+    }
+
+    @Test
+    public void evaluateShouldMatchSingleValues() {
+        double[] data = new double[300];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + Math.sin(i / 10d) * 20;
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(data));
+        CachedDoubleIndicator[] indicators = {
+            new SMAIndicator(closePrice, 14),
+            new EMAIndicator(closePrice, 14),
+            new StandardDeviationIndicator(closePrice, 14)
+        };
+        for (CachedDoubleIndicator indicator : indicators) {
+            double[] values = new double[data.length];
+            // Partly calculated, then fully calculated
+            indicator.getDouble(50);
+            indicator.evaluate(20, 299, values);
+            indicator.evaluate(0, 299, values);
+            for (int i = 0; i < data.length; i++) {
+                assertThat(values[i]).isEqualTo(indicator.getDouble(i));
+            }
+        }
+    }
+
+    @Test
+    public void evaluateShouldCopyRetainedResultsOfLiveSeries() {
+        LiveTimeSeries series = new LiveTimeSeries(100);
+        CachedDoubleIndicator indicator = new CachedDoubleIndicator(series) {
+            @Override
+            protected double calculate(int index) {
+                return index * 2d;
+            }
+        };
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        for (int i = 0; i < 250; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+            indicator.getDouble(i);
+        }
+        double[] values = new double[100];
+        indicator.evaluate(150, 249, values);
+        for (int i = 150; i < 250; i++) {
+            assertThat(values[i - 150]).isEqualTo(indicator.getDouble(i));
+        }
+        assertThat(values[0]).isEqualTo(300d);
+        assertThat(values[99]).isEqualTo(498d);
+        try {
+            indicator.evaluate(149, 249, new double[101]);
+            fail("Evicted index should throw an exception");
+        } catch (IndexOutOfBoundsException e) {
+            // Expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluateEmptyRange() {
+        new EMAIndicator(new ClosePriceIndicator(new MockTimeSeries(1d, 2d, 3d)), 2).evaluate(2, 1, new double[2]);
+    }
+
+    @Test
+    public void amendedTickShouldOnlyInvalidateLastResult() {
+        final int[] nbCalculations = { 0 };
+        final LiveTimeSeries series = new LiveTimeSeries(100);
+        CachedDoubleIndicator indicator = new CachedDoubleIndicator(series) {
+            @Override
+            protected double calculate(int index) {
+                nbCalculations[0]++;
+                return series.getClosePrice(index);
+            }
+        };
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        for (int i = 0; i < 10; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), i));
+        }
+        assertThat(indicator.getDouble(9)).isEqualTo(9d);
+        assertThat(nbCalculations[0]).isEqualTo(10);
+
+        series.replaceLastTick(new MockTick(date.plusMinutes(9), 42));
+        assertThat(indicator.getDouble(9)).isEqualTo(42d);
+        assertThat(indicator.getDouble(8)).isEqualTo(8d);
+        assertThat(nbCalculations[0]).isEqualTo(11);
+
+        // Amended, then a new tick: the amended result is recalculated too
+        series.replaceLastTick(new MockTick(date.plusMinutes(9), 43));
+        series.addTick(new MockTick(date.plusMinutes(10), 10));
+        assertThat(indicator.getDouble(10)).isEqualTo(10d);
+        assertThat(indicator.getDouble(9)).isEqualTo(43d);
+        assertThat(nbCalculations[0]).isEqualTo(13);
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.DoubleIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Test;
+
+public class DoubleIndicatorAdapterTest {
+
+    @Test
+    public void adaptIndicatorOfNumbers() {
+        DoubleIndicator adapter = DoubleIndicatorAdapter.of(new MockIndicator<Integer>(1, 2, 3));
+        assertThat(adapter.getDouble(0)).isEqualTo(1d);
+        assertThat(adapter.getDouble(2)).isEqualTo(3d);
+        assertThat(adapter.getValue(1)).isEqualTo(2d);
+    }
+
+    @Test
+    public void doubleIndicatorsAreNotWrapped() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(1, 2, 3));
+        assertThat(DoubleIndicatorAdapter.of(closePrice)).isSameAs(closePrice);
+        assertThat(closePrice.getDouble(1)).isEqualTo(closePrice.getValue(1));
+    }
+}
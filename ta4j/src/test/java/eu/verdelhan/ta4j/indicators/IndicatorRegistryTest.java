@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators;
+
+import eu.verdelhan.ta4j.TimeSeries;
+import eu.verdelhan.ta4j.indicators.oscillators.CCIIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorDIndicator;
+import eu.verdelhan.ta4j.indicators.oscillators.StochasticOscillatorKIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.MACDIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.RSIIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndicatorRegistryTest {
+
+    private TimeSeries series;
+
+    private IndicatorRegistry registry;
+
+    @Before
+    public void setUp() {
+        series = new MockTimeSeries(1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 7d, 6d, 5d, 6d, 7d, 8d, 9d, 8d);
+        registry = new IndicatorRegistry();
+    }
+
+    @Test
+    public void sameTypeAndParametersShouldGiveSameIndicator() {
+        ClosePriceIndicator closePrice = registry.closePrice(series);
+        assertThat(registry.closePrice(series)).isSameAs(closePrice);
+
+        SMAIndicator sma = registry.sma(closePrice, 3);
+        assertThat(registry.sma(registry.closePrice(series), 3)).isSameAs(sma);
+        assertThat(sma.getValue(2)).isEqualTo(2d);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void differentParametersShouldGiveDifferentIndicators() {
+        ClosePriceIndicator closePrice = registry.closePrice(series);
+        SMAIndicator sma3 = registry.sma(closePrice, 3);
+
+        assertThat(registry.sma(closePrice, 4)).isNotSameAs(sma3);
+        assertThat(registry.ema(closePrice, 3)).isNotSameAs(sma3);
+        // Inputs are compared by identity
+        assertThat(registry.sma(new ClosePriceIndicator(series), 3)).isNotSameAs(sma3);
+        assertThat(registry.closePrice(new MockTimeSeries(1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d))).isNotSameAs(closePrice);
+        assertThat(registry.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void compositeIndicatorsShouldBeBuiltFromSharedIndicators() {
+        ClosePriceIndicator closePrice = registry.closePrice(series);
+        registry.ema(closePrice, 3);
+        registry.ema(closePrice, 6);
+        MACDIndicator macd = registry.macd(closePrice, 3, 6);
+        // Only the MACD is added: its EMAs are the shared ones
+        assertThat(registry.size()).isEqualTo(4);
+        assertThat(registry.macd(closePrice, 3, 6)).isSameAs(macd);
+
+        RSIIndicator rsi = registry.rsi(closePrice, 3);
+        assertThat(registry.size()).isEqualTo(7);
+        registry.averageGain(closePrice, 3);
+        registry.averageLoss(closePrice, 3);
+        assertThat(registry.size()).isEqualTo(7);
+
+        registry.cci(series, 3);
+        registry.stochasticOscillatorD(registry.stochasticOscillatorK(series, 3));
+        // CCI, typical price, SMA and mean deviation; K, max and min prices, highest and lowest values; D and SMA of K
+        assertThat(registry.size()).isEqualTo(18);
+        registry.sma(registry.typicalPrice(series), 3);
+        registry.highestValue(registry.maxPrice(series), 3);
+        assertThat(registry.size()).isEqualTo(18);
+
+        for (int i = 0; i < series.getSize(); i++) {
+            assertThat(macd.getValue(i)).isEqualTo(new MACDIndicator(closePrice, 3, 6).getValue(i));
+            assertThat(rsi.getValue(i)).isEqualTo(new RSIIndicator(closePrice, 3).getValue(i));
+        }
+    }
+
+    @Test
+    public void compositeIndicatorsShouldMatchTheirInternallyBuiltEquivalents() {
+        CCIIndicator cci = registry.cci(series, 5);
+        StochasticOscillatorKIndicator k = registry.stochasticOscillatorK(series, 5);
+        StochasticOscillatorDIndicator d = registry.stochasticOscillatorD(k);
+        CCIIndicator expectedCci = new CCIIndicator(series, 5);
+        StochasticOscillatorKIndicator expectedK = new StochasticOscillatorKIndicator(series, 5);
+        StochasticOscillatorDIndicator expectedD = new StochasticOscillatorDIndicator(expectedK);
+        for (int i = 1; i < series.getSize(); i++) {
+            assertThat(cci.getValue(i)).isEqualTo(expectedCci.getValue(i));
+            assertThat(k.getValue(i)).isEqualTo(expectedK.getValue(i));
+            assertThat(d.getValue(i)).isEqualTo(expectedD.getValue(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void macdWithShortTimeFrameAboveLongTimeFrame() {
+        registry.macd(registry.closePrice(series), 26, 9);
+    }
+}
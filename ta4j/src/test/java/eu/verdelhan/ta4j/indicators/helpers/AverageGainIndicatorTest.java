@@ -22,9 +22,15 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.TATestsUtils;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -76,4 +82,24 @@ public class AverageGainIndicatorTest {
         AverageGainIndicator averageGain = new AverageGainIndicator(new ClosePriceIndicator(data), 10);
         assertThat(averageGain.getValue(0)).isEqualTo(0);
     }
+
+    @Test
+    public void rollingAverageGainShouldMatchWindowScan() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            ticks.add(new MockTick(100 + random.nextDouble() * 10));
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(ticks));
+        AverageGainIndicator averageGain = new AverageGainIndicator(closePrice, 14);
+        for (int i = 0; i < ticks.size(); i++) {
+            double sum = 0;
+            for (int j = Math.max(1, i - 13); j <= i; j++) {
+                if (closePrice.getDouble(j) >= closePrice.getDouble(j - 1)) {
+                    sum += closePrice.getDouble(j) - closePrice.getDouble(j - 1);
+                }
+            }
+            assertThat(averageGain.getValue(i)).isEqualTo(sum / Math.min(14, i + 1), TATestsUtils.LONG_OFFSET);
+        }
+    }
 }
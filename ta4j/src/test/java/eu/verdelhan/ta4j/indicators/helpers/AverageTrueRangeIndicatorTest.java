@@ -22,6 +22,7 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.TATestsUtils;
 import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
@@ -49,4 +50,10 @@ public class AverageTrueRangeIndicatorTest {
         assertThat(atr.getValue(4)).isEqualTo((((2d/3 + 6d/3) * 2d/3 + 9d/3) * 2d/3 + 3d/3) * 2d/3 + 15d/3);
         
     }
+
+    @Test
+    public void coldAccessOnLongSeries() {
+        AverageTrueRangeIndicator atr = new AverageTrueRangeIndicator(TATestsUtils.longRisingSeries(), 14);
+        assertThat(atr.getValue(TATestsUtils.LONG_SERIES_LENGTH - 1)).isEqualTo(2d, TATestsUtils.SHORT_OFFSET);
+    }
 }
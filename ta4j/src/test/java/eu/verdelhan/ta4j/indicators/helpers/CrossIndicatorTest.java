@@ -0,0 +1,206 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.indicators.helpers;
+
+import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.LiveTimeSeries;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.simple.ConstantIndicator;
+import eu.verdelhan.ta4j.mocks.MockIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
+import java.util.Random;
+import static org.assertj.core.api.Assertions.*;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class CrossIndicatorTest {
+
+    private final ConstantIndicator<Double> threshold = new ConstantIndicator<Double>(100d);
+
+    @Test
+    public void crossing() {
+        MockIndicator<Double> values = new MockIndicator<Double>(101d, 99d, 98d, 102d, 103d, 97d);
+        CrossIndicator crossDown = new CrossIndicator(values, threshold);
+        CrossIndicator crossUp = new CrossIndicator(threshold, values);
+
+        assertThat(crossDown.getValue(0)).isFalse();
+        assertThat(crossDown.getValue(1)).isTrue();
+        assertThat(crossDown.getValue(2)).isFalse();
+        assertThat(crossDown.getValue(5)).isTrue();
+        assertThat(crossUp.getValue(3)).isTrue();
+        assertThat(crossUp.getValue(4)).isFalse();
+    }
+
+    @Test
+    public void crossingAfterFlatStretch() {
+        MockIndicator<Double> values = new MockIndicator<Double>(101d, 102d, 100d, 100d, 100d, 99d, 100d, 100d, 98d);
+        CrossIndicator crossDown = new CrossIndicator(values, threshold);
+
+        assertThat(crossDown.getValue(5)).isTrue();
+        // Last relation before the flat stretch: below
+        assertThat(crossDown.getValue(8)).isFalse();
+    }
+
+    @Test
+    public void flatStretchFromTheFirstIndex() {
+        MockIndicator<Double> values = new MockIndicator<Double>(101d, 100d, 100d, 99d);
+        CrossIndicator crossDown = new CrossIndicator(values, threshold);
+        assertThat(crossDown.getValue(3)).isFalse();
+        assertThat(crossDown.getValue(2)).isFalse();
+        assertThat(new CrossIndicator(values, threshold).getValue(2)).isFalse();
+    }
+
+    @Test
+    public void sameValuesAsBackwardScanWhateverTheAccessOrder() {
+        Random random = new Random(42);
+        Double[] values = new Double[2000];
+        for (int i = 0; i < values.length; i++) {
+            // Long flat stretches on the threshold
+            values[i] = (random.nextInt(10) < 7) ? 100d : 95d + random.nextInt(11);
+        }
+        values[1000] = Double.NaN;
+        MockIndicator<Double> indicator = new MockIndicator<Double>(values);
+
+        CrossIndicator sequentialDown = new CrossIndicator(indicator, threshold);
+        CrossIndicator sequentialUp = new CrossIndicator(threshold, indicator);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(sequentialDown.getValue(i)).isEqualTo(crossedDown(indicator, threshold, i));
+            assertThat(sequentialUp.getValue(i)).isEqualTo(crossedDown(threshold, indicator, i));
+        }
+
+        CrossIndicator randomDown = new CrossIndicator(indicator, threshold);
+        for (int n = 0; n < 5000; n++) {
+            int i = random.nextInt(values.length);
+            assertThat(randomDown.getValue(i)).isEqualTo(crossedDown(indicator, threshold, i));
+        }
+    }
+
+    @Test
+    public void sequentialCallsShouldReadEachValueOnceOverLongFlatStretch() {
+        Double[] values = new Double[100000];
+        values[0] = 100d;
+        values[1] = 101d;
+        for (int i = 2; i < values.length - 1; i++) {
+            values[i] = 100d;
+        }
+        values[values.length - 1] = 99d;
+        CountingIndicator indicator = new CountingIndicator(values);
+        CrossIndicator crossDown = new CrossIndicator(indicator, threshold);
+
+        for (int i = 0; i < values.length - 1; i++) {
+            assertThat(crossDown.getValue(i)).isFalse();
+        }
+        assertThat(crossDown.getValue(values.length - 1)).isTrue();
+        // Index 0 is not read, the one before the crossing is read twice (no backward walk through the flat stretch)
+        assertThat(indicator.count).isEqualTo(values.length);
+    }
+
+    @Test
+    public void flatStretchFromTheOldestRetainedTickOfLiveSeries() {
+        LiveTimeSeries series = new LiveTimeSeries(5);
+        double[] closePrices = { 101d, 101d, 101d, 101d, 101d, 101d, 100d, 100d, 100d, 99d };
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        for (int i = 0; i < closePrices.length; i++) {
+            series.addTick(new MockTick(date.plusMinutes(i), closePrices[i]));
+        }
+        // Ticks 0 to 4 evicted: the flat stretch starts from the oldest retained tick
+        CrossIndicator crossDown = new CrossIndicator(new ClosePriceIndicator(series), threshold);
+        assertThat(crossDown.getValue(9)).isFalse();
+        assertThat(crossDown.getValue(5)).isFalse();
+        assertThat(new CrossIndicator(new ClosePriceIndicator(series), threshold).getValue(9)).isFalse();
+    }
+
+    @Test
+    public void amendedLastTickOfLiveSeries() {
+        LiveTimeSeries series = new LiveTimeSeries(10);
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        series.addTick(new MockTick(date, 5d));
+        series.addTick(new MockTick(date.plusMinutes(1), 12d));
+        series.addTick(new MockTick(date.plusMinutes(2), 8d));
+        ConstantIndicator<Double> ten = new ConstantIndicator<Double>(10d);
+        CrossIndicator crossDown = new CrossIndicator(new ClosePriceIndicator(series), ten);
+        assertThat(crossDown.getValue(0)).isFalse();
+        assertThat(crossDown.getValue(1)).isFalse();
+        assertThat(crossDown.getValue(2)).isTrue();
+
+        series.replaceLastTick(new MockTick(date.plusMinutes(2), 10d));
+        series.addTick(new MockTick(date.plusMinutes(3), 8d));
+        assertThat(crossDown.getValue(2)).isFalse();
+        assertThat(crossDown.getValue(3)).isTrue();
+        assertThat(new CrossIndicator(new ClosePriceIndicator(series), ten).getValue(3)).isTrue();
+    }
+
+    @Test
+    public void amendedLastTickOfLiveSeriesReadSequentially() {
+        LiveTimeSeries series = new LiveTimeSeries(10);
+        DateTime date = new DateTime(2014, 6, 13, 0, 0);
+        series.addTick(new MockTick(date, 5d));
+        series.addTick(new MockTick(date.plusMinutes(1), 12d));
+        series.addTick(new MockTick(date.plusMinutes(2), 8d));
+        ConstantIndicator<Double> ten = new ConstantIndicator<Double>(10d);
+        CrossIndicator crossDown = new CrossIndicator(new ClosePriceIndicator(series), ten);
+        for (int i = 0; i <= 2; i++) {
+            crossDown.getValue(i);
+        }
+
+        series.replaceLastTick(new MockTick(date.plusMinutes(2), 10d));
+        series.addTick(new MockTick(date.plusMinutes(3), 8d));
+        assertThat(crossDown.getValue(3)).isTrue();
+    }
+
+    /**
+     * Reference implementation, walking backward through the equal values.
+     */
+    private static boolean crossedDown(Indicator<Double> up, Indicator<Double> low, int index) {
+        int i = index;
+        if (i == 0 || up.getValue(i) >= low.getValue(i)) {
+            return false;
+        }
+        i--;
+        if (up.getValue(i) > low.getValue(i)) {
+            return true;
+        }
+        while (i > 0 && up.getValue(i).doubleValue() == low.getValue(i).doubleValue()) {
+            i--;
+        }
+        return (i != 0) && (up.getValue(i) > low.getValue(i));
+    }
+
+    /**
+     * Indicator counting the reads of its values.
+     */
+    private static class CountingIndicator extends MockIndicator<Double> {
+
+        private int count;
+
+        public CountingIndicator(Double... values) {
+            super(values);
+        }
+
+        @Override
+        public Double getValue(int index) {
+            count++;
+            return super.getValue(index);
+        }
+    }
+}
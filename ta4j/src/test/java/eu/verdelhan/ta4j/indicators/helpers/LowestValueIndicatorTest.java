@@ -22,9 +22,14 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,4 +77,24 @@ public class LowestValueIndicatorTest {
         LowestValueIndicator lowestValue = new LowestValueIndicator(new ClosePriceIndicator(data), 500);
         assertThat(lowestValue.getValue(12)).isEqualTo(1d);
     }
+
+    @Test
+    public void lowestValueShouldMatchWindowScan() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            ticks.add(new MockTick(random.nextInt(100)));
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(ticks));
+        LowestValueIndicator lowestValue = new LowestValueIndicator(closePrice, 50);
+        for (int i = 0; i < ticks.size(); i++) {
+            double expected = closePrice.getDouble(Math.max(0, i - 49));
+            for (int j = Math.max(0, i - 49); j <= i; j++) {
+                if (closePrice.getDouble(j) < expected) {
+                    expected = closePrice.getDouble(j);
+                }
+            }
+            assertThat(lowestValue.getValue(i)).isEqualTo(expected);
+        }
+    }
 }
@@ -22,9 +22,15 @@
  */
 package eu.verdelhan.ta4j.indicators.helpers;
 
+import eu.verdelhan.ta4j.TATestsUtils;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -80,4 +86,28 @@ public class StandardDeviationIndicatorTest {
         assertThat(sdv.getValue(9)).isEqualTo(Math.sqrt(4.5));
         assertThat(sdv.getValue(10)).isEqualTo(Math.sqrt(40.5));
     }
+
+    @Test
+    public void rollingStandardDeviationShouldMatchWindowScan() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            ticks.add(new MockTick(10000 + random.nextDouble()));
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockTimeSeries(ticks));
+        StandardDeviationIndicator sdv = new StandardDeviationIndicator(closePrice, 20);
+        for (int i = 0; i < ticks.size(); i++) {
+            int start = Math.max(0, i - 19);
+            double mean = 0;
+            for (int j = start; j <= i; j++) {
+                mean += closePrice.getDouble(j);
+            }
+            mean /= (i - start + 1);
+            double sumOfSquaredDeviations = 0;
+            for (int j = start; j <= i; j++) {
+                sumOfSquaredDeviations += Math.pow(closePrice.getDouble(j) - mean, 2.0);
+            }
+            assertThat(sdv.getValue(i)).isEqualTo(Math.sqrt(sumOfSquaredDeviations), TATestsUtils.LONG_OFFSET);
+        }
+    }
 }
@@ -27,6 +27,7 @@ import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import java.util.ArrayList;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.Before;
 import org.junit.Test;
@@ -70,4 +71,26 @@ public class CCIIndicatorTest {
             assertThat(cci.getValue(i + 19)).isEqualTo(results20to30[i], TATestsUtils.SHORT_OFFSET);
         }
     }
+
+    @Test
+    public void flatTimeFrameAfterNoisyPrices() {
+        ArrayList<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 30; i++) {
+            double price = 10000 + random.nextDouble() * 1000;
+            ticks.add(new MockTick(price, price, price, price));
+        }
+        for (int i = 0; i < 25; i++) {
+            ticks.add(new MockTick(24.37, 24.37, 24.37, 24.37));
+        }
+        MockTimeSeries flatSeries = new MockTimeSeries(ticks);
+        CCIIndicator cci = new CCIIndicator(flatSeries, 20);
+        for (int i = 0; i < flatSeries.getSize(); i++) {
+            cci.getValue(i);
+        }
+        // No deviation on a flat time frame: no signal
+        for (int i = 49; i < flatSeries.getSize(); i++) {
+            assertThat(cci.getValue(i)).isNaN();
+        }
+    }
 }
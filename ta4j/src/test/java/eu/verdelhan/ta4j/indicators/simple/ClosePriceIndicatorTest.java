@@ -45,4 +45,18 @@ public class ClosePriceIndicatorTest {
             assertThat(timeSeries.getTick(i).getClosePrice()).isEqualTo(closePrice.getValue(i));
         }
     }
+
+    @Test
+    public void evaluate() {
+        double[] values = new double[5];
+        closePrice.evaluate(3, 7, values);
+        for (int i = 3; i <= 7; i++) {
+            assertThat(values[i - 3]).isEqualTo(closePrice.getDouble(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluateIntoTooShortArray() {
+        closePrice.evaluate(3, 7, new double[4]);
+    }
 }
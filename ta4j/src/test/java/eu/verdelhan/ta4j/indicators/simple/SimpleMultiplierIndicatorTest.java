@@ -45,4 +45,11 @@ public class SimpleMultiplierIndicatorTest {
         assertThat(simpleMultiplier.getValue(0)).isEqualTo(25d);
         assertThat(simpleMultiplier.getValue(30)).isEqualTo(25d);
     }
+
+    @Test
+    public void evaluate() {
+        double[] values = new double[4];
+        simpleMultiplier.evaluate(2, 5, values);
+        assertThat(values).containsOnly(25d);
+    }
 }
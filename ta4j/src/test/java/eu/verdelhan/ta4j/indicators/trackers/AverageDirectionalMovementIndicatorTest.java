@@ -22,8 +22,9 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
-import eu.verdelhan.ta4j.indicators.trackers.AverageDirectionalMovementIndicator;
+import eu.verdelhan.ta4j.TATestsUtils;
 import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.indicators.trackers.AverageDirectionalMovementIndicator;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import java.util.ArrayList;
@@ -55,4 +56,10 @@ public class AverageDirectionalMovementIndicatorTest {
         assertThat(adm.getValue(2)).isEqualTo( (2d/3 + firstdm / 3) * 2d/3 + secondDm / 3);
 
     }
+
+    @Test
+    public void coldAccessOnLongSeries() {
+        AverageDirectionalMovementIndicator admi = new AverageDirectionalMovementIndicator(TATestsUtils.longRisingSeries(), 14);
+        assertThat(admi.getValue(TATestsUtils.LONG_SERIES_LENGTH - 1)).isEqualTo(100d, TATestsUtils.SHORT_OFFSET);
+    }
 }
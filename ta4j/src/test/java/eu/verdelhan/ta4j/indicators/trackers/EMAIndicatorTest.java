@@ -82,4 +82,13 @@ public class EMAIndicatorTest {
         assertThat(ema.getValue(0)).isEqualTo(64.75d);
     }
     
+
+    @Test
+    public void coldAccessOnLongSeries() {
+        TimeSeries longSeries = TATestsUtils.longRisingSeries();
+        int lastIndex = longSeries.getEnd();
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(longSeries), 10);
+        EMAIndicator warmEma = new EMAIndicator(new ClosePriceIndicator(longSeries), 10);
+        assertThat(ema.getValue(lastIndex)).isEqualTo(TATestsUtils.sequentialValue(warmEma, lastIndex));
+    }
 }
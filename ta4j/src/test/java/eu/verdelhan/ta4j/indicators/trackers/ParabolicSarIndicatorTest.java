@@ -22,7 +22,9 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.TATestsUtils;
 import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import java.util.ArrayList;
@@ -197,4 +199,15 @@ public class ParabolicSarIndicatorTest {
 //        assertThat(sar.getValue(36)).isEqualTo(9.650);
 //        assertThat(sar.getValue(37)).isEqualTo(8.970);
 //    }
-}
\ No newline at end of file
+
+    @Test
+    public void coldAccessOnLongSeries() {
+        TimeSeries longSeries = TATestsUtils.longRisingSeries();
+        int lastIndex = longSeries.getEnd();
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(longSeries, 1);
+        ParabolicSarIndicator warmSar = new ParabolicSarIndicator(longSeries, 1);
+        assertThat(sar.getValue(lastIndex)).isEqualTo(TATestsUtils.sequentialValue(warmSar, lastIndex));
+        // Rising series: the SAR sticks to the min price of two ticks before
+        assertThat(sar.getValue(lastIndex)).isEqualTo(lastIndex - 3d);
+    }
+}
@@ -22,9 +22,15 @@
  */
 package eu.verdelhan.ta4j.indicators.trackers;
 
+import eu.verdelhan.ta4j.TATestsUtils;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.TimeSeries;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.Before;
 import org.junit.Test;
@@ -71,4 +77,43 @@ public class SMAIndicatorTest {
         SMAIndicator quoteSMA = new SMAIndicator(new ClosePriceIndicator(data), 3);
         assertThat(quoteSMA.getValue(12)).isEqualTo(3d);
     }
+
+    @Test
+    public void rollingSumShouldMatchWindowSum() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            ticks.add(new MockTick(100 + random.nextDouble() * 10));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, 200);
+        for (int i = 0; i < series.getSize(); i++) {
+            double sum = 0;
+            for (int j = Math.max(0, i - 199); j <= i; j++) {
+                sum += closePrice.getDouble(j);
+            }
+            assertThat(sma.getValue(i)).isEqualTo(sum / Math.min(200, i + 1), TATestsUtils.LONG_OFFSET);
+        }
+    }
+
+    @Test
+    public void flatWindowAfterNoisyValuesShouldBeExactlyTheFlatValue() {
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 30; i++) {
+            ticks.add(new MockTick(10000 + random.nextDouble() * 1000));
+        }
+        for (int i = 0; i < 25; i++) {
+            ticks.add(new MockTick(24.37));
+        }
+        TimeSeries series = new MockTimeSeries(ticks);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        for (int i = 0; i < series.getSize(); i++) {
+            sma.getValue(i);
+        }
+        for (int i = 49; i < series.getSize(); i++) {
+            assertThat(sma.getValue(i)).isEqualTo(24.37);
+        }
+    }
 }
@@ -23,8 +23,14 @@
 package eu.verdelhan.ta4j.indicators.trackers;
 
 import eu.verdelhan.ta4j.Indicator;
+import eu.verdelhan.ta4j.TATestsUtils;
+import eu.verdelhan.ta4j.Tick;
 import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.Test;
 
@@ -70,4 +76,24 @@ public class WMAIndicatorTest {
         assertThat(wmaIndicator.getValue(5)).isEqualTo(91d/21);
     }
 
+    @Test
+    public void WMACalculateOnLongSeries()
+    {
+        List<Tick> ticks = new ArrayList<Tick>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            ticks.add(new MockTick(100 + random.nextDouble() * 10));
+        }
+        ClosePriceIndicator close = new ClosePriceIndicator(new MockTimeSeries(ticks));
+        WMAIndicator wmaIndicator = new WMAIndicator(close, 30);
+        for (int i = 0; i < ticks.size(); i++) {
+            int start = Math.max(0, i - 29);
+            double weightedSum = 0;
+            for (int j = start; j <= i; j++) {
+                weightedSum += (j - start + 1) * close.getDouble(j);
+            }
+            double nbValues = i - start + 1;
+            assertThat(wmaIndicator.getValue(i)).isEqualTo(weightedSum / (nbValues * (nbValues + 1) / 2), TATestsUtils.LONG_OFFSET);
+        }
+    }
 }
@@ -22,8 +22,9 @@
  */
 package eu.verdelhan.ta4j.indicators.volume;
 
-import eu.verdelhan.ta4j.indicators.volume.OnBalanceVolumeIndicator;
+import eu.verdelhan.ta4j.TATestsUtils;
 import eu.verdelhan.ta4j.Tick;
+import eu.verdelhan.ta4j.indicators.volume.OnBalanceVolumeIndicator;
 import eu.verdelhan.ta4j.mocks.MockTick;
 import eu.verdelhan.ta4j.mocks.MockTimeSeries;
 import java.util.ArrayList;
@@ -52,4 +53,10 @@ public class OnBalanceVolumeIndicatorTest {
         assertThat(onBalance.getValue(5)).isEqualTo(-1d);
 
     }
+
+    @Test
+    public void coldAccessOnLongSeries() {
+        OnBalanceVolumeIndicator obv = new OnBalanceVolumeIndicator(TATestsUtils.longRisingSeries());
+        assertThat(obv.getValue(TATestsUtils.LONG_SERIES_LENGTH - 1)).isEqualTo(TATestsUtils.LONG_SERIES_LENGTH - 1d);
+    }
 }
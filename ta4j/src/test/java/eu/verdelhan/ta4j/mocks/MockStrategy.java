@@ -23,9 +23,9 @@
 package eu.verdelhan.ta4j.mocks;
 
 import eu.verdelhan.ta4j.Operation;
-import eu.verdelhan.ta4j.strategies.AbstractStrategy;
+import eu.verdelhan.ta4j.strategies.AbstractSignalStrategy;
 
-public class MockStrategy extends AbstractStrategy {
+public class MockStrategy extends AbstractSignalStrategy {
 
     private Operation[] enter;
 
@@ -0,0 +1,98 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Marc de Verdelhan & respective authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package eu.verdelhan.ta4j.strategies;
+
+import eu.verdelhan.ta4j.SignalStrategy;
+import eu.verdelhan.ta4j.Strategy;
+import eu.verdelhan.ta4j.indicators.simple.ClosePriceIndicator;
+import eu.verdelhan.ta4j.indicators.trackers.SMAIndicator;
+import eu.verdelhan.ta4j.mocks.MockTimeSeries;
+import java.util.BitSet;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AbstractSignalStrategyTest {
+
+    private ClosePriceIndicator closePrice;
+
+    private SMAIndicator sma;
+
+    @Before
+    public void setUp() {
+        double[] data = new double[150];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + 10 * Math.sin(i / 5d) + (i % 7);
+        }
+        closePrice = new ClosePriceIndicator(new MockTimeSeries(data));
+        sma = new SMAIndicator(closePrice, 10);
+    }
+
+    @Test
+    public void signalsShouldMatchIndexByIndexRecommendations() {
+        Strategy crossover = new IndicatorCrossedIndicatorStrategy(closePrice, sma);
+        SignalStrategy[] strategies = {
+            new AlwaysOperateStrategy(),
+            new IndicatorOverIndicatorStrategy(closePrice, sma),
+            new SupportStrategy(closePrice, crossover, 95),
+            new ResistanceStrategy(closePrice, crossover, 110),
+            new AndStrategy(new IndicatorOverIndicatorStrategy(closePrice, sma), crossover.opposite()),
+            new OrStrategy(new SupportStrategy(closePrice, crossover, 95), new ResistanceStrategy(closePrice, crossover, 110)),
+            new OppositeStrategy(new OrStrategy(crossover, new IndicatorOverIndicatorStrategy(sma, closePrice))),
+            new CombinedBuyAndSellStrategy(new SupportStrategy(closePrice, crossover, 95), crossover)
+        };
+        for (SignalStrategy strategy : strategies) {
+            // Ranges shorter and longer than a 64-bit word, not aligned on words
+            assertSignals(strategy, 0, 149);
+            assertSignals(strategy, 3, 40);
+            assertSignals(strategy, 70, 70);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void signalsOfStatefulStrategy() {
+        Strategy stopLoss = new StopLossStrategy(closePrice, new IndicatorOverIndicatorStrategy(closePrice, sma), 5);
+        new OrStrategy(stopLoss, new AlwaysOperateStrategy()).getEnterSignals(0, 149);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void signalsOfEmptyRange() {
+        new IndicatorOverIndicatorStrategy(closePrice, sma).getEnterSignals(10, 9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void signalsOfNegativeRange() {
+        new AlwaysOperateStrategy().getExitSignals(-1, 9);
+    }
+
+    private static void assertSignals(SignalStrategy strategy, int from, int to) {
+        BitSet enterSignals = strategy.getEnterSignals(from, to);
+        BitSet exitSignals = strategy.getExitSignals(from, to);
+        assertThat(enterSignals.length()).isLessThanOrEqualTo(to - from + 1);
+        assertThat(exitSignals.length()).isLessThanOrEqualTo(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            assertThat(enterSignals.get(i - from)).isEqualTo(strategy.shouldEnter(i));
+            assertThat(exitSignals.get(i - from)).isEqualTo(strategy.shouldExit(i));
+        }
+    }
+}